@@ -0,0 +1,119 @@
+package com.udea.repository;
+
+import com.udea.domain.Materia;
+import com.udea.domain.Pensum;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Benchmark of the loading of a page of pensums with their materias, against an in-memory H2 database.
+ * <p>
+ * {@code loadPage} is the baseline; {@code loadPageAndFetchMaterias} adds the single fetch join query of
+ * {@link PensumRepositoryWithBagRelationshipsImpl#fetchMaterias(List)}, and {@code loadPageAndInitializeMaterias} the
+ * lazy initialization of each collection, batched by {@code @BatchSize}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PensumRepositoryWithBagRelationshipsBenchmark {
+
+    private static final int MATERIAS_PER_PENSUM = 10;
+
+    @Param({ "20", "200" })
+    private int pageSize;
+
+    private EmbeddedDatabase database;
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+
+    private EntityManager entityManager;
+
+    private PensumRepositoryWithBagRelationshipsImpl repository;
+
+    @Setup
+    public void setup() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+
+        Properties jpaProperties = new Properties();
+        jpaProperties.setProperty("hibernate.hbm2ddl.auto", "create");
+        jpaProperties.setProperty("hibernate.physical_naming_strategy", SpringPhysicalNamingStrategy.class.getName());
+        jpaProperties.setProperty("hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName());
+        jpaProperties.setProperty("hibernate.cache.use_second_level_cache", "false");
+        jpaProperties.setProperty("hibernate.jdbc.batch_size", "25");
+        jpaProperties.setProperty("hibernate.search.enabled", "false");
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(database);
+        entityManagerFactoryBean.setPackagesToScan("com.udea.domain");
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaProperties(jpaProperties);
+        entityManagerFactoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+
+        entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        for (long i = 0; i < pageSize; i++) {
+            Pensum pensum = new Pensum().numero(i);
+            for (long j = 0; j < MATERIAS_PER_PENSUM; j++) {
+                Materia materia = new Materia().nombre("Materia " + i + "-" + j).creditos(4L);
+                entityManager.persist(materia);
+                pensum.addMaterias(materia);
+            }
+            entityManager.persist(pensum);
+        }
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+
+        repository = new PensumRepositoryWithBagRelationshipsImpl();
+        ReflectionTestUtils.setField(repository, "entityManager", entityManager);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactoryBean.destroy();
+        database.shutdown();
+    }
+
+    @Benchmark
+    public List<Pensum> loadPage() {
+        return findPage();
+    }
+
+    @Benchmark
+    public List<Pensum> loadPageAndFetchMaterias() {
+        return repository.fetchMaterias(findPage());
+    }
+
+    @Benchmark
+    public int loadPageAndInitializeMaterias() {
+        int count = 0;
+        for (Pensum pensum : findPage()) {
+            count += pensum.getMaterias().size();
+        }
+        return count;
+    }
+
+    private List<Pensum> findPage() {
+        entityManager.clear();
+        return entityManager
+            .createQuery("select pensum from Pensum pensum order by pensum.id", Pensum.class)
+            .setMaxResults(pageSize)
+            .getResultList();
+    }
+}
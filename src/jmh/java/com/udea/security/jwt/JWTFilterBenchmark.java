@@ -0,0 +1,85 @@
+package com.udea.security.jwt;
+
+import com.udea.management.SecurityMetersService;
+import com.udea.security.AuthoritiesConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Benchmark of the authentication of a request presenting a JWT, as done by {@link JWTFilter} for every API call.
+ * <p>
+ * {@code validateThenGetAuthentication} is the former path parsing the token twice, {@code getAuthentication} a single
+ * parse, and {@code doFilter} the filter itself with the authentication cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JWTFilterBenchmark {
+
+    private static final String BASE64_SECRET =
+        "fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8";
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+    private TokenProvider tokenProvider;
+
+    private JWTFilter jwtFilter;
+
+    private String jwt;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setup() {
+        JHipsterProperties jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties.getSecurity().getAuthentication().getJwt().setBase64Secret(BASE64_SECRET);
+        tokenProvider = new TokenProvider(jHipsterProperties, new SecurityMetersService(new SimpleMeterRegistry()));
+        jwtFilter = new JWTFilter(tokenProvider);
+
+        jwt =
+            tokenProvider.createToken(
+                new UsernamePasswordAuthenticationToken(
+                    "admin",
+                    "admin",
+                    Arrays.asList(new SimpleGrantedAuthority(AuthoritiesConstants.ADMIN), new SimpleGrantedAuthority(AuthoritiesConstants.USER))
+                ),
+                true
+            );
+        request = new MockHttpServletRequest("GET", "/api/estudiantes");
+        request.addHeader(JWTFilter.AUTHORIZATION_HEADER, "Bearer " + jwt);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication validateThenGetAuthentication() {
+        return tokenProvider.validateToken(jwt) ? tokenProvider.getAuthentication(jwt) : null;
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(jwt);
+    }
+
+    @Benchmark
+    public Authentication doFilter() throws Exception {
+        jwtFilter.doFilter(request, response, NO_OP_CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,64 @@
+package com.udea.service.mapper;
+
+import com.udea.domain.Authority;
+import com.udea.domain.User;
+import com.udea.security.AuthoritiesConstants;
+import com.udea.service.dto.UserDTO;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark of the mapping of a page of users to their public DTOs, as done by {@code GET /api/users}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    @Param({ "20", "1000" })
+    private int size;
+
+    private UserMapper userMapper;
+
+    private List<User> users;
+
+    @Setup
+    public void setup() {
+        userMapper = new UserMapper();
+
+        Authority userAuthority = new Authority();
+        userAuthority.setName(AuthoritiesConstants.USER);
+        Set<Authority> authorities = new HashSet<>();
+        authorities.add(userAuthority);
+
+        users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            User user = new User();
+            user.setId((long) i);
+            user.setLogin("user-" + i);
+            user.setPassword("$2a$10$" + "x".repeat(53));
+            user.setFirstName("First" + i);
+            user.setLastName("Last" + i);
+            user.setEmail("user-" + i + "@localhost");
+            user.setActivated(true);
+            user.setLangKey("es");
+            user.setCreatedBy("system");
+            user.setCreatedDate(Instant.EPOCH);
+            user.setAuthorities(authorities);
+            users.add(user);
+        }
+    }
+
+    @Benchmark
+    public List<UserDTO> usersToUserDTOs() {
+        return userMapper.usersToUserDTOs(users);
+    }
+}
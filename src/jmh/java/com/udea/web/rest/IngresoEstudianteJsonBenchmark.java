@@ -0,0 +1,84 @@
+package com.udea.web.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.udea.config.JacksonConfiguration;
+import com.udea.domain.Carrera;
+import com.udea.domain.Estudiante;
+import com.udea.domain.IngresoEstudiante;
+import com.udea.domain.Materia;
+import com.udea.domain.Pensum;
+import com.udea.domain.Sede;
+import com.udea.domain.enumeration.Modalidad;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmark of the JSON serialization of a page of ingresoEstudiantes with their nested associations, as returned by
+ * {@code GET /api/ingreso-estudiantes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IngresoEstudianteJsonBenchmark {
+
+    @Param({ "1", "20" })
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private List<IngresoEstudiante> ingresoEstudiantes;
+
+    @Setup
+    public void setup() {
+        JacksonConfiguration jacksonConfiguration = new JacksonConfiguration();
+        objectMapper =
+            Jackson2ObjectMapperBuilder
+                .json()
+                .modules(
+                    jacksonConfiguration.javaTimeModule(),
+                    jacksonConfiguration.jdk8TimeModule(),
+                    jacksonConfiguration.hibernate5Module()
+                )
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        ingresoEstudiantes = new ArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            Pensum pensum = new Pensum().id(i).numero(2020 + i);
+            for (long j = 0; j < 10; j++) {
+                pensum.addMaterias(new Materia().id(i * 10 + j).nombre("Materia " + j).creditos(4L));
+            }
+            ingresoEstudiantes.add(
+                new IngresoEstudiante()
+                    .id(i)
+                    .fechaIngreso(Instant.EPOCH.plusSeconds(i))
+                    .estudiante(
+                        new Estudiante()
+                            .id(i)
+                            .nombre("Nombre " + i)
+                            .apellido("Apellido " + i)
+                            .fechaNacimiento(Instant.EPOCH)
+                            .correo("estudiante" + i + "@udea.edu.co")
+                            .direccion("Calle " + i)
+                    )
+                    .carrera(new Carrera().id(i).nombre("Carrera " + i).modalidad(Modalidad.PRESENCIAL))
+                    .sede(new Sede().id(i).nombre("Sede " + i).direccion("Carrera " + i))
+                    .pensum(pensum)
+            );
+        }
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ingresoEstudiantes);
+    }
+}
@@ -1,30 +1,59 @@
 package com.udea.aop.logging;
 
+import com.udea.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.annotation.AfterThrowing;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.Profiles;
+import org.springframework.util.ClassUtils;
 import tech.jhipster.config.JHipsterConstants;
 
 /**
- * Aspect for logging execution of service and repository Spring components.
- *
- * By default, it only runs with the "dev" profile.
+ * Aspect tracing the execution of service and repository Spring components.
+ * <p>
+ * Each method gets a {@code method.timed} timer, and its calls slower than {@code application.tracing.slow-call-threshold}
+ * are sampled with their arguments, at most once per {@code application.tracing.slow-call-sample-interval}. Entering and
+ * exiting are logged at {@code DEBUG} by the logger of the bean class, which the {@code loggers} actuator switches
+ * at runtime. The loggers and timers are looked up once per method.
+ * <p>
+ * It is only registered when {@code application.tracing.enabled} is set, by default with the "dev" profile, so that no
+ * proxy is created otherwise.
  */
 @Aspect
 public class LoggingAspect {
 
+    static final String TIMER_METER_NAME = "method.timed";
+
     private final Environment env;
 
-    public LoggingAspect(Environment env) {
+    private final MeterRegistry meterRegistry;
+
+    private final long slowCallThresholdNanos;
+
+    private final long slowCallSampleIntervalNanos;
+
+    private final Map<Class<?>, Map<Method, MethodTrace>> traces = new ConcurrentHashMap<>();
+
+    public LoggingAspect(Environment env, MeterRegistry meterRegistry, ApplicationProperties.Tracing tracingProperties) {
         this.env = env;
+        this.meterRegistry = meterRegistry;
+        this.slowCallThresholdNanos = tracingProperties.getSlowCallThreshold().toNanos();
+        this.slowCallSampleIntervalNanos = tracingProperties.getSlowCallSampleInterval().toNanos();
     }
 
     /**
@@ -48,64 +77,133 @@ public class LoggingAspect {
     }
 
     /**
-     * Retrieves the {@link Logger} associated to the given {@link JoinPoint}.
+     * Retrieves the {@link MethodTrace} associated to the given {@link JoinPoint}, created on its first call.
      *
-     * @param joinPoint join point we want the logger for.
-     * @return {@link Logger} associated to the given {@link JoinPoint}.
+     * @param joinPoint join point we want the trace for.
+     * @return {@link MethodTrace} associated to the given {@link JoinPoint}.
      */
-    private Logger logger(JoinPoint joinPoint) {
-        return LoggerFactory.getLogger(joinPoint.getSignature().getDeclaringTypeName());
+    private MethodTrace trace(JoinPoint joinPoint) {
+        Class<?> type = tracedType(joinPoint);
+        return traces
+            .computeIfAbsent(type, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(), method -> new MethodTrace(type, method));
     }
 
     /**
-     * Advice that logs methods throwing exceptions.
-     *
-     * @param joinPoint join point for advice.
-     * @param e exception.
+     * The class of the bean, or the repository interface of the Spring Data proxies: the methods inherited from
+     * {@code JpaRepository} are declared by the same type for all the repositories.
      */
-    @AfterThrowing(pointcut = "applicationPackagePointcut() && springBeanPointcut()", throwing = "e")
-    public void logAfterThrowing(JoinPoint joinPoint, Throwable e) {
-        if (env.acceptsProfiles(Profiles.of(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT))) {
-            logger(joinPoint)
-                .error(
-                    "Exception in {}() with cause = '{}' and exception = '{}'",
-                    joinPoint.getSignature().getName(),
-                    e.getCause() != null ? e.getCause() : "NULL",
-                    e.getMessage(),
-                    e
-                );
-        } else {
-            logger(joinPoint)
-                .error(
-                    "Exception in {}() with cause = {}",
-                    joinPoint.getSignature().getName(),
-                    e.getCause() != null ? e.getCause() : "NULL"
-                );
+    private static Class<?> tracedType(JoinPoint joinPoint) {
+        Object target = joinPoint.getTarget();
+        if (target == null) {
+            return joinPoint.getSignature().getDeclaringType();
+        }
+        if (Proxy.isProxyClass(target.getClass())) {
+            return target.getClass().getInterfaces()[0];
         }
+        return ClassUtils.getUserClass(target);
     }
 
     /**
-     * Advice that logs when a method is entered and exited.
+     * Advice that times methods, logs when they are entered and exited, and logs the slow and throwing ones.
      *
      * @param joinPoint join point for advice.
      * @return result.
-     * @throws Throwable throws {@link IllegalArgumentException}.
+     * @throws Throwable the exception thrown by the method.
      */
     @Around("applicationPackagePointcut() && springBeanPointcut()")
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
-        Logger log = logger(joinPoint);
+        MethodTrace trace = trace(joinPoint);
+        Logger log = trace.logger;
         if (log.isDebugEnabled()) {
-            log.debug("Enter: {}() with argument[s] = {}", joinPoint.getSignature().getName(), Arrays.toString(joinPoint.getArgs()));
+            log.debug("Enter: {}() with argument[s] = {}", trace.name, Arrays.toString(joinPoint.getArgs()));
         }
+        long start = System.nanoTime();
         try {
             Object result = joinPoint.proceed();
+            long duration = System.nanoTime() - start;
+            trace.timer.record(duration, TimeUnit.NANOSECONDS);
+            if (duration > slowCallThresholdNanos) {
+                sampleSlowCall(trace, joinPoint, duration);
+            }
             if (log.isDebugEnabled()) {
-                log.debug("Exit: {}() with result = {}", joinPoint.getSignature().getName(), result);
+                log.debug("Exit: {}() with result = {}", trace.name, result);
             }
             return result;
-        } catch (IllegalArgumentException e) {
-            log.error("Illegal argument: {} in {}()", Arrays.toString(joinPoint.getArgs()), joinPoint.getSignature().getName());
+        } catch (Throwable e) {
+            trace.timer(e).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            logThrowing(trace, joinPoint, e);
             throw e;
         }
     }
+
+    private void sampleSlowCall(MethodTrace trace, ProceedingJoinPoint joinPoint, long duration) {
+        long lastSample = trace.lastSlowCallSample.get();
+        if (isSampleDue(lastSample) && trace.lastSlowCallSample.compareAndSet(lastSample, System.nanoTime())) {
+            trace.logger.warn(
+                "Slow call: {}() took {} ms with argument[s] = {}",
+                trace.name,
+                TimeUnit.NANOSECONDS.toMillis(duration),
+                Arrays.toString(joinPoint.getArgs())
+            );
+        }
+    }
+
+    private boolean isSampleDue(long lastSample) {
+        return lastSample == 0 || System.nanoTime() - lastSample >= slowCallSampleIntervalNanos;
+    }
+
+    private void logThrowing(MethodTrace trace, ProceedingJoinPoint joinPoint, Throwable e) {
+        if (e instanceof IllegalArgumentException) {
+            trace.logger.error("Illegal argument: {} in {}()", Arrays.toString(joinPoint.getArgs()), trace.name);
+        }
+        if (env.acceptsProfiles(Profiles.of(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT))) {
+            trace.logger.error(
+                "Exception in {}() with cause = '{}' and exception = '{}'",
+                trace.name,
+                e.getCause() != null ? e.getCause() : "NULL",
+                e.getMessage(),
+                e
+            );
+        } else {
+            trace.logger.error("Exception in {}() with cause = {}", trace.name, e.getCause() != null ? e.getCause() : "NULL");
+        }
+    }
+
+    /**
+     * Logger, timer and slow call sampling state of a traced method.
+     */
+    private final class MethodTrace {
+
+        private final Logger logger;
+
+        private final String className;
+
+        private final String name;
+
+        private final Timer timer;
+
+        private final AtomicLong lastSlowCallSample = new AtomicLong();
+
+        private MethodTrace(Class<?> type, Method method) {
+            this.logger = LoggerFactory.getLogger(type.getName());
+            this.className = type.getSimpleName();
+            this.name = method.getName();
+            this.timer = timer("none");
+        }
+
+        private Timer timer(Throwable e) {
+            return timer(e.getClass().getSimpleName());
+        }
+
+        private Timer timer(String exception) {
+            return Timer
+                .builder(TIMER_METER_NAME)
+                .description("Time spent in the methods of the repositories, services and REST controllers")
+                .tag("class", className)
+                .tag("method", name)
+                .tag("exception", exception)
+                .register(meterRegistry);
+        }
+    }
 }
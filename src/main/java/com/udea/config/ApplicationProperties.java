@@ -1,5 +1,8 @@
 package com.udea.config;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -10,7 +13,564 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
+
+    private final Cache cache = new Cache();
+
+    private final Mail mail = new Mail();
+
+    private final Datasource datasource = new Datasource();
+
+    private final Task task = new Task();
+
+    private final Sql sql = new Sql();
+
+    private final Tracing tracing = new Tracing();
+
+    private final Rollup rollup = new Rollup();
+
+    private final Stats stats = new Stats();
+
+    private final CurriculumIndex curriculumIndex = new CurriculumIndex();
+
     // jhipster-needle-application-properties-property
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Mail getMail() {
+        return mail;
+    }
+
+    public Datasource getDatasource() {
+        return datasource;
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    public Sql getSql() {
+        return sql;
+    }
+
+    public Tracing getTracing() {
+        return tracing;
+    }
+
+    public Rollup getRollup() {
+        return rollup;
+    }
+
+    public Stats getStats() {
+        return stats;
+    }
+
+    public CurriculumIndex getCurriculumIndex() {
+        return curriculumIndex;
+    }
+
     // jhipster-needle-application-properties-property-getter
+
+    /**
+     * Per region configuration of the Ehcache caches, completing {@code jhipster.cache.ehcache}.
+     */
+    public static class Cache {
+
+        /**
+         * Directory of the disk tier, required when a region has a disk tier. Emptied when the application stops.
+         */
+        private String diskPath;
+
+        /**
+         * Whether the reference data regions are loaded at startup, before the application reports itself ready.
+         */
+        private boolean warmUpEnabled = true;
+
+        /**
+         * Configuration of the regions, by cache name. Entity regions can be named without the {@code com.udea.domain.}
+         * prefix; names containing dots must be written between brackets, for example {@code "[Pensum.materias]"}.
+         */
+        private final Map<String, Region> regions = new LinkedHashMap<>();
+
+        public String getDiskPath() {
+            return diskPath;
+        }
+
+        public void setDiskPath(String diskPath) {
+            this.diskPath = diskPath;
+        }
+
+        public boolean isWarmUpEnabled() {
+            return warmUpEnabled;
+        }
+
+        public void setWarmUpEnabled(boolean warmUpEnabled) {
+            this.warmUpEnabled = warmUpEnabled;
+        }
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public static class Region {
+
+            /**
+             * Number of entries kept on heap, {@code jhipster.cache.ehcache.max-entries} when not set.
+             */
+            private Long heapEntries;
+
+            /**
+             * Size of the off-heap tier in MB, none when 0.
+             */
+            private long offHeapMb;
+
+            /**
+             * Size of the persistent disk tier in MB, none when 0. Must be larger than the off-heap tier.
+             */
+            private long diskMb;
+
+            /**
+             * Time to live of the entries, {@code jhipster.cache.ehcache.time-to-live-seconds} when not set.
+             */
+            private Long timeToLiveSeconds;
+
+            /**
+             * Time to idle of the entries, replacing the time to live when set.
+             */
+            private Long timeToIdleSeconds;
+
+            public Long getHeapEntries() {
+                return heapEntries;
+            }
+
+            public void setHeapEntries(Long heapEntries) {
+                this.heapEntries = heapEntries;
+            }
+
+            public long getOffHeapMb() {
+                return offHeapMb;
+            }
+
+            public void setOffHeapMb(long offHeapMb) {
+                this.offHeapMb = offHeapMb;
+            }
+
+            public long getDiskMb() {
+                return diskMb;
+            }
+
+            public void setDiskMb(long diskMb) {
+                this.diskMb = diskMb;
+            }
+
+            public Long getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(Long timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+
+            public Long getTimeToIdleSeconds() {
+                return timeToIdleSeconds;
+            }
+
+            public void setTimeToIdleSeconds(Long timeToIdleSeconds) {
+                this.timeToIdleSeconds = timeToIdleSeconds;
+            }
+        }
+    }
+
+    /**
+     * Sending of the emails of the outbox, completing {@code spring.mail}.
+     */
+    public static class Mail {
+
+        /**
+         * Maximum number of emails sent over a single connection to the SMTP server.
+         */
+        private int batchSize = 50;
+
+        /**
+         * Number of attempts after which an email is marked as failed and no longer retried.
+         */
+        private int maxAttempts = 5;
+
+        /**
+         * Delay before the first retry of an email, doubled after each failed attempt.
+         */
+        private Duration retryBackoff = Duration.ofMinutes(1);
+
+        /**
+         * Delay in milliseconds between two polls of the outbox, catching up with the emails due for a retry or
+         * written by another instance.
+         */
+        private long pollIntervalMs = 30000;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getRetryBackoff() {
+            return retryBackoff;
+        }
+
+        public void setRetryBackoff(Duration retryBackoff) {
+            this.retryBackoff = retryBackoff;
+        }
+
+        public long getPollIntervalMs() {
+            return pollIntervalMs;
+        }
+
+        public void setPollIntervalMs(long pollIntervalMs) {
+            this.pollIntervalMs = pollIntervalMs;
+        }
+    }
+
+    /**
+     * Additional data sources, completing {@code spring.datasource}.
+     */
+    public static class Datasource {
+
+        private final Replica replica = new Replica();
+
+        public Replica getReplica() {
+            return replica;
+        }
+
+        /**
+         * Read replica serving the read-only transactions. Its pool copies the {@code spring.datasource.hikari}
+         * configuration of the primary one.
+         */
+        public static class Replica {
+
+            /**
+             * JDBC URL of the replica, the read-only transactions use the primary data source when not set.
+             */
+            private String url;
+
+            /**
+             * Login username of the replica, the one of the primary data source when not set.
+             */
+            private String username;
+
+            /**
+             * Login password of the replica, the one of the primary data source when not set.
+             */
+            private String password;
+
+            /**
+             * Name of the connection pool of the replica, tagging its {@code hikaricp} metrics.
+             */
+            private String poolName = "Hikari-replica";
+
+            public String getUrl() {
+                return url;
+            }
+
+            public void setUrl(String url) {
+                this.url = url;
+            }
+
+            public String getUsername() {
+                return username;
+            }
+
+            public void setUsername(String username) {
+                this.username = username;
+            }
+
+            public String getPassword() {
+                return password;
+            }
+
+            public void setPassword(String password) {
+                this.password = password;
+            }
+
+            public String getPoolName() {
+                return poolName;
+            }
+
+            public void setPoolName(String poolName) {
+                this.poolName = poolName;
+            }
+        }
+    }
+
+    /**
+     * Executors of the asynchronous tasks, completing {@code spring.task.execution}.
+     */
+    public static class Task {
+
+        /**
+         * What happens to a task submitted while the queue of the {@code taskExecutor} or {@code jobTaskExecutor} is full.
+         */
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+        /**
+         * Maximum time waiting for room in a full queue, with the {@code block} rejection policy.
+         */
+        private Duration blockTimeout = Duration.ofSeconds(5);
+
+        private final Jobs jobs = new Jobs();
+
+        public RejectionPolicy getRejectionPolicy() {
+            return rejectionPolicy;
+        }
+
+        public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+            this.rejectionPolicy = rejectionPolicy;
+        }
+
+        public Duration getBlockTimeout() {
+            return blockTimeout;
+        }
+
+        public void setBlockTimeout(Duration blockTimeout) {
+            this.blockTimeout = blockTimeout;
+        }
+
+        public Jobs getJobs() {
+            return jobs;
+        }
+
+        public enum RejectionPolicy {
+            /**
+             * Run the task on the submitting thread, slowing the producer down.
+             */
+            CALLER_RUNS,
+            /**
+             * Reject the task with a {@link java.util.concurrent.RejectedExecutionException}.
+             */
+            SHED,
+            /**
+             * Wait up to the {@code block-timeout} for room in the queue, then reject the task.
+             */
+            BLOCK,
+        }
+
+        /**
+         * The {@code jobTaskExecutor}, running the background jobs.
+         */
+        public static class Jobs {
+
+            /**
+             * Number of threads running background jobs.
+             */
+            private int poolSize = 2;
+
+            /**
+             * Number of background jobs waiting for a thread.
+             */
+            private int queueCapacity = 100;
+
+            public int getPoolSize() {
+                return poolSize;
+            }
+
+            public void setPoolSize(int poolSize) {
+                this.poolSize = poolSize;
+            }
+
+            public int getQueueCapacity() {
+                return queueCapacity;
+            }
+
+            public void setQueueCapacity(int queueCapacity) {
+                this.queueCapacity = queueCapacity;
+            }
+        }
+    }
+
+    /**
+     * Statement budgets of the HTTP requests, checked against the statements counted for the
+     * {@code http.server.requests.sql.*} metrics.
+     */
+    public static class Sql {
+
+        /**
+         * Maximum number of statements of a request, by route template. Route templates must be written between
+         * brackets, for example {@code "[/api/ingreso-estudiantes/{id}]"}.
+         */
+        private final Map<String, Integer> statementBudgets = new LinkedHashMap<>();
+
+        /**
+         * Maximum number of statements of a request whose route has no budget, unlimited when not set.
+         */
+        private Integer defaultStatementBudget;
+
+        /**
+         * Whether a request exceeding its budget fails, instead of being logged. Meant for the tests.
+         */
+        private boolean failOnBudgetExceeded;
+
+        public Map<String, Integer> getStatementBudgets() {
+            return statementBudgets;
+        }
+
+        public Integer getDefaultStatementBudget() {
+            return defaultStatementBudget;
+        }
+
+        public void setDefaultStatementBudget(Integer defaultStatementBudget) {
+            this.defaultStatementBudget = defaultStatementBudget;
+        }
+
+        public boolean isFailOnBudgetExceeded() {
+            return failOnBudgetExceeded;
+        }
+
+        public void setFailOnBudgetExceeded(boolean failOnBudgetExceeded) {
+            this.failOnBudgetExceeded = failOnBudgetExceeded;
+        }
+    }
+
+    /**
+     * Tracing of the repositories, services and REST controllers by the {@link com.udea.aop.logging.LoggingAspect}.
+     */
+    public static class Tracing {
+
+        /**
+         * Whether the methods are traced. Proxies the beans, read at startup only.
+         */
+        private boolean enabled;
+
+        /**
+         * Duration above which a call is logged with its arguments.
+         */
+        private Duration slowCallThreshold = Duration.ofMillis(500);
+
+        /**
+         * Minimum delay between two slow calls logged for the same method.
+         */
+        private Duration slowCallSampleInterval = Duration.ofSeconds(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getSlowCallThreshold() {
+            return slowCallThreshold;
+        }
+
+        public void setSlowCallThreshold(Duration slowCallThreshold) {
+            this.slowCallThreshold = slowCallThreshold;
+        }
+
+        public Duration getSlowCallSampleInterval() {
+            return slowCallSampleInterval;
+        }
+
+        public void setSlowCallSampleInterval(Duration slowCallSampleInterval) {
+            this.slowCallSampleInterval = slowCallSampleInterval;
+        }
+    }
+
+    /**
+     * Daily rollups of the admissions and readmission requests, maintained by the
+     * {@link com.udea.service.AdmissionRollupService}.
+     */
+    public static class Rollup {
+
+        /**
+         * Delay in milliseconds between two runs of the rollup job, bounding how long the rollups of a past day lag
+         * behind a write.
+         */
+        private long intervalMs = 60000;
+
+        /**
+         * Maximum number of recorded changes applied to the rollups in a single transaction.
+         */
+        private int changeBatchSize = 500;
+
+        /**
+         * Delay after midnight UTC before a day is rolled up, longer than any transaction writing to it.
+         */
+        private Duration closingDelay = Duration.ofHours(1);
+
+        public long getIntervalMs() {
+            return intervalMs;
+        }
+
+        public void setIntervalMs(long intervalMs) {
+            this.intervalMs = intervalMs;
+        }
+
+        public int getChangeBatchSize() {
+            return changeBatchSize;
+        }
+
+        public void setChangeBatchSize(int changeBatchSize) {
+            this.changeBatchSize = changeBatchSize;
+        }
+
+        public Duration getClosingDelay() {
+            return closingDelay;
+        }
+
+        public void setClosingDelay(Duration closingDelay) {
+            this.closingDelay = closingDelay;
+        }
+    }
+
+    /**
+     * In-memory enrollment statistics, held by the {@link com.udea.service.IngresoStatsService}.
+     */
+    public static class Stats {
+
+        /**
+         * Delay in milliseconds between two rebuilds of the statistics from the database, bounding how long the writes
+         * of the other instances are missing from them.
+         */
+        private long rebuildIntervalMs = 300000;
+
+        public long getRebuildIntervalMs() {
+            return rebuildIntervalMs;
+        }
+
+        public void setRebuildIntervalMs(long rebuildIntervalMs) {
+            this.rebuildIntervalMs = rebuildIntervalMs;
+        }
+    }
+
+    /**
+     * In-memory read model of the pensum to materia relationship, held by the
+     * {@link com.udea.service.CurriculumIndexService}.
+     */
+    public static class CurriculumIndex {
+
+        /**
+         * Delay in milliseconds between two rebuilds of the read model from the database, bounding how long the writes
+         * of the other instances are missing from it.
+         */
+        private long rebuildIntervalMs = 300000;
+
+        public long getRebuildIntervalMs() {
+            return rebuildIntervalMs;
+        }
+
+        public void setRebuildIntervalMs(long rebuildIntervalMs) {
+            this.rebuildIntervalMs = rebuildIntervalMs;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -1,5 +1,6 @@
 package com.udea.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,12 +10,22 @@ import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import tech.jhipster.async.ExceptionHandlingAsyncTaskExecutor;
 
+/**
+ * Named executors, one per workload so that none starves the others: {@code taskExecutor} for the {@code @Async}
+ * methods, {@code jobTaskExecutor} for the background jobs, {@code mailTaskExecutor} for the emails and
+ * {@code liquibaseTaskExecutor} for the asynchronous Liquibase startup.
+ * <p>
+ * Each one is bounded and publishes its {@code executor.*} metrics, see {@link InstrumentedThreadPoolTaskExecutor}.
+ */
 @Configuration
 @EnableAsync
 @EnableScheduling
@@ -25,15 +36,36 @@ public class AsyncConfiguration implements AsyncConfigurer {
 
     private final TaskExecutionProperties taskExecutionProperties;
 
-    public AsyncConfiguration(TaskExecutionProperties taskExecutionProperties) {
+    private final ApplicationProperties.Task taskProperties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Environment env;
+
+    public AsyncConfiguration(
+        TaskExecutionProperties taskExecutionProperties,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry,
+        Environment env
+    ) {
         this.taskExecutionProperties = taskExecutionProperties;
+        this.taskProperties = applicationProperties.getTask();
+        this.meterRegistry = meterRegistry;
+        this.env = env;
     }
 
     @Override
     @Bean(name = "taskExecutor")
     public Executor getAsyncExecutor() {
+        if (env.acceptsProfiles(Profiles.of(Constants.SPRING_PROFILE_VIRTUAL_THREADS))) {
+            log.debug("Creating Async Virtual Thread Executor");
+            // Unbounded, the tasks blocked on the database being bounded by the Hikari pool
+            return new ExceptionHandlingAsyncTaskExecutor(
+                new TaskExecutorAdapter(VirtualThreads.newThreadPerTaskExecutor(taskExecutionProperties.getThreadNamePrefix()))
+            );
+        }
         log.debug("Creating Async Task Executor");
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        ThreadPoolTaskExecutor executor = newExecutor("taskExecutor", taskProperties.getRejectionPolicy());
         executor.setCorePoolSize(taskExecutionProperties.getPool().getCoreSize());
         executor.setMaxPoolSize(taskExecutionProperties.getPool().getMaxSize());
         executor.setQueueCapacity(taskExecutionProperties.getPool().getQueueCapacity());
@@ -41,6 +73,57 @@ public class AsyncConfiguration implements AsyncConfigurer {
         return new ExceptionHandlingAsyncTaskExecutor(executor);
     }
 
+    /**
+     * Threads of the long running background jobs, such as the search mass indexing and the cache warm-up, so that
+     * they never delay the {@code @Async} methods.
+     */
+    @Bean(name = "jobTaskExecutor")
+    public Executor jobTaskExecutor() {
+        log.debug("Creating Job Task Executor");
+        ThreadPoolTaskExecutor executor = newExecutor("jobTaskExecutor", taskProperties.getRejectionPolicy());
+        executor.setCorePoolSize(taskProperties.getJobs().getPoolSize());
+        executor.setMaxPoolSize(taskProperties.getJobs().getPoolSize());
+        executor.setQueueCapacity(taskProperties.getJobs().getQueueCapacity());
+        executor.setThreadNamePrefix(taskExecutionProperties.getThreadNamePrefix() + "job-");
+        return new ExceptionHandlingAsyncTaskExecutor(executor);
+    }
+
+    /**
+     * Single thread sending the emails of the outbox, so that slow SMTP servers never hold the threads of the
+     * {@code taskExecutor}. Dispatch requests are coalesced by the {@link com.udea.service.MailOutboxDispatcher}, a
+     * single queued request is enough.
+     */
+    @Bean(name = "mailTaskExecutor")
+    public Executor mailTaskExecutor() {
+        log.debug("Creating Mail Task Executor");
+        // Shed, the dispatcher polls the outbox again when a dispatch request is rejected
+        ThreadPoolTaskExecutor executor = newExecutor("mailTaskExecutor", ApplicationProperties.Task.RejectionPolicy.SHED);
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix(taskExecutionProperties.getThreadNamePrefix() + "mail-");
+        return new ExceptionHandlingAsyncTaskExecutor(executor);
+    }
+
+    /**
+     * Single thread running the Liquibase migrations at startup, released once they are done.
+     */
+    @Bean(name = "liquibaseTaskExecutor")
+    public Executor liquibaseTaskExecutor() {
+        log.debug("Creating Liquibase Task Executor");
+        ThreadPoolTaskExecutor executor = newExecutor("liquibaseTaskExecutor", ApplicationProperties.Task.RejectionPolicy.SHED);
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix(taskExecutionProperties.getThreadNamePrefix() + "liquibase-");
+        return new ExceptionHandlingAsyncTaskExecutor(executor);
+    }
+
+    private ThreadPoolTaskExecutor newExecutor(String name, ApplicationProperties.Task.RejectionPolicy rejectionPolicy) {
+        return new InstrumentedThreadPoolTaskExecutor(meterRegistry, name, rejectionPolicy, taskProperties.getBlockTimeout());
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new SimpleAsyncUncaughtExceptionHandler();
@@ -1,11 +1,18 @@
 package com.udea.config;
 
+import java.io.File;
 import java.time.Duration;
+import javax.cache.Caching;
 import org.ehcache.config.builders.*;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.impl.config.persistence.DefaultPersistenceConfiguration;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
 import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.info.BuildProperties;
 import org.springframework.boot.info.GitProperties;
@@ -19,12 +26,17 @@ import tech.jhipster.config.cache.PrefixedKeyGenerator;
 @EnableCaching
 public class CacheConfiguration {
 
+    private static final String DOMAIN_PACKAGE_PREFIX = "com.udea.domain.";
+
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
+    private final JHipsterProperties.Cache.Ehcache ehcache;
+    private final ApplicationProperties.Cache cacheProperties;
     private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
 
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
-        JHipsterProperties.Cache.Ehcache ehcache = jHipsterProperties.getCache().getEhcache();
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
+        this.ehcache = jHipsterProperties.getCache().getEhcache();
+        this.cacheProperties = applicationProperties.getCache();
 
         jcacheConfiguration =
             Eh107Configuration.fromEhcacheCacheConfiguration(
@@ -35,41 +47,128 @@ public class CacheConfiguration {
             );
     }
 
+    /**
+     * Create the JCache manager directly from Ehcache, so that it can hold disk tiers.
+     */
+    @Bean(destroyMethod = "close")
+    public javax.cache.CacheManager jCacheCacheManager() {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        DefaultConfiguration configuration = cacheProperties.getDiskPath() == null
+            ? new DefaultConfiguration(provider.getDefaultClassLoader())
+            : new DefaultConfiguration(
+                provider.getDefaultClassLoader(),
+                new DefaultPersistenceConfiguration(new File(cacheProperties.getDiskPath()))
+            );
+        javax.cache.CacheManager cm = provider.getCacheManager(provider.getDefaultURI(), configuration);
+        try {
+            createCaches(cm);
+        } catch (RuntimeException e) {
+            cm.close();
+            throw e;
+        }
+        return cm;
+    }
+
     @Bean
     public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(javax.cache.CacheManager cacheManager) {
         return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
     }
 
-    @Bean
-    public JCacheManagerCustomizer cacheManagerCustomizer() {
-        return cm -> {
-            createCache(cm, com.udea.repository.UserRepository.USERS_BY_LOGIN_CACHE);
-            createCache(cm, com.udea.repository.UserRepository.USERS_BY_EMAIL_CACHE);
-            createCache(cm, com.udea.domain.User.class.getName());
-            createCache(cm, com.udea.domain.Authority.class.getName());
-            createCache(cm, com.udea.domain.User.class.getName() + ".authorities");
-            createCache(cm, com.udea.domain.Estudiante.class.getName());
-            createCache(cm, com.udea.domain.SolicitudReingreso.class.getName());
-            createCache(cm, com.udea.domain.DocumentoReingresoEstudiante.class.getName());
-            createCache(cm, com.udea.domain.Carrera.class.getName());
-            createCache(cm, com.udea.domain.Pensum.class.getName());
-            createCache(cm, com.udea.domain.Pensum.class.getName() + ".materias");
-            createCache(cm, com.udea.domain.Materia.class.getName());
-            createCache(cm, com.udea.domain.Materia.class.getName() + ".pensums");
-            createCache(cm, com.udea.domain.Sede.class.getName());
-            createCache(cm, com.udea.domain.IngresoEstudiante.class.getName());
-            createCache(cm, com.udea.domain.DocumentoIngresoEstudiante.class.getName());
-            // jhipster-needle-ehcache-add-entry
-        };
+    private void createCaches(javax.cache.CacheManager cm) {
+        createCache(cm, com.udea.repository.UserRepository.USERS_BY_LOGIN_CACHE);
+        createCache(cm, com.udea.repository.UserRepository.USERS_BY_EMAIL_CACHE);
+        createCache(cm, com.udea.domain.User.class.getName());
+        createCache(cm, com.udea.domain.Authority.class.getName());
+        createCache(cm, com.udea.domain.User.class.getName() + ".authorities");
+        createCache(cm, com.udea.domain.Estudiante.class.getName());
+        createCache(cm, com.udea.domain.SolicitudReingreso.class.getName());
+        createCache(cm, com.udea.domain.DocumentoReingresoEstudiante.class.getName());
+        createCache(cm, com.udea.domain.Carrera.class.getName());
+        createCache(cm, com.udea.domain.Pensum.class.getName());
+        createCache(cm, com.udea.domain.Pensum.class.getName() + ".materias");
+        createCache(cm, com.udea.domain.Materia.class.getName());
+        createCache(cm, com.udea.domain.Materia.class.getName() + ".pensums");
+        createCache(cm, com.udea.domain.Sede.class.getName());
+        createCache(cm, com.udea.domain.IngresoEstudiante.class.getName());
+        createCache(cm, com.udea.domain.DocumentoIngresoEstudiante.class.getName());
+        createCache(cm, Constants.REFERENCE_DATA_QUERY_CACHE);
+        createCache(cm, com.udea.service.ExpedienteService.EXPEDIENTES_CACHE);
+        createUpdateTimestampsCache(cm);
+        // jhipster-needle-ehcache-add-entry
     }
 
     private void createCache(javax.cache.CacheManager cm, String cacheName) {
+        createCache(cm, cacheName, jcacheConfiguration(cacheName));
+    }
+
+    /**
+     * Create the region holding the last update time of each table, against which Hibernate checks the cached query
+     * results. Its entries must never expire nor be evicted, or cached results of updated tables could be served.
+     */
+    private void createUpdateTimestampsCache(javax.cache.CacheManager cm) {
+        createCache(
+            cm,
+            RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+            Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder
+                    .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(ehcache.getMaxEntries()))
+                    .withExpiry(ExpiryPolicyBuilder.noExpiration())
+                    .build()
+            )
+        );
+    }
+
+    private void createCache(
+        javax.cache.CacheManager cm,
+        String cacheName,
+        javax.cache.configuration.Configuration<Object, Object> configuration
+    ) {
         javax.cache.Cache<Object, Object> cache = cm.getCache(cacheName);
         if (cache != null) {
             cache.clear();
         } else {
-            cm.createCache(cacheName, jcacheConfiguration);
+            cm.createCache(cacheName, configuration);
+        }
+        // Publish the hit and miss counts as cache.gets metrics, shown with their ratio by the admin metrics page
+        cm.enableStatistics(cacheName, true);
+    }
+
+    /**
+     * Build the configuration of a cache from its {@code application.cache.regions} entry, looked up by cache name and
+     * then by entity name, or return the default {@code jhipster.cache.ehcache} configuration.
+     */
+    private javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration(String cacheName) {
+        ApplicationProperties.Cache.Region region = cacheProperties.getRegions().get(cacheName);
+        if (region == null && cacheName.startsWith(DOMAIN_PACKAGE_PREFIX)) {
+            region = cacheProperties.getRegions().get(cacheName.substring(DOMAIN_PACKAGE_PREFIX.length()));
+        }
+        if (region == null) {
+            return jcacheConfiguration;
         }
+
+        ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.heap(
+            region.getHeapEntries() != null ? region.getHeapEntries() : ehcache.getMaxEntries()
+        );
+        if (region.getOffHeapMb() > 0) {
+            resourcePools = resourcePools.offheap(region.getOffHeapMb(), MemoryUnit.MB);
+        }
+        if (region.getDiskMb() > 0) {
+            if (cacheProperties.getDiskPath() == null) {
+                throw new IllegalStateException("application.cache.disk-path is required by the disk tier of the cache " + cacheName);
+            }
+            // Not persistent: the entries of a previous build, or of rows written while the node was down, are not reused
+            resourcePools = resourcePools.disk(region.getDiskMb(), MemoryUnit.MB, false);
+        }
+
+        ExpiryPolicy<Object, Object> expiry = region.getTimeToIdleSeconds() != null
+            ? ExpiryPolicyBuilder.timeToIdleExpiration(Duration.ofSeconds(region.getTimeToIdleSeconds()))
+            : ExpiryPolicyBuilder.timeToLiveExpiration(
+                Duration.ofSeconds(region.getTimeToLiveSeconds() != null ? region.getTimeToLiveSeconds() : ehcache.getTimeToLiveSeconds())
+            );
+
+        return Eh107Configuration.fromEhcacheCacheConfiguration(
+            CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, resourcePools).withExpiry(expiry).build()
+        );
     }
 
     @Autowired(required = false)
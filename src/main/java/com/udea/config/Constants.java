@@ -11,5 +11,11 @@ public final class Constants {
     public static final String SYSTEM = "system";
     public static final String DEFAULT_LANGUAGE = "es";
 
+    // Query results cache region of the reference data (carreras, sedes, materias) lists
+    public static final String REFERENCE_DATA_QUERY_CACHE = "referenceDataQueries";
+
+    // Spring profile running the servlet requests and @Async tasks on virtual threads, requires JDK 21+
+    public static final String SPRING_PROFILE_VIRTUAL_THREADS = "virtual-threads";
+
     private Constants() {}
 }
@@ -1,16 +1,85 @@
 package com.udea.config;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.util.StringUtils;
 import tech.jhipster.config.JHipsterConstants;
 
 @Configuration
 @EnableJpaRepositories({ "com.udea.repository" })
 @EnableJpaAuditing(auditorAwareRef = "springSecurityAuditorAware")
 @EnableTransactionManagement
-public class DatabaseConfiguration {}
+public class DatabaseConfiguration {
+
+    /**
+     * Data sources used when {@code application.datasource.replica.url} is set: the {@code @Transactional(readOnly = true)}
+     * paths read from the replica, everything else, including Liquibase, uses the primary. Both pools are beans, so that
+     * each one has its own {@code hikaricp} metrics, tagged by pool name.
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "application.datasource.replica", name = "url")
+    static class ReplicaDataSourceConfiguration {
+
+        private final Logger log = LoggerFactory.getLogger(ReplicaDataSourceConfiguration.class);
+
+        @Bean
+        @ConfigurationProperties(prefix = "spring.datasource.hikari")
+        public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+            return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        }
+
+        @Bean
+        public HikariDataSource replicaDataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            ApplicationProperties applicationProperties
+        ) {
+            ApplicationProperties.Datasource.Replica replica = applicationProperties.getDatasource().getReplica();
+            log.debug("Configuring the read replica {}", replica.getUrl());
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setPoolName(replica.getPoolName());
+            config.setJdbcUrl(replica.getUrl());
+            if (StringUtils.hasText(replica.getUsername())) {
+                config.setUsername(replica.getUsername());
+                config.setPassword(replica.getPassword());
+            }
+            config.setReadOnly(true);
+            return new HikariDataSource(config);
+        }
+
+        @Bean
+        @Primary
+        public DataSource dataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            @Qualifier("replicaDataSource") HikariDataSource replicaDataSource
+        ) {
+            TransactionRoutingDataSource routingDataSource = new TransactionRoutingDataSource();
+            routingDataSource.setTargetDataSources(
+                Map.<Object, Object>of(
+                    TransactionRoutingDataSource.Route.PRIMARY,
+                    primaryDataSource,
+                    TransactionRoutingDataSource.Route.REPLICA,
+                    replicaDataSource
+                )
+            );
+            routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+            routingDataSource.afterPropertiesSet();
+            return new LazyConnectionDataSourceProxy(routingDataSource);
+        }
+    }
+}
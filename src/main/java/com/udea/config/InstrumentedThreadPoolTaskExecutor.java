@@ -0,0 +1,108 @@
+package com.udea.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * {@link ThreadPoolTaskExecutor} publishing its Micrometer metrics, tagged with its {@code name}:
+ * <ul>
+ *     <li>the {@code executor.active}, {@code executor.queued}, {@code executor.pool.size} and {@code executor.completed}
+ *     meters of the {@link ExecutorServiceMetrics};</li>
+ *     <li>the {@code executor.idle} and {@code executor} timers, of the time each task waited in the queue and ran;</li>
+ *     <li>the {@code executor.rejected} counter, of the tasks submitted while the queue was full.</li>
+ * </ul>
+ * What happens to a task submitted while the queue is full depends on its {@link ApplicationProperties.Task.RejectionPolicy}.
+ */
+class InstrumentedThreadPoolTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient MeterRegistry meterRegistry;
+
+    private final String name;
+
+    private final ApplicationProperties.Task.RejectionPolicy rejectionPolicy;
+
+    private final Duration blockTimeout;
+
+    InstrumentedThreadPoolTaskExecutor(
+        MeterRegistry meterRegistry,
+        String name,
+        ApplicationProperties.Task.RejectionPolicy rejectionPolicy,
+        Duration blockTimeout
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.name = name;
+        this.rejectionPolicy = rejectionPolicy;
+        this.blockTimeout = blockTimeout;
+        Timer waitTimer = Timer.builder("executor.idle").tag("name", name).register(meterRegistry);
+        Timer runTimer = Timer.builder("executor").tag("name", name).register(meterRegistry);
+        setTaskDecorator(task -> {
+            long submitted = System.nanoTime();
+            return () -> {
+                long started = System.nanoTime();
+                waitTimer.record(started - submitted, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    runTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                }
+            };
+        });
+    }
+
+    @Override
+    protected ExecutorService initializeExecutor(ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+        Counter rejected = Counter
+            .builder("executor.rejected")
+            .tag("name", name)
+            .tag("policy", rejectionPolicy.name())
+            .register(meterRegistry);
+        ExecutorService executor = super.initializeExecutor(threadFactory, rejectionHandler(rejected));
+        new ExecutorServiceMetrics(executor, name, Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+
+    private RejectedExecutionHandler rejectionHandler(Counter rejected) {
+        switch (rejectionPolicy) {
+            case CALLER_RUNS:
+                return (task, executor) -> {
+                    rejected.increment();
+                    new ThreadPoolExecutor.CallerRunsPolicy().rejectedExecution(task, executor);
+                };
+            case BLOCK:
+                return (task, executor) -> {
+                    if (!executor.isShutdown() && offer(executor, task)) {
+                        return;
+                    }
+                    rejected.increment();
+                    throw new RejectedExecutionException("Queue of executor '" + name + "' still full after " + blockTimeout);
+                };
+            default:
+                return (task, executor) -> {
+                    rejected.increment();
+                    throw new RejectedExecutionException("Queue of executor '" + name + "' is full, task shed");
+                };
+        }
+    }
+
+    private boolean offer(ThreadPoolExecutor executor, Runnable task) {
+        try {
+            return executor.getQueue().offer(task, blockTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.udea.config;
+
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.es.SpanishLightStemFilterFactory;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.analysis.ngram.EdgeNGramFilterFactory;
+import org.apache.lucene.analysis.standard.StandardTokenizerFactory;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurationContext;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
+
+/**
+ * Define the analyzers of the full-text indexes, referenced by name from the {@code @FullTextField} mappings of the
+ * domain.
+ * <p>
+ * Registered through the {@code hibernate.search.backend.analysis.configurer} property.
+ */
+public class SearchAnalysisConfigurer implements LuceneAnalysisConfigurer {
+
+    /**
+     * Indexes every prefix of each word, so that partial names match.
+     */
+    public static final String NAME = "name";
+
+    /**
+     * Searches whole words against the prefixes indexed by {@link #NAME}.
+     */
+    public static final String NAME_SEARCH = "name_search";
+
+    /**
+     * Indexes and searches free Spanish text, ignoring accents and plurals.
+     */
+    public static final String TEXT = "text";
+
+    @Override
+    public void configure(LuceneAnalysisConfigurationContext context) {
+        context
+            .analyzer(NAME)
+            .custom()
+            .tokenizer(StandardTokenizerFactory.class)
+            .tokenFilter(LowerCaseFilterFactory.class)
+            .tokenFilter(ASCIIFoldingFilterFactory.class)
+            .tokenFilter(EdgeNGramFilterFactory.class)
+            .param("minGramSize", "1")
+            .param("maxGramSize", "20");
+
+        context
+            .analyzer(NAME_SEARCH)
+            .custom()
+            .tokenizer(StandardTokenizerFactory.class)
+            .tokenFilter(LowerCaseFilterFactory.class)
+            .tokenFilter(ASCIIFoldingFilterFactory.class);
+
+        context
+            .analyzer(TEXT)
+            .custom()
+            .tokenizer(StandardTokenizerFactory.class)
+            .tokenFilter(LowerCaseFilterFactory.class)
+            .tokenFilter(ASCIIFoldingFilterFactory.class)
+            .tokenFilter(SpanishLightStemFilterFactory.class);
+    }
+}
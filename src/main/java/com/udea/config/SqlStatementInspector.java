@@ -0,0 +1,17 @@
+package com.udea.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the statements prepared by Hibernate for the request being recorded, leaving them unchanged.
+ */
+class SqlStatementInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementRecorder.statementPrepared();
+        return sql;
+    }
+}
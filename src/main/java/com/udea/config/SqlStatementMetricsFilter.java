@@ -0,0 +1,117 @@
+package com.udea.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Publishes the SQL work of each request, tagged like {@code http.server.requests} with its method and route template:
+ * <ul>
+ *     <li>{@code http.server.requests.sql.statements}, the number of statements prepared by Hibernate;</li>
+ *     <li>{@code http.server.requests.sql.entities}, the number of entities loaded, from the database or the second
+ *     level cache;</li>
+ *     <li>{@code http.server.requests.sql.time}, the time spent executing the statements.</li>
+ * </ul>
+ * Requests exceeding the statement budget of their route are logged, or fail when
+ * {@code application.sql.fail-on-budget-exceeded} is set. Statements run on other threads, such as the asynchronous
+ * writes of a {@code StreamingResponseBody}, are not counted.
+ */
+class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_METER_NAME = "http.server.requests.sql.statements";
+
+    static final String ENTITIES_METER_NAME = "http.server.requests.sql.entities";
+
+    static final String TIME_METER_NAME = "http.server.requests.sql.time";
+
+    private final Logger log = LoggerFactory.getLogger(SqlStatementMetricsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+
+    private final ApplicationProperties.Sql sqlProperties;
+
+    SqlStatementMetricsFilter(MeterRegistry meterRegistry, ApplicationProperties.Sql sqlProperties) {
+        this.meterRegistry = meterRegistry;
+        this.sqlProperties = sqlProperties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.start();
+        if (recording == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String route;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementRecorder.stop();
+            route = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (route != null) {
+                record(Tags.of("method", request.getMethod(), "uri", route), recording);
+            }
+        }
+        if (route != null) {
+            checkBudget(request.getMethod(), route, recording);
+        }
+    }
+
+    private void record(Tags tags, SqlStatementRecorder.Recording recording) {
+        DistributionSummary
+            .builder(STATEMENTS_METER_NAME)
+            .description("Number of SQL statements prepared by a request")
+            .baseUnit("statements")
+            .tags(tags)
+            .publishPercentileHistogram()
+            .maximumExpectedValue(1000.0)
+            .register(meterRegistry)
+            .record(recording.getStatements());
+        DistributionSummary
+            .builder(ENTITIES_METER_NAME)
+            .description("Number of entities loaded by a request")
+            .baseUnit("entities")
+            .tags(tags)
+            .publishPercentileHistogram()
+            .maximumExpectedValue(10000.0)
+            .register(meterRegistry)
+            .record(recording.getEntities());
+        Timer
+            .builder(TIME_METER_NAME)
+            .description("Time spent executing the SQL statements of a request")
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(recording.getJdbcNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void checkBudget(String method, String route, SqlStatementRecorder.Recording recording) {
+        Integer budget = sqlProperties.getStatementBudgets().getOrDefault(route, sqlProperties.getDefaultStatementBudget());
+        if (budget == null || recording.getStatements() <= budget) {
+            return;
+        }
+        String message = String.format(
+            "%s %s prepared %d SQL statements, exceeding its budget of %d",
+            method,
+            route,
+            recording.getStatements(),
+            budget
+        );
+        if (sqlProperties.isFailOnBudgetExceeded()) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+}
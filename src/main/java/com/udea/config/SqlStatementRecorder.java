@@ -0,0 +1,72 @@
+package com.udea.config;
+
+/**
+ * Recording of the SQL work of the current thread, fed by the {@link SqlStatementInspector} and the
+ * {@link SqlStatementSessionEventListener} while a {@link SqlStatementMetricsFilter} records a request.
+ */
+final class SqlStatementRecorder {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementRecorder() {}
+
+    /**
+     * Start recording on the current thread.
+     *
+     * @return the recording, or {@code null} if one is already started by an enclosing request.
+     */
+    static Recording start() {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        Recording recording = new Recording();
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    static void statementPrepared() {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.entities++;
+        }
+    }
+
+    static void jdbcExecuted(long nanos) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.jdbcNanos += nanos;
+        }
+    }
+
+    static final class Recording {
+
+        private int statements;
+
+        private long entities;
+
+        private long jdbcNanos;
+
+        int getStatements() {
+            return statements;
+        }
+
+        long getEntities() {
+            return entities;
+        }
+
+        long getJdbcNanos() {
+            return jdbcNanos;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.udea.config;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Measures the time spent executing JDBC statements and batches for the request being recorded. Instantiated by
+ * Hibernate for each session, see {@link SqlStatementMetricsConfiguration}.
+ */
+public class SqlStatementSessionEventListener extends BaseSessionEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementRecorder.jdbcExecuted(System.nanoTime() - executionStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementRecorder.jdbcExecuted(System.nanoTime() - executionStart);
+    }
+}
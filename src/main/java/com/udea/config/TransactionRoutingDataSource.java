@@ -0,0 +1,25 @@
+package com.udea.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Data source sending the read-only transactions to the replica, and everything else to the primary.
+ * <p>
+ * The read-only flag of a transaction is only exposed once it has begun, after the JPA transaction manager asked for a
+ * connection: this data source must be wrapped into a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, so that the target is chosen when the first
+ * statement is executed.
+ */
+class TransactionRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY,
+        REPLICA,
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+    }
+}
@@ -0,0 +1,51 @@
+package com.udea.config;
+
+import java.util.concurrent.ExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Runs the servlet requests on virtual threads instead of the Undertow worker pool, see
+ * {@link AsyncConfiguration} for the {@code @Async} tasks.
+ * <p>
+ * Requests blocked on MySQL no longer hold a platform thread, the profile replacing the driver by Connector/J 9 whose
+ * I/O is not done in {@code synchronized} blocks, so the number of requests in flight is no longer bounded by the worker
+ * pool: the Hikari pool ({@code spring.datasource.hikari.maximum-pool-size}) becomes the real concurrency limit, requests
+ * waiting at most {@code spring.datasource.hikari.connection-timeout} for a connection. Blocking calls made in
+ * {@code synchronized} code, like the sends of the mail transport, still pin their carrier thread: they are reported
+ * with {@code -Djdk.tracePinnedThreads=short}.
+ */
+@Configuration
+@Profile(Constants.SPRING_PROFILE_VIRTUAL_THREADS)
+public class VirtualThreadConfiguration {
+
+    private final Logger log = LoggerFactory.getLogger(VirtualThreadConfiguration.class);
+
+    @Bean(name = "servletVirtualThreadExecutor")
+    public ExecutorService servletVirtualThreadExecutor() {
+        log.debug("Creating Servlet Virtual Thread Executor");
+        return VirtualThreads.newThreadPerTaskExecutor("undertow-vt-");
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadUndertowCustomizer(
+        @Qualifier("servletVirtualThreadExecutor") ExecutorService servletVirtualThreadExecutor,
+        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize
+    ) {
+        log.info(
+            "Servlet requests run on virtual threads, database concurrency is bounded by the Hikari pool of {} connections",
+            maximumPoolSize
+        );
+        return factory ->
+            factory.addDeploymentInfoCustomizers(deploymentInfo ->
+                deploymentInfo.setExecutor(servletVirtualThreadExecutor).setAsyncExecutor(servletVirtualThreadExecutor)
+            );
+    }
+}
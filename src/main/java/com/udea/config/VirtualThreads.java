@@ -0,0 +1,39 @@
+package com.udea.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factory of the virtual thread executors of the {@link Constants#SPRING_PROFILE_VIRTUAL_THREADS} profile.
+ * <p>
+ * The application is compiled for Java 11, so the JDK 21 API is looked up reflectively: the same artifact runs on
+ * platform threads on older JDKs.
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {}
+
+    /**
+     * Create an executor starting a new named virtual thread for each task.
+     *
+     * @param namePrefix the prefix of the thread names, followed by a counter.
+     * @return the executor.
+     * @throws IllegalStateException if the JDK does not support virtual threads.
+     */
+    static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(
+                "The '" + Constants.SPRING_PROFILE_VIRTUAL_THREADS + "' profile requires JDK 21+, running on " + Runtime.version(),
+                e
+            );
+        }
+    }
+}
@@ -22,6 +22,10 @@ public class Carrera implements Serializable {
     @Column(name = "id")
     private Long id;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "nombre")
     private String nombre;
 
@@ -44,6 +48,19 @@ public class Carrera implements Serializable {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public Carrera version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getNombre() {
         return this.nombre;
     }
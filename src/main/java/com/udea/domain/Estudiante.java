@@ -1,10 +1,13 @@
 package com.udea.domain;
 
+import com.udea.config.SearchAnalysisConfigurer;
 import java.io.Serializable;
 import java.time.Instant;
 import javax.persistence.*;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
 
 /**
  * A Estudiante.
@@ -12,6 +15,7 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Entity
 @Table(name = "estudiante")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Indexed
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Estudiante implements Serializable {
 
@@ -22,16 +26,23 @@ public class Estudiante implements Serializable {
     @Column(name = "id")
     private Long id;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "nombre")
+    @FullTextField(analyzer = SearchAnalysisConfigurer.NAME, searchAnalyzer = SearchAnalysisConfigurer.NAME_SEARCH)
     private String nombre;
 
     @Column(name = "apellido")
+    @FullTextField(analyzer = SearchAnalysisConfigurer.NAME, searchAnalyzer = SearchAnalysisConfigurer.NAME_SEARCH)
     private String apellido;
 
     @Column(name = "fecha_nacimiento")
     private Instant fechaNacimiento;
 
     @Column(name = "correo")
+    @FullTextField(analyzer = SearchAnalysisConfigurer.NAME, searchAnalyzer = SearchAnalysisConfigurer.NAME_SEARCH)
     private String correo;
 
     @Column(name = "direccion")
@@ -52,6 +63,19 @@ public class Estudiante implements Serializable {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public Estudiante version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getNombre() {
         return this.nombre;
     }
@@ -1,10 +1,13 @@
 package com.udea.domain;
 
+import com.udea.config.SearchAnalysisConfigurer;
 import java.io.Serializable;
 import java.time.Instant;
 import javax.persistence.*;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
 
 /**
  * A SolicitudReingreso.
@@ -12,6 +15,7 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Entity
 @Table(name = "solicitud_reingreso")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Indexed
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class SolicitudReingreso implements Serializable {
 
@@ -26,6 +30,7 @@ public class SolicitudReingreso implements Serializable {
     private Instant fechaSolicitud;
 
     @Column(name = "motivo")
+    @FullTextField(analyzer = SearchAnalysisConfigurer.TEXT)
     private String motivo;
 
     @OneToOne
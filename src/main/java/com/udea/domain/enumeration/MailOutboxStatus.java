@@ -0,0 +1,9 @@
+package com.udea.domain.enumeration;
+
+/**
+ * The MailOutboxStatus enumeration.
+ */
+public enum MailOutboxStatus {
+    PENDING,
+    FAILED,
+}
@@ -1,12 +1,31 @@
 package com.udea.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
+import com.udea.config.Constants;
 import com.udea.domain.Carrera;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
 /**
  * Spring Data JPA repository for the Carrera entity.
+ * <p>
+ * The list is read far more often than it changes, so its results are kept in the query cache: Hibernate discards them
+ * whenever the table is written.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface CarreraRepository extends JpaRepository<Carrera, Long> {}
+public interface CarreraRepository extends JpaRepository<Carrera, Long> {
+    @Override
+    @QueryHints(
+        {
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = Constants.REFERENCE_DATA_QUERY_CACHE),
+        }
+    )
+    Page<Carrera> findAll(Pageable pageable);
+}
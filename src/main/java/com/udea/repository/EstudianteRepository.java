@@ -1,6 +1,13 @@
 package com.udea.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 import com.udea.domain.Estudiante;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +16,27 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface EstudianteRepository extends JpaRepository<Estudiante, Long> {}
+public interface EstudianteRepository extends JpaRepository<Estudiante, Long>, JpaSpecificationExecutor<Estudiante> {
+    /**
+     * JDBC fetch size asking MySQL Connector/J to stream rows one by one instead of buffering the whole result set.
+     */
+    String STREAM_FETCH_SIZE = "" + Integer.MIN_VALUE;
+
+    /**
+     * Streams all the estudiantes, without loading them into the second level cache.
+     * <p>
+     * Must be called inside a transaction, and the stream must be closed once consumed.
+     *
+     * @return the stream of estudiantes ordered by id.
+     */
+    @QueryHints(
+        {
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HINT_CACHE_MODE, value = "IGNORE"),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+        }
+    )
+    @Query("select estudiante from Estudiante estudiante order by estudiante.id")
+    Stream<Estudiante> streamAll();
+}
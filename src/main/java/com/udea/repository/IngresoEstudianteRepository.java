@@ -1,7 +1,14 @@
 package com.udea.repository;
 
 import com.udea.domain.IngresoEstudiante;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +16,50 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface IngresoEstudianteRepository extends JpaRepository<IngresoEstudiante, Long> {}
+public interface IngresoEstudianteRepository extends JpaRepository<IngresoEstudiante, Long> {
+    default Optional<IngresoEstudiante> findOneWithEagerRelationships(Long id) {
+        return this.findOneWithToOneRelationships(id);
+    }
+
+    default Page<IngresoEstudiante> findAllWithEagerRelationships(Pageable pageable) {
+        return this.findAllWithToOneRelationships(pageable);
+    }
+
+    @Query(
+        value = "select ingresoEstudiante from IngresoEstudiante ingresoEstudiante left join fetch ingresoEstudiante.estudiante left join fetch ingresoEstudiante.carrera left join fetch ingresoEstudiante.sede left join fetch ingresoEstudiante.pensum",
+        countQuery = "select count(ingresoEstudiante) from IngresoEstudiante ingresoEstudiante"
+    )
+    Page<IngresoEstudiante> findAllWithToOneRelationships(Pageable pageable);
+
+    @Query(
+        "select ingresoEstudiante from IngresoEstudiante ingresoEstudiante left join fetch ingresoEstudiante.estudiante left join fetch ingresoEstudiante.carrera left join fetch ingresoEstudiante.sede left join fetch ingresoEstudiante.pensum where ingresoEstudiante.id =:id"
+    )
+    Optional<IngresoEstudiante> findOneWithToOneRelationships(@Param("id") Long id);
+
+    /**
+     * Keyset pagination: reads the next slice of ingresoEstudiantes strictly after the given id, walking the primary key index.
+     * Being a {@link Slice}, no {@code count(*)} is issued; the slice fetches one extra row to know if there is a next one.
+     *
+     * @param after the last id returned by the previous slice ({@code 0} for the first slice).
+     * @param pageable the slice size, its page number and sort are ignored.
+     * @return the slice of ingresoEstudiantes, with their to-one relationships.
+     */
+    @Query(
+        "select ingresoEstudiante from IngresoEstudiante ingresoEstudiante left join fetch ingresoEstudiante.estudiante left join fetch ingresoEstudiante.carrera left join fetch ingresoEstudiante.sede left join fetch ingresoEstudiante.pensum where ingresoEstudiante.id > :after order by ingresoEstudiante.id asc"
+    )
+    Slice<IngresoEstudiante> findAllByIdAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query(
+        "select ingresoEstudiante.estudiante.id from IngresoEstudiante ingresoEstudiante where ingresoEstudiante.estudiante.id in :ids"
+    )
+    Set<Long> findUsedEstudianteIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select ingresoEstudiante.carrera.id from IngresoEstudiante ingresoEstudiante where ingresoEstudiante.carrera.id in :ids")
+    Set<Long> findUsedCarreraIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select ingresoEstudiante.sede.id from IngresoEstudiante ingresoEstudiante where ingresoEstudiante.sede.id in :ids")
+    Set<Long> findUsedSedeIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select ingresoEstudiante.pensum.id from IngresoEstudiante ingresoEstudiante where ingresoEstudiante.pensum.id in :ids")
+    Set<Long> findUsedPensumIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,30 @@
+package com.udea.repository;
+
+import com.udea.domain.MailOutboxMessage;
+import com.udea.domain.enumeration.MailOutboxStatus;
+import java.time.Instant;
+import java.util.List;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.hibernate.LockOptions;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the {@link MailOutboxMessage} entity.
+ */
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutboxMessage, Long> {
+    /**
+     * Lock the messages due for sending, oldest first. The rows already locked by another instance are skipped when the
+     * dialect supports {@code SKIP LOCKED}, and waited for otherwise.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "" + LockOptions.SKIP_LOCKED))
+    @Query(
+        "select message from MailOutboxMessage message where message.status = :status and message.nextAttemptAt <= :now order by message.id"
+    )
+    List<MailOutboxMessage> findDueForUpdate(@Param("status") MailOutboxStatus status, @Param("now") Instant now, Pageable pageable);
+}
@@ -1,12 +1,29 @@
 package com.udea.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
+import com.udea.config.Constants;
 import com.udea.domain.Materia;
+import java.util.List;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
 /**
  * Spring Data JPA repository for the Materia entity.
+ * <p>
+ * The list of all the materias is served from the query cache, invalidated by Hibernate on each write to the table.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface MateriaRepository extends JpaRepository<Materia, Long> {}
+public interface MateriaRepository extends JpaRepository<Materia, Long> {
+    @Override
+    @QueryHints(
+        {
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = Constants.REFERENCE_DATA_QUERY_CACHE),
+        }
+    )
+    List<Materia> findAll();
+}
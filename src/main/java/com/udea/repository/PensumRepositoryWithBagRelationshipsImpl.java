@@ -2,10 +2,12 @@ package com.udea.repository;
 
 import com.udea.domain.Pensum;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.IntStream;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import org.hibernate.annotations.QueryHints;
@@ -14,6 +16,8 @@ import org.springframework.data.domain.PageImpl;
 
 /**
  * Utility repository to load bag relationships based on https://vladmihalcea.com/hibernate-multiplebagfetchexception/
+ * <p>
+ * Whatever the number of pensums, their materias are loaded with a single query on their ids.
  */
 public class PensumRepositoryWithBagRelationshipsImpl implements PensumRepositoryWithBagRelationships {
 
@@ -36,22 +40,24 @@ public class PensumRepositoryWithBagRelationshipsImpl implements PensumRepositor
     }
 
     Pensum fetchMaterias(Pensum result) {
-        return entityManager
-            .createQuery("select pensum from Pensum pensum left join fetch pensum.materias where pensum is :pensum", Pensum.class)
-            .setParameter("pensum", result)
-            .setHint(QueryHints.PASS_DISTINCT_THROUGH, false)
-            .getSingleResult();
+        // Null when deleted since it was read, so that the optional is empty
+        return fetchMaterias(Collections.singletonList(result)).stream().findFirst().orElse(null);
     }
 
     List<Pensum> fetchMaterias(List<Pensum> pensums) {
-        HashMap<Object, Integer> order = new HashMap<>();
-        IntStream.range(0, pensums.size()).forEach(index -> order.put(pensums.get(index).getId(), index));
-        List<Pensum> result = entityManager
-            .createQuery("select distinct pensum from Pensum pensum left join fetch pensum.materias where pensum in :pensums", Pensum.class)
-            .setParameter("pensums", pensums)
+        if (pensums.isEmpty()) {
+            return pensums;
+        }
+        List<Long> ids = pensums.stream().map(Pensum::getId).collect(Collectors.toList());
+        Map<Long, Pensum> fetched = entityManager
+            .createQuery("select distinct pensum from Pensum pensum left join fetch pensum.materias where pensum.id in :ids", Pensum.class)
+            .setParameter("ids", ids)
             .setHint(QueryHints.PASS_DISTINCT_THROUGH, false)
-            .getResultList();
-        Collections.sort(result, (o1, o2) -> Integer.compare(order.get(o1.getId()), order.get(o2.getId())));
-        return result;
+            // Not a stream: scrolled results ignore the distinct, and split the rows of a pensum that are not consecutive
+            .getResultList()
+            .stream()
+            .collect(Collectors.toMap(Pensum::getId, Function.identity(), (first, second) -> first));
+        // Keep the order of the page, without sorting, nor the pensums deleted since the page was read
+        return ids.stream().map(fetched::get).filter(Objects::nonNull).collect(Collectors.toList());
     }
 }
@@ -1,12 +1,29 @@
 package com.udea.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
+import com.udea.config.Constants;
 import com.udea.domain.Sede;
+import java.util.List;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
 /**
  * Spring Data JPA repository for the Sede entity.
+ * <p>
+ * Sedes rarely change, so the list of all of them is served from the query cache until the table is written.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface SedeRepository extends JpaRepository<Sede, Long> {}
+public interface SedeRepository extends JpaRepository<Sede, Long> {
+    @Override
+    @QueryHints(
+        {
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = Constants.REFERENCE_DATA_QUERY_CACHE),
+        }
+    )
+    List<Sede> findAll();
+}
@@ -4,10 +4,15 @@ import com.udea.domain.User;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import javax.persistence.QueryHint;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -33,4 +38,42 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findOneWithAuthoritiesByEmailIgnoreCase(String email);
 
     Page<User> findAllByIdNotNullAndActivatedIsTrue(Pageable pageable);
+
+    @Query(
+        "select user.id from User user where user.activated = false and user.activationKey is not null" +
+        " and user.createdDate < :dateTime and user.id > :afterId order by user.id"
+    )
+    List<Long> findIdsOfNotActivatedUsersCreatedBefore(
+        @Param("dateTime") Instant dateTime,
+        @Param("afterId") long afterId,
+        Pageable pageable
+    );
+
+    /**
+     * Delete the authorities of the not activated users created before the given date, with an id in
+     * {@code (fromId, toId]}. The native spaces hint limits the invalidation of the second level cache to the
+     * {@code User.authorities} region.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "jhi_user_authority"))
+    @Query(
+        value = "delete from jhi_user_authority where user_id in (select id from jhi_user where id > :fromId and id <= :toId" +
+        " and activated = false and activation_key is not null and created_date < :dateTime)",
+        nativeQuery = true
+    )
+    int deleteAuthoritiesOfNotActivatedUsersCreatedBefore(
+        @Param("dateTime") Instant dateTime,
+        @Param("fromId") long fromId,
+        @Param("toId") long toId
+    );
+
+    /**
+     * Delete the not activated users created before the given date, with an id in {@code (fromId, toId]}.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+        "delete from User user where user.id > :fromId and user.id <= :toId and user.activated = false" +
+        " and user.activationKey is not null and user.createdDate < :dateTime"
+    )
+    int deleteNotActivatedUsersCreatedBefore(@Param("dateTime") Instant dateTime, @Param("fromId") long fromId, @Param("toId") long toId);
 }
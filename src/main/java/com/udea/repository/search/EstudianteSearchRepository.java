@@ -0,0 +1,46 @@
+package com.udea.repository.search;
+
+import com.udea.domain.Estudiante;
+import javax.persistence.EntityManager;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.search.engine.search.common.BooleanOperator;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.mapper.orm.Search;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Full-text search repository for the {@link Estudiante} entity.
+ */
+@Repository
+public class EstudianteSearchRepository {
+
+    private final EntityManager entityManager;
+
+    public EstudianteSearchRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Search the estudiantes matching all the words of the query, by relevance.
+     * <p>
+     * The query uses the simple query string syntax, so {@code |} and {@code -} can be used to combine words.
+     *
+     * @param query the words to search.
+     * @param pageable the pagination information.
+     * @return the page of estudiantes, loaded from the database.
+     */
+    public Page<Estudiante> search(String query, Pageable pageable) {
+        if (StringUtils.isBlank(query)) {
+            return Page.empty(pageable);
+        }
+        SearchResult<Estudiante> result = Search
+            .session(entityManager)
+            .search(Estudiante.class)
+            .where(f -> f.simpleQueryString().fields("nombre", "apellido", "correo").matching(query).defaultOperator(BooleanOperator.AND))
+            .fetch(Math.toIntExact(pageable.getOffset()), pageable.getPageSize());
+        return new PageImpl<>(result.hits(), pageable, result.total().hitCount());
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Full-text search repositories, backed by the embedded Lucene indexes.
+ */
+package com.udea.repository.search;
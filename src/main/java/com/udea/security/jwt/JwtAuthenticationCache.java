@@ -0,0 +1,96 @@
+package com.udea.security.jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * Bounded cache of the principals of already validated tokens, keyed by the SHA-256 digest of the token so that the
+ * tokens themselves are not kept in memory.
+ * <p>
+ * Entries expire with their token. When the cache is full, expired entries are purged first, then arbitrary ones.
+ */
+final class JwtAuthenticationCache {
+
+    private final int maxEntries;
+
+    private final ConcurrentMap<ByteBuffer, Entry> entries = new ConcurrentHashMap<>();
+
+    JwtAuthenticationCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    ByteBuffer key(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * @return the entry of the key, or {@code null} if there is none or it has expired.
+     */
+    Entry get(ByteBuffer key, long now) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= now) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    void put(ByteBuffer key, Entry entry, long now) {
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+        entries.put(key, entry);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() >= maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    static final class Entry {
+
+        private final User principal;
+
+        private final Collection<? extends GrantedAuthority> authorities;
+
+        private final long expiresAt;
+
+        Entry(User principal, Collection<? extends GrantedAuthority> authorities, long expiresAt) {
+            this.principal = principal;
+            this.authorities = authorities;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Build a new authentication for each request, as {@link Authentication} instances are mutable.
+         */
+        Authentication toAuthentication(String token) {
+            return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        }
+    }
+}
@@ -5,13 +5,13 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.*;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -29,6 +29,8 @@ public class TokenProvider {
 
     private static final String INVALID_JWT_TOKEN = "Invalid JWT token.";
 
+    private static final int MAX_CACHED_AUTHENTICATIONS = 10_000;
+
     private final Key key;
 
     private final JwtParser jwtParser;
@@ -39,6 +41,8 @@ public class TokenProvider {
 
     private final SecurityMetersService securityMetersService;
 
+    private final JwtAuthenticationCache authenticationCache = new JwtAuthenticationCache(MAX_CACHED_AUTHENTICATIONS);
+
     public TokenProvider(JHipsterProperties jHipsterProperties, SecurityMetersService securityMetersService) {
         byte[] keyBytes;
         String secret = jHipsterProperties.getSecurity().getAuthentication().getJwt().getBase64Secret();
@@ -85,22 +89,62 @@ public class TokenProvider {
     public Authentication getAuthentication(String token) {
         Claims claims = jwtParser.parseClaimsJws(token).getBody();
 
-        Collection<? extends GrantedAuthority> authorities = Arrays
+        return toCacheEntry(claims).toAuthentication(token);
+    }
+
+    public boolean validateToken(String authToken) {
+        return parseClaims(authToken) != null;
+    }
+
+    /**
+     * Validate the token and build its authentication, parsing the token only once.
+     * <p>
+     * The principal and authorities of a valid token are cached until the token expires, so that the following
+     * requests presenting the same token skip the signature verification.
+     *
+     * @param token the token to authenticate.
+     * @return the authentication, or {@code null} if the token is not valid.
+     */
+    public Authentication authenticate(String token) {
+        long now = System.currentTimeMillis();
+        ByteBuffer cacheKey = authenticationCache.key(token);
+        JwtAuthenticationCache.Entry entry = authenticationCache.get(cacheKey, now);
+        if (entry != null) {
+            this.securityMetersService.trackTokenCacheHit();
+            return entry.toAuthentication(token);
+        }
+        this.securityMetersService.trackTokenCacheMiss();
+
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        entry = toCacheEntry(claims);
+        if (claims.getExpiration() != null) {
+            authenticationCache.put(cacheKey, entry, now);
+        }
+        return entry.toAuthentication(token);
+    }
+
+    private JwtAuthenticationCache.Entry toCacheEntry(Claims claims) {
+        List<GrantedAuthority> authorities = Arrays
             .stream(claims.get(AUTHORITIES_KEY).toString().split(","))
             .filter(auth -> !auth.trim().isEmpty())
             .map(SimpleGrantedAuthority::new)
-            .collect(Collectors.toList());
+            .collect(Collectors.toUnmodifiableList());
 
         User principal = new User(claims.getSubject(), "", authorities);
 
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        Date expiration = claims.getExpiration();
+        return new JwtAuthenticationCache.Entry(principal, authorities, expiration == null ? Long.MIN_VALUE : expiration.getTime());
     }
 
-    public boolean validateToken(String authToken) {
+    /**
+     * @return the claims of the token, or {@code null} if the token is not valid.
+     */
+    private Claims parseClaims(String authToken) {
         try {
-            jwtParser.parseClaimsJws(authToken);
-
-            return true;
+            return jwtParser.parseClaimsJws(authToken).getBody();
         } catch (ExpiredJwtException e) {
             this.securityMetersService.trackTokenExpired();
 
@@ -121,6 +165,6 @@ public class TokenProvider {
             log.error("Token validation error {}", e.getMessage());
         }
 
-        return false;
+        return null;
     }
 }
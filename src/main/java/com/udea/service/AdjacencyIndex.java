@@ -0,0 +1,197 @@
+package com.udea.service;
+
+import java.util.Arrays;
+
+/**
+ * An immutable adjacency index between ids, in compressed sparse row layout: the targets of {@code keys[i]} are
+ * {@code targets[offsets[i]]} to {@code targets[offsets[i + 1] - 1]}, sorted in ascending order.
+ * <p>
+ * Keys without targets are not stored. Lookups are a binary search on primitive arrays, and updates build a new index.
+ */
+final class AdjacencyIndex {
+
+    static final long[] NO_TARGETS = new long[0];
+
+    static final AdjacencyIndex EMPTY = new AdjacencyIndex(new long[0], new int[] { 0 }, NO_TARGETS);
+
+    private final long[] keys;
+
+    private final int[] offsets;
+
+    private final long[] targets;
+
+    private AdjacencyIndex(long[] keys, int[] offsets, long[] targets) {
+        this.keys = keys;
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    /**
+     * @param key the key to look up.
+     * @return a copy of the targets of the key, sorted in ascending order.
+     */
+    long[] targets(long key) {
+        int index = Arrays.binarySearch(keys, key);
+        if (index < 0) {
+            return NO_TARGETS;
+        }
+        return Arrays.copyOfRange(targets, offsets[index], offsets[index + 1]);
+    }
+
+    int keyCount() {
+        return keys.length;
+    }
+
+    int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * Build a new index where the targets of the given keys are replaced.
+     *
+     * @param changedKeys the keys to replace, sorted in ascending order without duplicates.
+     * @param rows the new targets of each key, sorted in ascending order; empty to remove the key.
+     * @return the new index.
+     */
+    AdjacencyIndex with(long[] changedKeys, long[][] rows) {
+        int targetBound = targets.length;
+        for (long[] row : rows) {
+            targetBound += row.length;
+        }
+        long[] newKeys = new long[keys.length + changedKeys.length];
+        int[] newOffsets = new int[newKeys.length + 1];
+        long[] newTargets = new long[targetBound];
+        int keyCount = 0;
+        int targetCount = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < changedKeys.length) {
+            long key;
+            long[] source;
+            int from;
+            int to;
+            if (j == changedKeys.length || (i < keys.length && keys[i] < changedKeys[j])) {
+                key = keys[i];
+                source = targets;
+                from = offsets[i];
+                to = offsets[i + 1];
+                i++;
+            } else {
+                key = changedKeys[j];
+                source = rows[j];
+                from = 0;
+                to = source.length;
+                if (i < keys.length && keys[i] == key) {
+                    i++;
+                }
+                j++;
+            }
+            if (from == to) {
+                continue;
+            }
+            newKeys[keyCount] = key;
+            newOffsets[keyCount] = targetCount;
+            System.arraycopy(source, from, newTargets, targetCount, to - from);
+            targetCount += to - from;
+            keyCount++;
+        }
+        newOffsets[keyCount] = targetCount;
+        return new AdjacencyIndex(
+            Arrays.copyOf(newKeys, keyCount),
+            Arrays.copyOf(newOffsets, keyCount + 1),
+            Arrays.copyOf(newTargets, targetCount)
+        );
+    }
+
+    /**
+     * @return a copy of the sorted array, with the value inserted at its place.
+     */
+    static long[] insert(long[] sorted, long value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index >= 0) {
+            return sorted;
+        }
+        int at = -index - 1;
+        long[] result = new long[sorted.length + 1];
+        System.arraycopy(sorted, 0, result, 0, at);
+        result[at] = value;
+        System.arraycopy(sorted, at, result, at + 1, sorted.length - at);
+        return result;
+    }
+
+    /**
+     * @return a copy of the sorted array, without the value.
+     */
+    static long[] remove(long[] sorted, long value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index < 0) {
+            return sorted;
+        }
+        long[] result = new long[sorted.length - 1];
+        System.arraycopy(sorted, 0, result, 0, index);
+        System.arraycopy(sorted, index + 1, result, index, sorted.length - index - 1);
+        return result;
+    }
+
+    /**
+     * @return the values present in only one of the two sorted arrays, sorted.
+     */
+    static long[] symmetricDifference(long[] left, long[] right) {
+        long[] result = new long[left.length + right.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length || j < right.length) {
+            if (j == right.length || (i < left.length && left[i] < right[j])) {
+                result[count++] = left[i++];
+            } else if (i == left.length || right[j] < left[i]) {
+                result[count++] = right[j++];
+            } else {
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Builds an {@link AdjacencyIndex} from edges added in ascending (key, target) order.
+     */
+    static final class Builder {
+
+        private long[] keys = new long[16];
+
+        private int[] offsets = new int[17];
+
+        private long[] targets = new long[16];
+
+        private int keyCount;
+
+        private int targetCount;
+
+        void add(long key, long target) {
+            if (keyCount == 0 || keys[keyCount - 1] != key) {
+                if (keyCount == keys.length) {
+                    keys = Arrays.copyOf(keys, keyCount * 2);
+                    offsets = Arrays.copyOf(offsets, keyCount * 2 + 1);
+                }
+                keys[keyCount] = key;
+                offsets[keyCount] = targetCount;
+                keyCount++;
+            }
+            if (targetCount == targets.length) {
+                targets = Arrays.copyOf(targets, targetCount * 2);
+            }
+            targets[targetCount++] = target;
+        }
+
+        AdjacencyIndex build() {
+            offsets[keyCount] = targetCount;
+            return new AdjacencyIndex(
+                Arrays.copyOf(keys, keyCount),
+                Arrays.copyOf(offsets, keyCount + 1),
+                Arrays.copyOf(targets, targetCount)
+            );
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.udea.service;
+
+import com.udea.config.ApplicationProperties;
+import com.udea.service.dto.AdmissionBucketDTO;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service maintaining the daily rollups of the admissions and readmission requests, and answering their time series.
+ * <p>
+ * A scheduled job counts each day once it is closed, by a grouped scan of its range, into {@code admission_rollup}.
+ * A write to a day already rolled up records it in {@code admission_rollup_change}, in the transaction of the write,
+ * and the next run of the job counts that day again. Series are summed from the rollups, and only the days not rolled
+ * up yet, the current one at least, are counted from the admissions. Days are in UTC.
+ */
+@Service
+public class AdmissionRollupService {
+
+    private final Logger log = LoggerFactory.getLogger(AdmissionRollupService.class);
+
+    /**
+     * A rolled up time series.
+     */
+    public enum Series {
+        INGRESO("ingreso_estudiante", "fecha_ingreso"),
+        REINGRESO("solicitud_reingreso", "fecha_solicitud");
+
+        private final String firstDayQuery;
+
+        private final String countByDayQuery;
+
+        Series(String table, String column) {
+            this.firstDayQuery = "select cast(min(" + column + ") as date) from " + table;
+            this.countByDayQuery =
+                "select cast(" +
+                column +
+                " as date), count(*) from " +
+                table +
+                " where " +
+                column +
+                " >= ? and " +
+                column +
+                " < ? group by cast(" +
+                column +
+                " as date)";
+        }
+    }
+
+    /**
+     * The period of the buckets of a series.
+     */
+    public enum Granularity {
+        DAY,
+        /**
+         * ISO weeks, from Monday to Sunday.
+         */
+        WEEK,
+        /**
+         * Semesters, from January to June and from July to December.
+         */
+        TERM,
+    }
+
+    /**
+     * Maximum number of days of a series.
+     */
+    public static final int MAX_RANGE_DAYS = 3660;
+
+    private static final String WATERMARK_QUERY = "select rolled_until from admission_rollup_watermark where series = ?";
+
+    private static final String UPDATE_WATERMARK = "update admission_rollup_watermark set rolled_until = ? where series = ?";
+
+    private static final String ROLLUPS_QUERY =
+        "select bucket_date, total from admission_rollup where series = ? and bucket_date >= ? and bucket_date <= ?";
+
+    private static final String INSERT_ROLLUP = "insert into admission_rollup (series, bucket_date, total) values (?, ?, ?)";
+
+    private static final String UPDATE_ROLLUP = "update admission_rollup set total = ? where series = ? and bucket_date = ?";
+
+    private static final String DELETE_ROLLUP = "delete from admission_rollup where series = ? and bucket_date = ?";
+
+    private static final String INSERT_CHANGE = "insert into admission_rollup_change (series, bucket_date) values (?, ?)";
+
+    private static final String CHANGES_QUERY =
+        "select id, bucket_date from admission_rollup_change where series = ? and bucket_date <= ? order by id limit ";
+
+    private static final String DELETE_CHANGE = "delete from admission_rollup_change where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ApplicationProperties.Rollup rollupProperties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public AdmissionRollupService(
+        JdbcTemplate jdbcTemplate,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rollupProperties = applicationProperties.getRollup();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Roll up the days closed since the last run, and count again the days changed since they were rolled up.
+     */
+    @Scheduled(fixedDelayString = "${application.rollup.interval-ms:60000}")
+    public void rollUp() {
+        // The writes to a day still open are not recorded, the day is rolled up once they are all committed
+        LocalDate lastClosedDay = dayOf(Instant.now().minus(rollupProperties.getClosingDelay())).minusDays(1);
+        for (Series series : Series.values()) {
+            try {
+                rollUp(series, lastClosedDay);
+            } catch (DataAccessException e) {
+                log.warn("Rollups of {} could not be updated, retrying on next run: {}", series, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Roll up the days of a series up to the given one, then apply its recorded changes, batch by batch.
+     *
+     * @param series the series.
+     * @param lastClosedDay the last day to roll up.
+     */
+    public void rollUp(Series series, LocalDate lastClosedDay) {
+        int applied;
+        do {
+            applied = transactionTemplate.execute(status -> rollUpBatch(series, lastClosedDay));
+        } while (applied == rollupProperties.getChangeBatchSize());
+    }
+
+    private int rollUpBatch(Series series, LocalDate lastClosedDay) {
+        // Locked, so that the instances run the job one at a time
+        LocalDate rolledUntil = jdbcTemplate.queryForObject(WATERMARK_QUERY + " for update", LocalDate.class, series.name());
+        if (rolledUntil == null || rolledUntil.isBefore(lastClosedDay)) {
+            LocalDate from = rolledUntil != null
+                ? rolledUntil.plusDays(1)
+                : jdbcTemplate.queryForObject(series.firstDayQuery, LocalDate.class);
+            if (from != null && !from.isAfter(lastClosedDay)) {
+                List<Object[]> rollups = new ArrayList<>();
+                countByDay(series, from, lastClosedDay)
+                    .forEach((day, total) -> rollups.add(new Object[] { series.name(), day, total }));
+                jdbcTemplate.batchUpdate(INSERT_ROLLUP, rollups);
+                log.debug("Rolled up {} days of {} from {} to {}", rollups.size(), series, from, lastClosedDay);
+            }
+            jdbcTemplate.update(UPDATE_WATERMARK, lastClosedDay, series.name());
+            rolledUntil = lastClosedDay;
+        }
+
+        Map<Long, LocalDate> changes = new LinkedHashMap<>();
+        jdbcTemplate.query(
+            CHANGES_QUERY + rollupProperties.getChangeBatchSize(),
+            (RowCallbackHandler) rs -> changes.put(rs.getLong(1), rs.getObject(2, LocalDate.class)),
+            series.name(),
+            rolledUntil
+        );
+        for (LocalDate day : new TreeSet<>(changes.values())) {
+            long total = countByDay(series, day, day).getOrDefault(day, 0L);
+            if (total == 0) {
+                jdbcTemplate.update(DELETE_ROLLUP, series.name(), day);
+            } else if (jdbcTemplate.update(UPDATE_ROLLUP, total, series.name(), day) == 0) {
+                jdbcTemplate.update(INSERT_ROLLUP, series.name(), day, total);
+            }
+        }
+        jdbcTemplate.batchUpdate(
+            DELETE_CHANGE,
+            changes.keySet().stream().map(id -> new Object[] { id }).collect(Collectors.toList())
+        );
+        return changes.size();
+    }
+
+    /**
+     * Record that a write moved an admission or readmission request from a day to another, in the transaction of the
+     * write.
+     *
+     * @param series the series of the written entity.
+     * @param before the date of the entity before the write, {@code null} if it is created.
+     * @param after the date of the entity after the write, {@code null} if it is deleted.
+     */
+    public void recordChange(Series series, Instant before, Instant after) {
+        if (!Objects.equals(dayOf(before), dayOf(after))) {
+            recordChanges(series, Arrays.asList(before, after));
+        }
+    }
+
+    /**
+     * Record the days of created, updated or deleted admissions or readmission requests, in the transaction of the
+     * writes. Only the closed days are recorded, the others being rolled up after the writes are committed.
+     *
+     * @param series the series of the written entities.
+     * @param dates the dates of the entities, before and after the writes.
+     */
+    public void recordChanges(Series series, Collection<Instant> dates) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        List<Object[]> changes = dates
+            .stream()
+            .map(AdmissionRollupService::dayOf)
+            .filter(day -> day != null && day.isBefore(today))
+            .distinct()
+            .map(day -> new Object[] { series.name(), day })
+            .collect(Collectors.toList());
+        if (!changes.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CHANGE, changes);
+        }
+    }
+
+    /**
+     * Get a time series from the rollups, the days not rolled up yet being counted from the admissions.
+     *
+     * @param series the series.
+     * @param granularity the period of the buckets.
+     * @param from the first day of the series.
+     * @param to the last day of the series; the first and last buckets only count the days of the range.
+     * @return the buckets in chronological order, including the empty ones.
+     * @throws IllegalArgumentException if the range is empty or longer than {@link #MAX_RANGE_DAYS}.
+     */
+    @Transactional(readOnly = true)
+    public List<AdmissionBucketDTO> series(Series series, Granularity granularity, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("The series starts on " + from + ", after it ends on " + to);
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("The series is longer than " + MAX_RANGE_DAYS + " days");
+        }
+        LocalDate rolledUntil = jdbcTemplate.queryForObject(WATERMARK_QUERY, LocalDate.class, series.name());
+        Map<LocalDate, Long> totals = new HashMap<>();
+        LocalDate openFrom = from;
+        if (rolledUntil != null && !from.isAfter(rolledUntil)) {
+            jdbcTemplate.query(
+                ROLLUPS_QUERY,
+                (RowCallbackHandler) rs -> totals.put(rs.getObject(1, LocalDate.class), rs.getLong(2)),
+                series.name(),
+                from,
+                to.isBefore(rolledUntil) ? to : rolledUntil
+            );
+            openFrom = rolledUntil.plusDays(1);
+        }
+        if (!openFrom.isAfter(to)) {
+            totals.putAll(countByDay(series, openFrom, to));
+        }
+
+        List<AdmissionBucketDTO> buckets = new ArrayList<>();
+        AdmissionBucketDTO bucket = null;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            LocalDate start = bucketStart(granularity, day);
+            if (bucket == null || !bucket.getStart().equals(start)) {
+                bucket = new AdmissionBucketDTO(periodName(granularity, start), start, 0);
+                buckets.add(bucket);
+            }
+            bucket.setCount(bucket.getCount() + totals.getOrDefault(day, 0L));
+        }
+        return buckets;
+    }
+
+    private Map<LocalDate, Long> countByDay(Series series, LocalDate from, LocalDate to) {
+        Map<LocalDate, Long> totals = new HashMap<>();
+        jdbcTemplate.query(
+            series.countByDayQuery,
+            (RowCallbackHandler) rs -> totals.put(rs.getObject(1, LocalDate.class), rs.getLong(2)),
+            from,
+            to.plusDays(1)
+        );
+        return totals;
+    }
+
+    static LocalDate bucketStart(Granularity granularity, LocalDate day) {
+        switch (granularity) {
+            case WEEK:
+                return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case TERM:
+                return LocalDate.of(day.getYear(), day.getMonthValue() <= 6 ? 1 : 7, 1);
+            default:
+                return day;
+        }
+    }
+
+    static String periodName(Granularity granularity, LocalDate start) {
+        switch (granularity) {
+            case WEEK:
+                int week = start.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+                return String.format(Locale.ROOT, "%d-W%02d", start.get(IsoFields.WEEK_BASED_YEAR), week);
+            case TERM:
+                return start.getYear() + "-" + (start.getMonthValue() <= 6 ? 1 : 2);
+            default:
+                return start.toString();
+        }
+    }
+
+    private static LocalDate dayOf(Instant date) {
+        return date == null ? null : LocalDate.ofInstant(date, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,160 @@
+package com.udea.service;
+
+import com.udea.config.ApplicationProperties;
+import com.udea.domain.Carrera;
+import com.udea.domain.Materia;
+import com.udea.domain.Pensum;
+import com.udea.domain.Sede;
+import com.udea.repository.CarreraRepository;
+import com.udea.repository.MateriaRepository;
+import com.udea.repository.PensumRepository;
+import com.udea.repository.SedeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service loading the reference data into the second level cache at startup.
+ * <p>
+ * Application runners are called once the context is refreshed, so after Liquibase, and before the application
+ * reports itself ready: the {@code readinessState} probe stays out of service until the regions are loaded. The regions
+ * are loaded in parallel, page by page, so that only one page per region is kept in memory besides the cache.
+ */
+@Service
+public class CacheWarmUpService implements ApplicationRunner {
+
+    public static final String WARM_UP_METER_NAME = "cache.warm-up";
+    public static final String WARM_UP_METER_DESCRIPTION = "Indicates the time taken to load a cache region at startup.";
+
+    public static final String WARM_UP_ENTITIES_METER_NAME = "cache.warm-up.entities";
+    public static final String WARM_UP_ENTITIES_METER_DESCRIPTION =
+        "Indicates how many entities were loaded in a cache region at startup.";
+    public static final String WARM_UP_ENTITIES_METER_BASE_UNIT = "entities";
+
+    public static final String WARM_UP_PENDING_METER_NAME = "cache.warm-up.pending-regions";
+    public static final String WARM_UP_PENDING_METER_DESCRIPTION = "Indicates how many cache regions are still being loaded.";
+
+    public static final String WARM_UP_REGION_DIMENSION = "region";
+
+    private static final int PAGE_SIZE = 500;
+
+    private final Logger log = LoggerFactory.getLogger(CacheWarmUpService.class);
+
+    private final ApplicationProperties applicationProperties;
+
+    private final Map<Class<?>, Function<Pageable, Page<?>>> regions = new LinkedHashMap<>();
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Executor jobTaskExecutor;
+
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger pendingRegions = new AtomicInteger();
+
+    public CacheWarmUpService(
+        ApplicationProperties applicationProperties,
+        CarreraRepository carreraRepository,
+        SedeRepository sedeRepository,
+        PensumRepository pensumRepository,
+        MateriaRepository materiaRepository,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("jobTaskExecutor") Executor jobTaskExecutor,
+        MeterRegistry meterRegistry
+    ) {
+        this.applicationProperties = applicationProperties;
+        this.regions.put(Carrera.class, carreraRepository::findAll);
+        this.regions.put(Sede.class, sedeRepository::findAll);
+        this.regions.put(Pensum.class, pensumRepository::findAllWithEagerRelationships);
+        this.regions.put(Materia.class, materiaRepository::findAll);
+        // Not read-only, so that the regions are loaded from the primary database rather than from a lagging replica
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jobTaskExecutor = jobTaskExecutor;
+        this.meterRegistry = meterRegistry;
+
+        Gauge
+            .builder(WARM_UP_PENDING_METER_NAME, pendingRegions, AtomicInteger::get)
+            .description(WARM_UP_PENDING_METER_DESCRIPTION)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (applicationProperties.getCache().isWarmUpEnabled()) {
+            warmUp();
+        }
+    }
+
+    /**
+     * Load the reference data regions, and wait for all of them to be loaded.
+     * <p>
+     * A failure is logged and does not prevent the application from starting: the entities are then loaded on demand.
+     */
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        pendingRegions.set(regions.size());
+        CompletableFuture<?>[] loads = regions
+            .entrySet()
+            .stream()
+            .map(region -> CompletableFuture.runAsync(() -> warmUp(region.getKey(), region.getValue()), jobTaskExecutor))
+            .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(loads).join();
+            log.info("Warmed up {} cache regions in {} ms", regions.size(), System.currentTimeMillis() - start);
+        } catch (CompletionException e) {
+            log.warn("Cache warm-up failed, entities will be loaded on demand", e.getCause());
+        }
+    }
+
+    private void warmUp(Class<?> entityClass, Function<Pageable, Page<?>> findPage) {
+        String region = entityClass.getSimpleName();
+        Counter entities = Counter
+            .builder(WARM_UP_ENTITIES_METER_NAME)
+            .baseUnit(WARM_UP_ENTITIES_METER_BASE_UNIT)
+            .description(WARM_UP_ENTITIES_METER_DESCRIPTION)
+            .tag(WARM_UP_REGION_DIMENSION, region)
+            .register(meterRegistry);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+            Page<?> page;
+            do {
+                // One transaction per page, so that its persistence context is released once the page is cached
+                Pageable current = pageable;
+                page = transactionTemplate.execute(status -> findPage.apply(current));
+                entities.increment(page.getNumberOfElements());
+                pageable = page.nextPageable();
+            } while (page.hasNext());
+            log.debug("Warmed up cache region {}", region);
+        } finally {
+            sample.stop(
+                Timer
+                    .builder(WARM_UP_METER_NAME)
+                    .description(WARM_UP_METER_DESCRIPTION)
+                    .tag(WARM_UP_REGION_DIMENSION, region)
+                    .register(meterRegistry)
+            );
+            pendingRegions.decrementAndGet();
+        }
+    }
+}
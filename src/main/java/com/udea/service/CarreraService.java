@@ -0,0 +1,148 @@
+package com.udea.service;
+
+import com.udea.domain.Carrera;
+import com.udea.repository.CarreraRepository;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for managing {@link Carrera}.
+ */
+@Service
+@Transactional
+public class CarreraService {
+
+    private final Logger log = LoggerFactory.getLogger(CarreraService.class);
+
+    private final CarreraRepository carreraRepository;
+
+    private final ExpedienteService expedienteService;
+
+    private final IngresoStatsService ingresoStatsService;
+
+    public CarreraService(
+        CarreraRepository carreraRepository,
+        ExpedienteService expedienteService,
+        IngresoStatsService ingresoStatsService
+    ) {
+        this.carreraRepository = carreraRepository;
+        this.expedienteService = expedienteService;
+        this.ingresoStatsService = ingresoStatsService;
+    }
+
+    /**
+     * Save a carrera.
+     *
+     * @param carrera the entity to save.
+     * @return the persisted entity.
+     */
+    public Carrera save(Carrera carrera) {
+        log.debug("Request to save Carrera : {}", carrera);
+        Carrera result = carreraRepository.save(carrera);
+        ingresoStatsService.carreraSaved(result);
+        return result;
+    }
+
+    /**
+     * Update a carrera, overwriting its current state. The version of the carrera is checked when it has one.
+     *
+     * @param carrera the entity to update.
+     * @param precondition the check of the current state of the carrera, before it is overwritten.
+     * @return the persisted entity, with its incremented version, or empty if the carrera does not exist.
+     */
+    public Optional<Carrera> update(Carrera carrera, Consumer<Carrera> precondition) {
+        log.debug("Request to update Carrera : {}", carrera);
+        return carreraRepository
+            .findById(carrera.getId())
+            .map(current -> {
+                precondition.accept(current);
+                if (!Objects.equals(current.getNombre(), carrera.getNombre())) {
+                    // Shown by the expedientes of its estudiantes
+                    expedienteService.evictAll();
+                }
+                if (carrera.getVersion() == null) {
+                    // Clients unaware of the version overwrite the current state
+                    carrera.setVersion(current.getVersion());
+                }
+                // Flushed, so that the result holds the incremented version
+                Carrera result = carreraRepository.saveAndFlush(carrera);
+                // The modalidad groups the enrollment statistics
+                ingresoStatsService.carreraSaved(result);
+                return result;
+            });
+    }
+
+    /**
+     * Partially update a carrera.
+     *
+     * @param carrera the entity to update partially.
+     * @param precondition the check of the current state of the carrera, before it is updated.
+     * @return the persisted entity, with its incremented version, or empty if the carrera does not exist.
+     */
+    public Optional<Carrera> partialUpdate(Carrera carrera, Consumer<Carrera> precondition) {
+        log.debug("Request to partially update Carrera : {}", carrera);
+
+        return carreraRepository
+            .findById(carrera.getId())
+            .map(existingCarrera -> {
+                precondition.accept(existingCarrera);
+                if (carrera.getNombre() != null) {
+                    if (!carrera.getNombre().equals(existingCarrera.getNombre())) {
+                        expedienteService.evictAll();
+                    }
+                    existingCarrera.setNombre(carrera.getNombre());
+                }
+                if (carrera.getModalidad() != null) {
+                    existingCarrera.setModalidad(carrera.getModalidad());
+                }
+
+                Carrera result = carreraRepository.saveAndFlush(existingCarrera);
+                ingresoStatsService.carreraSaved(result);
+                return result;
+            });
+    }
+
+    /**
+     * Get all the carreras.
+     * <p>
+     * Read from the primary database: the result is kept in the query cache, where a lagging replica could leave the
+     * state preceding the last write.
+     *
+     * @param pageable the pagination information.
+     * @return the list of entities.
+     */
+    @Transactional
+    public Page<Carrera> findAll(Pageable pageable) {
+        log.debug("Request to get all Carreras");
+        return carreraRepository.findAll(pageable);
+    }
+
+    /**
+     * Get one carrera by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Carrera> findOne(Long id) {
+        log.debug("Request to get Carrera : {}", id);
+        return carreraRepository.findById(id);
+    }
+
+    /**
+     * Delete the carrera by id.
+     *
+     * @param id the id of the entity.
+     */
+    public void delete(Long id) {
+        log.debug("Request to delete Carrera : {}", id);
+        carreraRepository.deleteById(id);
+    }
+}
@@ -0,0 +1,232 @@
+package com.udea.service;
+
+import com.udea.domain.Materia;
+import com.udea.domain.Pensum;
+import java.util.Arrays;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service holding an in-memory read model of the {@link Pensum} to {@link Materia} relationship, in both directions.
+ * <p>
+ * The model is built from {@code rel_pensum__materias} when the application is ready, and is then updated in place
+ * after each committed write of a pensum's materias, so lookups never hit the database. Only the writes of this
+ * instance are applied in place: the model is also rebuilt every {@code application.curriculum-index.rebuild-interval-ms},
+ * so that the writes of the other instances are read.
+ */
+@Service
+public class CurriculumIndexService {
+
+    private final Logger log = LoggerFactory.getLogger(CurriculumIndexService.class);
+
+    private static final String MATERIAS_BY_PENSUM_QUERY =
+        "select pensum_id, materias_id from rel_pensum__materias order by pensum_id, materias_id";
+
+    private static final String PENSUMS_BY_MATERIA_QUERY =
+        "select materias_id, pensum_id from rel_pensum__materias order by materias_id, pensum_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Snapshot snapshot;
+
+    public CurriculumIndexService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (DataAccessException e) {
+            log.warn("Curriculum index could not be built at startup, it will be built on first use: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuild the read model periodically, reading the writes of the other instances.
+     * <p>
+     * A write of this instance applied after the rebuild read it is harmless: the materias of a pensum are replaced, not
+     * added.
+     */
+    @Scheduled(
+        initialDelayString = "${application.curriculum-index.rebuild-interval-ms:300000}",
+        fixedDelayString = "${application.curriculum-index.rebuild-interval-ms:300000}"
+    )
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (DataAccessException e) {
+            log.warn("Curriculum index could not be rebuilt, retrying on next run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuild the whole read model from the database.
+     */
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        Snapshot built = new Snapshot(load(MATERIAS_BY_PENSUM_QUERY), load(PENSUMS_BY_MATERIA_QUERY));
+        snapshot = built;
+        log.info(
+            "Curriculum index built with {} pensums and {} materias in {} ms",
+            built.materiasByPensum.keyCount(),
+            built.pensumsByMateria.keyCount(),
+            System.currentTimeMillis() - start
+        );
+    }
+
+    /**
+     * Get the ids of the materias of a pensum.
+     *
+     * @param pensumId the id of the pensum.
+     * @return the ids of its materias, in ascending order; empty if the pensum has no materias or does not exist.
+     */
+    public long[] findMateriaIds(long pensumId) {
+        return snapshot().materiasByPensum.targets(pensumId);
+    }
+
+    /**
+     * Get the ids of the pensums containing a materia.
+     *
+     * @param materiaId the id of the materia.
+     * @return the ids of the pensums, in ascending order; empty if no pensum contains the materia or if it does not exist.
+     */
+    public long[] findPensumIds(long materiaId) {
+        return snapshot().pensumsByMateria.targets(materiaId);
+    }
+
+    /**
+     * Record the materias of a saved pensum, once the current transaction commits.
+     *
+     * @param pensum the saved pensum.
+     */
+    public void pensumSaved(Pensum pensum) {
+        long pensumId = pensum.getId();
+        long[] materiaIds = pensum
+            .getMaterias()
+            .stream()
+            .map(Materia::getId)
+            .filter(Objects::nonNull)
+            .mapToLong(Long::longValue)
+            .sorted()
+            .distinct()
+            .toArray();
+        afterCommit(() -> replacePensum(pensumId, materiaIds));
+    }
+
+    /**
+     * Forget a deleted pensum, once the current transaction commits.
+     *
+     * @param pensumId the id of the deleted pensum.
+     */
+    public void pensumDeleted(long pensumId) {
+        afterCommit(() -> replacePensum(pensumId, AdjacencyIndex.NO_TARGETS));
+    }
+
+    /**
+     * Forget a deleted materia, once the current transaction commits.
+     *
+     * @param materiaId the id of the deleted materia.
+     */
+    public void materiaDeleted(long materiaId) {
+        afterCommit(() -> removeMateria(materiaId));
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    rebuild();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private synchronized void replacePensum(long pensumId, long[] materiaIds) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // Not built yet, the change will be read from the database
+            return;
+        }
+        long[] changedMaterias = AdjacencyIndex.symmetricDifference(current.materiasByPensum.targets(pensumId), materiaIds);
+        long[][] pensumRows = new long[changedMaterias.length][];
+        for (int i = 0; i < changedMaterias.length; i++) {
+            long[] pensumIds = current.pensumsByMateria.targets(changedMaterias[i]);
+            pensumRows[i] =
+                Arrays.binarySearch(materiaIds, changedMaterias[i]) >= 0
+                    ? AdjacencyIndex.insert(pensumIds, pensumId)
+                    : AdjacencyIndex.remove(pensumIds, pensumId);
+        }
+        snapshot =
+            new Snapshot(
+                current.materiasByPensum.with(new long[] { pensumId }, new long[][] { materiaIds }),
+                current.pensumsByMateria.with(changedMaterias, pensumRows)
+            );
+    }
+
+    private synchronized void removeMateria(long materiaId) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        long[] pensumIds = current.pensumsByMateria.targets(materiaId);
+        long[][] materiaRows = new long[pensumIds.length][];
+        for (int i = 0; i < pensumIds.length; i++) {
+            materiaRows[i] = AdjacencyIndex.remove(current.materiasByPensum.targets(pensumIds[i]), materiaId);
+        }
+        snapshot =
+            new Snapshot(
+                current.materiasByPensum.with(pensumIds, materiaRows),
+                current.pensumsByMateria.with(new long[] { materiaId }, new long[][] { AdjacencyIndex.NO_TARGETS })
+            );
+    }
+
+    private AdjacencyIndex load(String query) {
+        AdjacencyIndex.Builder builder = new AdjacencyIndex.Builder();
+        jdbcTemplate.query(query, (RowCallbackHandler) rs -> builder.add(rs.getLong(1), rs.getLong(2)));
+        return builder.build();
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        update.run();
+                    }
+                }
+            );
+        } else {
+            update.run();
+        }
+    }
+
+    /**
+     * Both directions of the relationship, swapped together so readers always see a consistent pair.
+     */
+    private static final class Snapshot {
+
+        private final AdjacencyIndex materiasByPensum;
+
+        private final AdjacencyIndex pensumsByMateria;
+
+        Snapshot(AdjacencyIndex materiasByPensum, AdjacencyIndex pensumsByMateria) {
+            this.materiasByPensum = materiasByPensum;
+            this.pensumsByMateria = pensumsByMateria;
+        }
+    }
+}
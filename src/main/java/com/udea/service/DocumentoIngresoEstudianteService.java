@@ -0,0 +1,141 @@
+package com.udea.service;
+
+import com.udea.domain.DocumentoIngresoEstudiante;
+import com.udea.domain.IngresoEstudiante;
+import com.udea.repository.DocumentoIngresoEstudianteRepository;
+import com.udea.repository.IngresoEstudianteRepository;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for managing {@link DocumentoIngresoEstudiante}.
+ */
+@Service
+@Transactional
+public class DocumentoIngresoEstudianteService {
+
+    private final Logger log = LoggerFactory.getLogger(DocumentoIngresoEstudianteService.class);
+
+    private final DocumentoIngresoEstudianteRepository documentoIngresoEstudianteRepository;
+
+    private final IngresoEstudianteRepository ingresoEstudianteRepository;
+
+    private final ExpedienteService expedienteService;
+
+    public DocumentoIngresoEstudianteService(
+        DocumentoIngresoEstudianteRepository documentoIngresoEstudianteRepository,
+        IngresoEstudianteRepository ingresoEstudianteRepository,
+        ExpedienteService expedienteService
+    ) {
+        this.documentoIngresoEstudianteRepository = documentoIngresoEstudianteRepository;
+        this.ingresoEstudianteRepository = ingresoEstudianteRepository;
+        this.expedienteService = expedienteService;
+    }
+
+    /**
+     * Save a documentoIngresoEstudiante.
+     *
+     * @param documentoIngresoEstudiante the entity to save.
+     * @return the persisted entity.
+     */
+    public DocumentoIngresoEstudiante save(DocumentoIngresoEstudiante documentoIngresoEstudiante) {
+        log.debug("Request to save DocumentoIngresoEstudiante : {}", documentoIngresoEstudiante);
+        expedienteService.evict(referencedEstudianteId(documentoIngresoEstudiante.getIngresoEstudiante()));
+        return documentoIngresoEstudianteRepository.save(documentoIngresoEstudiante);
+    }
+
+    /**
+     * Update a documentoIngresoEstudiante.
+     *
+     * @param documentoIngresoEstudiante the entity to save.
+     * @return the persisted entity.
+     */
+    public DocumentoIngresoEstudiante update(DocumentoIngresoEstudiante documentoIngresoEstudiante) {
+        log.debug("Request to update DocumentoIngresoEstudiante : {}", documentoIngresoEstudiante);
+        // The ingresoEstudiante may change, both expedientes are evicted
+        expedienteService.evict(
+            currentEstudianteId(documentoIngresoEstudiante.getId()),
+            referencedEstudianteId(documentoIngresoEstudiante.getIngresoEstudiante())
+        );
+        return documentoIngresoEstudianteRepository.save(documentoIngresoEstudiante);
+    }
+
+    /**
+     * Partially update a documentoIngresoEstudiante.
+     *
+     * @param documentoIngresoEstudiante the entity to update partially.
+     * @return the persisted entity.
+     */
+    public Optional<DocumentoIngresoEstudiante> partialUpdate(DocumentoIngresoEstudiante documentoIngresoEstudiante) {
+        log.debug("Request to partially update DocumentoIngresoEstudiante : {}", documentoIngresoEstudiante);
+
+        return documentoIngresoEstudianteRepository
+            .findById(documentoIngresoEstudiante.getId())
+            .map(existingDocumentoIngresoEstudiante -> {
+                expedienteService.evict(IngresoEstudianteService.estudianteId(existingDocumentoIngresoEstudiante.getIngresoEstudiante()));
+                if (documentoIngresoEstudiante.getNombreDocumento() != null) {
+                    existingDocumentoIngresoEstudiante.setNombreDocumento(documentoIngresoEstudiante.getNombreDocumento());
+                }
+                if (documentoIngresoEstudiante.getDescripcionDocumento() != null) {
+                    existingDocumentoIngresoEstudiante.setDescripcionDocumento(documentoIngresoEstudiante.getDescripcionDocumento());
+                }
+
+                return existingDocumentoIngresoEstudiante;
+            })
+            .map(documentoIngresoEstudianteRepository::save);
+    }
+
+    /**
+     * Get all the documentoIngresoEstudiantes.
+     *
+     * @return the list of entities.
+     */
+    @Transactional(readOnly = true)
+    public List<DocumentoIngresoEstudiante> findAll() {
+        log.debug("Request to get all DocumentoIngresoEstudiantes");
+        return documentoIngresoEstudianteRepository.findAll();
+    }
+
+    /**
+     * Get one documentoIngresoEstudiante by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<DocumentoIngresoEstudiante> findOne(Long id) {
+        log.debug("Request to get DocumentoIngresoEstudiante : {}", id);
+        return documentoIngresoEstudianteRepository.findById(id);
+    }
+
+    /**
+     * Delete the documentoIngresoEstudiante by id.
+     *
+     * @param id the id of the entity.
+     */
+    public void delete(Long id) {
+        log.debug("Request to delete DocumentoIngresoEstudiante : {}", id);
+        expedienteService.evict(currentEstudianteId(id));
+        documentoIngresoEstudianteRepository.deleteById(id);
+    }
+
+    private Long currentEstudianteId(Long id) {
+        return documentoIngresoEstudianteRepository
+            .findById(id)
+            .map(DocumentoIngresoEstudiante::getIngresoEstudiante)
+            .map(IngresoEstudianteService::estudianteId)
+            .orElse(null);
+    }
+
+    private Long referencedEstudianteId(IngresoEstudiante ingresoEstudiante) {
+        if (ingresoEstudiante == null || ingresoEstudiante.getId() == null) {
+            return null;
+        }
+        // The request may only hold the id of the ingresoEstudiante
+        return ingresoEstudianteRepository.findById(ingresoEstudiante.getId()).map(IngresoEstudianteService::estudianteId).orElse(null);
+    }
+}
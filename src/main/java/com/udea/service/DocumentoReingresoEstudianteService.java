@@ -0,0 +1,143 @@
+package com.udea.service;
+
+import com.udea.domain.DocumentoReingresoEstudiante;
+import com.udea.domain.SolicitudReingreso;
+import com.udea.repository.DocumentoReingresoEstudianteRepository;
+import com.udea.repository.SolicitudReingresoRepository;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for managing {@link DocumentoReingresoEstudiante}.
+ */
+@Service
+@Transactional
+public class DocumentoReingresoEstudianteService {
+
+    private final Logger log = LoggerFactory.getLogger(DocumentoReingresoEstudianteService.class);
+
+    private final DocumentoReingresoEstudianteRepository documentoReingresoEstudianteRepository;
+
+    private final SolicitudReingresoRepository solicitudReingresoRepository;
+
+    private final ExpedienteService expedienteService;
+
+    public DocumentoReingresoEstudianteService(
+        DocumentoReingresoEstudianteRepository documentoReingresoEstudianteRepository,
+        SolicitudReingresoRepository solicitudReingresoRepository,
+        ExpedienteService expedienteService
+    ) {
+        this.documentoReingresoEstudianteRepository = documentoReingresoEstudianteRepository;
+        this.solicitudReingresoRepository = solicitudReingresoRepository;
+        this.expedienteService = expedienteService;
+    }
+
+    /**
+     * Save a documentoReingresoEstudiante.
+     *
+     * @param documentoReingresoEstudiante the entity to save.
+     * @return the persisted entity.
+     */
+    public DocumentoReingresoEstudiante save(DocumentoReingresoEstudiante documentoReingresoEstudiante) {
+        log.debug("Request to save DocumentoReingresoEstudiante : {}", documentoReingresoEstudiante);
+        expedienteService.evict(referencedEstudianteId(documentoReingresoEstudiante.getSolicitudReingreso()));
+        return documentoReingresoEstudianteRepository.save(documentoReingresoEstudiante);
+    }
+
+    /**
+     * Update a documentoReingresoEstudiante.
+     *
+     * @param documentoReingresoEstudiante the entity to save.
+     * @return the persisted entity.
+     */
+    public DocumentoReingresoEstudiante update(DocumentoReingresoEstudiante documentoReingresoEstudiante) {
+        log.debug("Request to update DocumentoReingresoEstudiante : {}", documentoReingresoEstudiante);
+        // The solicitudReingreso may change, both expedientes are evicted
+        expedienteService.evict(
+            currentEstudianteId(documentoReingresoEstudiante.getId()),
+            referencedEstudianteId(documentoReingresoEstudiante.getSolicitudReingreso())
+        );
+        return documentoReingresoEstudianteRepository.save(documentoReingresoEstudiante);
+    }
+
+    /**
+     * Partially update a documentoReingresoEstudiante.
+     *
+     * @param documentoReingresoEstudiante the entity to update partially.
+     * @return the persisted entity.
+     */
+    public Optional<DocumentoReingresoEstudiante> partialUpdate(DocumentoReingresoEstudiante documentoReingresoEstudiante) {
+        log.debug("Request to partially update DocumentoReingresoEstudiante : {}", documentoReingresoEstudiante);
+
+        return documentoReingresoEstudianteRepository
+            .findById(documentoReingresoEstudiante.getId())
+            .map(existingDocumentoReingresoEstudiante -> {
+                expedienteService.evict(
+                    SolicitudReingresoService.estudianteId(existingDocumentoReingresoEstudiante.getSolicitudReingreso())
+                );
+                if (documentoReingresoEstudiante.getNombreDocumento() != null) {
+                    existingDocumentoReingresoEstudiante.setNombreDocumento(documentoReingresoEstudiante.getNombreDocumento());
+                }
+                if (documentoReingresoEstudiante.getDescripcionDocumento() != null) {
+                    existingDocumentoReingresoEstudiante.setDescripcionDocumento(documentoReingresoEstudiante.getDescripcionDocumento());
+                }
+
+                return existingDocumentoReingresoEstudiante;
+            })
+            .map(documentoReingresoEstudianteRepository::save);
+    }
+
+    /**
+     * Get all the documentoReingresoEstudiantes.
+     *
+     * @return the list of entities.
+     */
+    @Transactional(readOnly = true)
+    public List<DocumentoReingresoEstudiante> findAll() {
+        log.debug("Request to get all DocumentoReingresoEstudiantes");
+        return documentoReingresoEstudianteRepository.findAll();
+    }
+
+    /**
+     * Get one documentoReingresoEstudiante by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<DocumentoReingresoEstudiante> findOne(Long id) {
+        log.debug("Request to get DocumentoReingresoEstudiante : {}", id);
+        return documentoReingresoEstudianteRepository.findById(id);
+    }
+
+    /**
+     * Delete the documentoReingresoEstudiante by id.
+     *
+     * @param id the id of the entity.
+     */
+    public void delete(Long id) {
+        log.debug("Request to delete DocumentoReingresoEstudiante : {}", id);
+        expedienteService.evict(currentEstudianteId(id));
+        documentoReingresoEstudianteRepository.deleteById(id);
+    }
+
+    private Long currentEstudianteId(Long id) {
+        return documentoReingresoEstudianteRepository
+            .findById(id)
+            .map(DocumentoReingresoEstudiante::getSolicitudReingreso)
+            .map(SolicitudReingresoService::estudianteId)
+            .orElse(null);
+    }
+
+    private Long referencedEstudianteId(SolicitudReingreso solicitudReingreso) {
+        if (solicitudReingreso == null || solicitudReingreso.getId() == null) {
+            return null;
+        }
+        // The request may only hold the id of the solicitudReingreso
+        return solicitudReingresoRepository.findById(solicitudReingreso.getId()).map(SolicitudReingresoService::estudianteId).orElse(null);
+    }
+}
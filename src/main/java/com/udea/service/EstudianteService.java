@@ -0,0 +1,168 @@
+package com.udea.service;
+
+import com.udea.domain.Estudiante;
+import com.udea.repository.EstudianteRepository;
+import com.udea.repository.search.EstudianteSearchRepository;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for managing {@link Estudiante}.
+ */
+@Service
+@Transactional
+public class EstudianteService {
+
+    private final Logger log = LoggerFactory.getLogger(EstudianteService.class);
+
+    private final EstudianteRepository estudianteRepository;
+
+    private final EstudianteSearchRepository estudianteSearchRepository;
+
+    private final EntityManager entityManager;
+
+    private final ExpedienteService expedienteService;
+
+    public EstudianteService(
+        EstudianteRepository estudianteRepository,
+        EstudianteSearchRepository estudianteSearchRepository,
+        EntityManager entityManager,
+        ExpedienteService expedienteService
+    ) {
+        this.estudianteRepository = estudianteRepository;
+        this.estudianteSearchRepository = estudianteSearchRepository;
+        this.entityManager = entityManager;
+        this.expedienteService = expedienteService;
+    }
+
+    /**
+     * Save a estudiante.
+     *
+     * @param estudiante the entity to save.
+     * @return the persisted entity.
+     */
+    public Estudiante save(Estudiante estudiante) {
+        log.debug("Request to save Estudiante : {}", estudiante);
+        return estudianteRepository.save(estudiante);
+    }
+
+    /**
+     * Update a estudiante, overwriting its current state. The version of the estudiante is checked when it has one.
+     *
+     * @param estudiante the entity to update.
+     * @param precondition the check of the current state of the estudiante, before it is overwritten.
+     * @return the persisted entity, with its incremented version, or empty if the estudiante does not exist.
+     */
+    public Optional<Estudiante> update(Estudiante estudiante, Consumer<Estudiante> precondition) {
+        log.debug("Request to update Estudiante : {}", estudiante);
+        return estudianteRepository
+            .findById(estudiante.getId())
+            .map(current -> {
+                precondition.accept(current);
+                expedienteService.evict(current.getId());
+                if (estudiante.getVersion() == null) {
+                    // Clients unaware of the version overwrite the current state
+                    estudiante.setVersion(current.getVersion());
+                }
+                // Flushed, so that the result holds the incremented version
+                return estudianteRepository.saveAndFlush(estudiante);
+            });
+    }
+
+    /**
+     * Partially update a estudiante.
+     *
+     * @param estudiante the entity to update partially.
+     * @param precondition the check of the current state of the estudiante, before it is updated.
+     * @return the persisted entity, with its incremented version, or empty if the estudiante does not exist.
+     */
+    public Optional<Estudiante> partialUpdate(Estudiante estudiante, Consumer<Estudiante> precondition) {
+        log.debug("Request to partially update Estudiante : {}", estudiante);
+
+        return estudianteRepository
+            .findById(estudiante.getId())
+            .map(existingEstudiante -> {
+                precondition.accept(existingEstudiante);
+                expedienteService.evict(existingEstudiante.getId());
+                if (estudiante.getNombre() != null) {
+                    existingEstudiante.setNombre(estudiante.getNombre());
+                }
+                if (estudiante.getApellido() != null) {
+                    existingEstudiante.setApellido(estudiante.getApellido());
+                }
+                if (estudiante.getFechaNacimiento() != null) {
+                    existingEstudiante.setFechaNacimiento(estudiante.getFechaNacimiento());
+                }
+                if (estudiante.getCorreo() != null) {
+                    existingEstudiante.setCorreo(estudiante.getCorreo());
+                }
+                if (estudiante.getDireccion() != null) {
+                    existingEstudiante.setDireccion(estudiante.getDireccion());
+                }
+
+                return existingEstudiante;
+            })
+            .map(estudianteRepository::saveAndFlush);
+    }
+
+    /**
+     * Read all the estudiantes through a database cursor. Each estudiante is detached once consumed, so memory usage
+     * does not depend on the size of the table.
+     *
+     * @param action the action to perform on each estudiante.
+     */
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<Estudiante> action) {
+        log.debug("Request to read all Estudiantes");
+        try (Stream<Estudiante> estudiantes = estudianteRepository.streamAll()) {
+            estudiantes.forEach(estudiante -> {
+                action.accept(estudiante);
+                entityManager.detach(estudiante);
+            });
+        }
+    }
+
+    /**
+     * Get one estudiante by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Estudiante> findOne(Long id) {
+        log.debug("Request to get Estudiante : {}", id);
+        return estudianteRepository.findById(id);
+    }
+
+    /**
+     * Search for the estudiantes corresponding to the query, by relevance.
+     *
+     * @param query the query of the search.
+     * @param pageable the pagination information.
+     * @return the list of entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Estudiante> search(String query, Pageable pageable) {
+        log.debug("Request to search for a page of Estudiantes for query {}", query);
+        return estudianteSearchRepository.search(query, pageable);
+    }
+
+    /**
+     * Delete the estudiante by id.
+     *
+     * @param id the id of the entity.
+     */
+    public void delete(Long id) {
+        log.debug("Request to delete Estudiante : {}", id);
+        estudianteRepository.deleteById(id);
+        expedienteService.evict(id);
+    }
+}
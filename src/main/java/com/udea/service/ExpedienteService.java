@@ -0,0 +1,164 @@
+package com.udea.service;
+
+import com.udea.service.dto.ExpedienteDTO;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service assembling the {@link ExpedienteDTO} of an estudiante, read through the {@link #EXPEDIENTES_CACHE} cache.
+ * <p>
+ * All the relationships of the history are one-to-one, so the expediente is read by a single query left joining them.
+ * The services writing the entities of an expediente evict it with {@link #evict(Long...)}.
+ */
+@Service
+public class ExpedienteService {
+
+    public static final String EXPEDIENTES_CACHE = "expedientes";
+
+    private static final String EXPEDIENTE_QUERY =
+        "select estudiante.id as id, estudiante.nombre as nombre, estudiante.apellido as apellido," +
+        " estudiante.fechaNacimiento as fechaNacimiento, estudiante.correo as correo, estudiante.direccion as direccion," +
+        " ingreso.id as ingresoId, ingreso.fechaIngreso as fechaIngreso, carrera.id as carreraId, carrera.nombre as carreraNombre," +
+        " sede.id as sedeId, sede.nombre as sedeNombre, pensum.id as pensumId, pensum.numero as pensumNumero," +
+        " documentoIngreso.id as documentoIngresoId, documentoIngreso.nombreDocumento as documentoIngresoNombre," +
+        " documentoIngreso.descripcionDocumento as documentoIngresoDescripcion," +
+        " solicitud.id as solicitudId, solicitud.fechaSolicitud as fechaSolicitud, solicitud.motivo as motivo," +
+        " documentoReingreso.id as documentoReingresoId, documentoReingreso.nombreDocumento as documentoReingresoNombre," +
+        " documentoReingreso.descripcionDocumento as documentoReingresoDescripcion" +
+        " from Estudiante estudiante" +
+        " left join IngresoEstudiante ingreso on ingreso.estudiante = estudiante" +
+        " left join ingreso.carrera carrera" +
+        " left join ingreso.sede sede" +
+        " left join ingreso.pensum pensum" +
+        " left join DocumentoIngresoEstudiante documentoIngreso on documentoIngreso.ingresoEstudiante = ingreso" +
+        " left join SolicitudReingreso solicitud on solicitud.estudiante = estudiante" +
+        " left join DocumentoReingresoEstudiante documentoReingreso on documentoReingreso.solicitudReingreso = solicitud" +
+        " where estudiante.id = :id";
+
+    private final Logger log = LoggerFactory.getLogger(ExpedienteService.class);
+
+    private final EntityManager entityManager;
+
+    private final CacheManager cacheManager;
+
+    public ExpedienteService(EntityManager entityManager, CacheManager cacheManager) {
+        this.entityManager = entityManager;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Get the expediente of an estudiante.
+     * <p>
+     * Read from the primary database: a lagging replica could cache the state preceding an eviction.
+     *
+     * @param estudianteId the id of the estudiante.
+     * @return the expediente, or empty if the estudiante does not exist.
+     */
+    @Cacheable(cacheNames = EXPEDIENTES_CACHE, unless = "#result == null")
+    @Transactional
+    public Optional<ExpedienteDTO> findOne(Long estudianteId) {
+        log.debug("Request to get the Expediente of Estudiante : {}", estudianteId);
+        return entityManager
+            .createQuery(EXPEDIENTE_QUERY, Tuple.class)
+            .setParameter("id", estudianteId)
+            .getResultStream()
+            .findFirst()
+            .map(ExpedienteService::toExpediente);
+    }
+
+    /**
+     * Evict the expedientes of the given estudiantes, right away and once the current transaction commits, so that an
+     * expediente read while the transaction runs is not kept with its previous state.
+     *
+     * @param estudianteIds the ids of the estudiantes, {@code null} ids are ignored.
+     */
+    public void evict(Long... estudianteIds) {
+        List<Long> ids = Arrays.stream(estudianteIds).filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        if (!ids.isEmpty()) {
+            evictNowAndAfterCommit(cache -> ids.forEach(cache::evict));
+        }
+    }
+
+    /**
+     * Evict all the expedientes, right away and once the current transaction commits, when an entity shown by many of
+     * them is updated.
+     */
+    public void evictAll() {
+        evictNowAndAfterCommit(Cache::clear);
+    }
+
+    private void evictNowAndAfterCommit(Consumer<Cache> eviction) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(EXPEDIENTES_CACHE));
+        eviction.accept(cache);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        eviction.accept(cache);
+                    }
+                }
+            );
+        }
+    }
+
+    private static ExpedienteDTO toExpediente(Tuple row) {
+        ExpedienteDTO expediente = new ExpedienteDTO();
+        expediente.setId(row.get("id", Long.class));
+        expediente.setNombre(row.get("nombre", String.class));
+        expediente.setApellido(row.get("apellido", String.class));
+        expediente.setFechaNacimiento(row.get("fechaNacimiento", Instant.class));
+        expediente.setCorreo(row.get("correo", String.class));
+        expediente.setDireccion(row.get("direccion", String.class));
+        if (row.get("ingresoId") != null) {
+            ExpedienteDTO.IngresoDTO ingreso = new ExpedienteDTO.IngresoDTO();
+            ingreso.setId(row.get("ingresoId", Long.class));
+            ingreso.setFechaIngreso(row.get("fechaIngreso", Instant.class));
+            ingreso.setCarreraId(row.get("carreraId", Long.class));
+            ingreso.setCarreraNombre(row.get("carreraNombre", String.class));
+            ingreso.setSedeId(row.get("sedeId", Long.class));
+            ingreso.setSedeNombre(row.get("sedeNombre", String.class));
+            ingreso.setPensumId(row.get("pensumId", Long.class));
+            ingreso.setPensumNumero(row.get("pensumNumero", Long.class));
+            ingreso.setDocumento(toDocumento(row, "documentoIngreso"));
+            expediente.setIngreso(ingreso);
+        }
+        if (row.get("solicitudId") != null) {
+            ExpedienteDTO.ReingresoDTO reingreso = new ExpedienteDTO.ReingresoDTO();
+            reingreso.setId(row.get("solicitudId", Long.class));
+            reingreso.setFechaSolicitud(row.get("fechaSolicitud", Instant.class));
+            reingreso.setMotivo(row.get("motivo", String.class));
+            reingreso.setDocumento(toDocumento(row, "documentoReingreso"));
+            expediente.setReingreso(reingreso);
+        }
+        return expediente;
+    }
+
+    private static ExpedienteDTO.DocumentoDTO toDocumento(Tuple row, String alias) {
+        Long id = row.get(alias + "Id", Long.class);
+        if (id == null) {
+            return null;
+        }
+        ExpedienteDTO.DocumentoDTO documento = new ExpedienteDTO.DocumentoDTO();
+        documento.setId(id);
+        documento.setNombreDocumento(row.get(alias + "Nombre", String.class));
+        documento.setDescripcionDocumento(row.get(alias + "Descripcion", String.class));
+        return documento;
+    }
+}
@@ -0,0 +1,250 @@
+package com.udea.service;
+
+import com.udea.domain.Carrera;
+import com.udea.domain.Estudiante;
+import com.udea.domain.IngresoEstudiante;
+import com.udea.domain.Pensum;
+import com.udea.domain.Sede;
+import com.udea.repository.CarreraRepository;
+import com.udea.repository.EstudianteRepository;
+import com.udea.repository.IngresoEstudianteRepository;
+import com.udea.repository.PensumRepository;
+import com.udea.repository.SedeRepository;
+import com.udea.service.dto.BulkItemResultDTO;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import javax.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for creating {@link IngresoEstudiante} in bulk.
+ * <p>
+ * Rows are processed in chunks: the references of a chunk are resolved with one query per association, and the new
+ * rows are flushed together so that Hibernate sends them in JDBC batches of {@code hibernate.jdbc.batch_size}.
+ */
+@Service
+@Transactional
+public class IngresoEstudianteBulkService {
+
+    private final Logger log = LoggerFactory.getLogger(IngresoEstudianteBulkService.class);
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final EntityManager entityManager;
+
+    private final IngresoEstudianteRepository ingresoEstudianteRepository;
+
+    private final EstudianteRepository estudianteRepository;
+
+    private final CarreraRepository carreraRepository;
+
+    private final SedeRepository sedeRepository;
+
+    private final PensumRepository pensumRepository;
+
+    private final ExpedienteService expedienteService;
+
+    private final IngresoStatsService ingresoStatsService;
+
+    private final AdmissionRollupService admissionRollupService;
+
+    public IngresoEstudianteBulkService(
+        EntityManager entityManager,
+        IngresoEstudianteRepository ingresoEstudianteRepository,
+        EstudianteRepository estudianteRepository,
+        CarreraRepository carreraRepository,
+        SedeRepository sedeRepository,
+        PensumRepository pensumRepository,
+        ExpedienteService expedienteService,
+        IngresoStatsService ingresoStatsService,
+        AdmissionRollupService admissionRollupService
+    ) {
+        this.entityManager = entityManager;
+        this.ingresoEstudianteRepository = ingresoEstudianteRepository;
+        this.estudianteRepository = estudianteRepository;
+        this.carreraRepository = carreraRepository;
+        this.sedeRepository = sedeRepository;
+        this.pensumRepository = pensumRepository;
+        this.expedienteService = expedienteService;
+        this.ingresoStatsService = ingresoStatsService;
+        this.admissionRollupService = admissionRollupService;
+    }
+
+    /**
+     * Create the given ingresoEstudiantes, skipping the invalid ones.
+     * <p>
+     * A row is rejected when it already has an id, when one of its references does not exist, or when one of its
+     * references is already used by another ingresoEstudiante (in database or earlier in the same request), as all
+     * of them are unique.
+     *
+     * @param ingresoEstudiantes the ingresoEstudiantes to create.
+     * @return the outcome of each row, in the same order.
+     */
+    public List<BulkItemResultDTO> createAll(List<IngresoEstudiante> ingresoEstudiantes) {
+        log.debug("Request to create {} IngresoEstudiantes in bulk", ingresoEstudiantes.size());
+        List<Association<?>> associations = List.of(
+            new Association<>(
+                "estudiante",
+                IngresoEstudiante::getEstudiante,
+                IngresoEstudiante::setEstudiante,
+                Estudiante::getId,
+                estudianteRepository::findAllById,
+                ingresoEstudianteRepository::findUsedEstudianteIds
+            ),
+            new Association<>(
+                "carrera",
+                IngresoEstudiante::getCarrera,
+                IngresoEstudiante::setCarrera,
+                Carrera::getId,
+                carreraRepository::findAllById,
+                ingresoEstudianteRepository::findUsedCarreraIds
+            ),
+            new Association<>(
+                "sede",
+                IngresoEstudiante::getSede,
+                IngresoEstudiante::setSede,
+                Sede::getId,
+                sedeRepository::findAllById,
+                ingresoEstudianteRepository::findUsedSedeIds
+            ),
+            new Association<>(
+                "pensum",
+                IngresoEstudiante::getPensum,
+                IngresoEstudiante::setPensum,
+                Pensum::getId,
+                pensumRepository::findAllById,
+                ingresoEstudianteRepository::findUsedPensumIds
+            )
+        );
+        List<BulkItemResultDTO> results = new ArrayList<>(ingresoEstudiantes.size());
+        for (int from = 0; from < ingresoEstudiantes.size(); from += CHUNK_SIZE) {
+            List<IngresoEstudiante> chunk = ingresoEstudiantes.subList(from, Math.min(from + CHUNK_SIZE, ingresoEstudiantes.size()));
+            associations.forEach(association -> association.resolve(chunk));
+            List<Long> createdEstudianteIds = new ArrayList<>();
+            List<IngresoStatsService.Cell> createdCells = new ArrayList<>();
+            List<Instant> createdFechas = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                BulkItemResultDTO result = create(from + i, chunk.get(i), associations);
+                if (result.getStatus() == BulkItemResultDTO.Status.CREATED) {
+                    createdEstudianteIds.add(IngresoEstudianteService.estudianteId(chunk.get(i)));
+                    createdCells.add(IngresoStatsService.cellOf(chunk.get(i)));
+                    createdFechas.add(chunk.get(i).getFechaIngreso());
+                }
+                results.add(result);
+            }
+            expedienteService.evict(createdEstudianteIds.toArray(new Long[0]));
+            ingresoStatsService.ingresosChanged(List.of(), createdCells);
+            admissionRollupService.recordChanges(AdmissionRollupService.Series.INGRESO, createdFechas);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return results;
+    }
+
+    private BulkItemResultDTO create(int index, IngresoEstudiante ingresoEstudiante, List<Association<?>> associations) {
+        if (ingresoEstudiante.getId() != null) {
+            return BulkItemResultDTO.rejected(index, "idexists");
+        }
+        for (Association<?> association : associations) {
+            String errorKey = association.validate(ingresoEstudiante);
+            if (errorKey != null) {
+                return BulkItemResultDTO.rejected(index, errorKey);
+            }
+        }
+        associations.forEach(association -> association.attach(ingresoEstudiante));
+        entityManager.persist(ingresoEstudiante);
+        return BulkItemResultDTO.created(index, ingresoEstudiante.getId());
+    }
+
+    /**
+     * A unique reference of {@link IngresoEstudiante}, resolved chunk by chunk.
+     */
+    private static final class Association<T> {
+
+        private final String name;
+
+        private final Function<IngresoEstudiante, T> getter;
+
+        private final BiConsumer<IngresoEstudiante, T> setter;
+
+        private final Function<T, Long> idGetter;
+
+        private final Function<Collection<Long>, List<T>> loader;
+
+        private final Function<Collection<Long>, Set<Long>> usedIdsLoader;
+
+        private final Set<Long> usedIds = new HashSet<>();
+
+        private final Map<Long, T> existing = new HashMap<>();
+
+        Association(
+            String name,
+            Function<IngresoEstudiante, T> getter,
+            BiConsumer<IngresoEstudiante, T> setter,
+            Function<T, Long> idGetter,
+            Function<Collection<Long>, List<T>> loader,
+            Function<Collection<Long>, Set<Long>> usedIdsLoader
+        ) {
+            this.name = name;
+            this.getter = getter;
+            this.setter = setter;
+            this.idGetter = idGetter;
+            this.loader = loader;
+            this.usedIdsLoader = usedIdsLoader;
+        }
+
+        void resolve(List<IngresoEstudiante> chunk) {
+            Set<Long> ids = new HashSet<>();
+            chunk.forEach(ingresoEstudiante -> {
+                Long id = idOf(ingresoEstudiante);
+                if (id != null) {
+                    ids.add(id);
+                }
+            });
+            existing.clear();
+            if (!ids.isEmpty()) {
+                loader.apply(ids).forEach(reference -> existing.put(idGetter.apply(reference), reference));
+                usedIds.addAll(usedIdsLoader.apply(ids));
+            }
+        }
+
+        String validate(IngresoEstudiante ingresoEstudiante) {
+            T reference = getter.apply(ingresoEstudiante);
+            if (reference == null) {
+                return null;
+            }
+            Long id = idGetter.apply(reference);
+            if (id == null || !existing.containsKey(id)) {
+                return name + "notfound";
+            }
+            if (usedIds.contains(id)) {
+                return name + "used";
+            }
+            return null;
+        }
+
+        void attach(IngresoEstudiante ingresoEstudiante) {
+            Long id = idOf(ingresoEstudiante);
+            if (id != null) {
+                setter.accept(ingresoEstudiante, existing.get(id));
+                usedIds.add(id);
+            }
+        }
+
+        private Long idOf(IngresoEstudiante ingresoEstudiante) {
+            T reference = getter.apply(ingresoEstudiante);
+            return reference == null ? null : idGetter.apply(reference);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.udea.service;
+
+import com.udea.domain.*; // for static metamodels
+import com.udea.domain.IngresoEstudiante;
+import com.udea.repository.IngresoEstudianteRepository;
+import com.udea.service.dto.IngresoEstudianteSummaryDTO;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Root;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for executing read queries on {@link IngresoEstudiante} entities in the database.
+ */
+@Service
+@Transactional(readOnly = true)
+public class IngresoEstudianteQueryService {
+
+    private final Logger log = LoggerFactory.getLogger(IngresoEstudianteQueryService.class);
+
+    private final EntityManager entityManager;
+
+    private final IngresoEstudianteRepository ingresoEstudianteRepository;
+
+    public IngresoEstudianteQueryService(EntityManager entityManager, IngresoEstudianteRepository ingresoEstudianteRepository) {
+        this.entityManager = entityManager;
+        this.ingresoEstudianteRepository = ingresoEstudianteRepository;
+    }
+
+    /**
+     * Return a {@link Page} of {@link IngresoEstudianteSummaryDTO}, read with a single constructor-expression query.
+     *
+     * @param pageable the pagination information, sort properties refer to {@link IngresoEstudiante}.
+     * @return the matching summaries.
+     */
+    public Page<IngresoEstudianteSummaryDTO> findSummaries(Pageable pageable) {
+        log.debug("find summaries by page : {}", pageable);
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<IngresoEstudianteSummaryDTO> query = builder.createQuery(IngresoEstudianteSummaryDTO.class);
+        Root<IngresoEstudiante> root = query.from(IngresoEstudiante.class);
+        Join<IngresoEstudiante, Estudiante> estudiante = root.join(IngresoEstudiante_.estudiante, JoinType.LEFT);
+        Join<IngresoEstudiante, Carrera> carrera = root.join(IngresoEstudiante_.carrera, JoinType.LEFT);
+        Join<IngresoEstudiante, Sede> sede = root.join(IngresoEstudiante_.sede, JoinType.LEFT);
+        Join<IngresoEstudiante, Pensum> pensum = root.join(IngresoEstudiante_.pensum, JoinType.LEFT);
+        query
+            .select(
+                builder.construct(
+                    IngresoEstudianteSummaryDTO.class,
+                    root.get(IngresoEstudiante_.id),
+                    root.get(IngresoEstudiante_.fechaIngreso),
+                    estudiante.get(Estudiante_.id),
+                    estudiante.get(Estudiante_.nombre),
+                    estudiante.get(Estudiante_.apellido),
+                    carrera.get(Carrera_.id),
+                    carrera.get(Carrera_.nombre),
+                    sede.get(Sede_.id),
+                    sede.get(Sede_.nombre),
+                    pensum.get(Pensum_.id),
+                    pensum.get(Pensum_.numero)
+                )
+            )
+            .orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+        List<IngresoEstudianteSummaryDTO> content = entityManager
+            .createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, ingresoEstudianteRepository::count);
+    }
+}
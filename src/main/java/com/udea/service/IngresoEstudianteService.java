@@ -0,0 +1,174 @@
+package com.udea.service;
+
+import com.udea.domain.IngresoEstudiante;
+import com.udea.repository.IngresoEstudianteRepository;
+import java.time.Instant;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for managing {@link IngresoEstudiante}.
+ */
+@Service
+@Transactional
+public class IngresoEstudianteService {
+
+    private final Logger log = LoggerFactory.getLogger(IngresoEstudianteService.class);
+
+    private final IngresoEstudianteRepository ingresoEstudianteRepository;
+
+    private final ExpedienteService expedienteService;
+
+    private final IngresoStatsService ingresoStatsService;
+
+    private final AdmissionRollupService admissionRollupService;
+
+    public IngresoEstudianteService(
+        IngresoEstudianteRepository ingresoEstudianteRepository,
+        ExpedienteService expedienteService,
+        IngresoStatsService ingresoStatsService,
+        AdmissionRollupService admissionRollupService
+    ) {
+        this.ingresoEstudianteRepository = ingresoEstudianteRepository;
+        this.expedienteService = expedienteService;
+        this.ingresoStatsService = ingresoStatsService;
+        this.admissionRollupService = admissionRollupService;
+    }
+
+    /**
+     * Save a ingresoEstudiante, and count it in the statistics and rollups.
+     *
+     * @param ingresoEstudiante the entity to save.
+     * @return the persisted entity.
+     */
+    public IngresoEstudiante save(IngresoEstudiante ingresoEstudiante) {
+        log.debug("Request to save IngresoEstudiante : {}", ingresoEstudiante);
+        expedienteService.evict(estudianteId(ingresoEstudiante));
+        IngresoEstudiante result = ingresoEstudianteRepository.save(ingresoEstudiante);
+        ingresoStatsService.ingresoChanged(null, IngresoStatsService.cellOf(result));
+        admissionRollupService.recordChange(AdmissionRollupService.Series.INGRESO, null, result.getFechaIngreso());
+        return result;
+    }
+
+    /**
+     * Update a ingresoEstudiante, and move it in the statistics and rollups.
+     *
+     * @param ingresoEstudiante the entity to save.
+     * @return the persisted entity.
+     */
+    public IngresoEstudiante update(IngresoEstudiante ingresoEstudiante) {
+        log.debug("Request to update IngresoEstudiante : {}", ingresoEstudiante);
+        Optional<IngresoEstudiante> current = ingresoEstudianteRepository.findById(ingresoEstudiante.getId());
+        // The estudiante may change, both expedientes are evicted
+        expedienteService.evict(current.map(IngresoEstudianteService::estudianteId).orElse(null), estudianteId(ingresoEstudiante));
+        // Captured before the merge overwrites the current state
+        IngresoStatsService.Cell before = current.map(IngresoStatsService::cellOf).orElse(null);
+        Instant fechaIngresoBefore = current.map(IngresoEstudiante::getFechaIngreso).orElse(null);
+        IngresoEstudiante result = ingresoEstudianteRepository.save(ingresoEstudiante);
+        ingresoStatsService.ingresoChanged(before, IngresoStatsService.cellOf(result));
+        admissionRollupService.recordChange(AdmissionRollupService.Series.INGRESO, fechaIngresoBefore, result.getFechaIngreso());
+        return result;
+    }
+
+    /**
+     * Partially update a ingresoEstudiante, and move it in the statistics and rollups.
+     *
+     * @param ingresoEstudiante the entity to update partially.
+     * @return the persisted entity.
+     */
+    public Optional<IngresoEstudiante> partialUpdate(IngresoEstudiante ingresoEstudiante) {
+        log.debug("Request to partially update IngresoEstudiante : {}", ingresoEstudiante);
+
+        return ingresoEstudianteRepository
+            .findById(ingresoEstudiante.getId())
+            .map(existingIngresoEstudiante -> {
+                expedienteService.evict(estudianteId(existingIngresoEstudiante));
+                IngresoStatsService.Cell before = IngresoStatsService.cellOf(existingIngresoEstudiante);
+                Instant fechaIngresoBefore = existingIngresoEstudiante.getFechaIngreso();
+                if (ingresoEstudiante.getFechaIngreso() != null) {
+                    existingIngresoEstudiante.setFechaIngreso(ingresoEstudiante.getFechaIngreso());
+                }
+
+                IngresoEstudiante result = ingresoEstudianteRepository.save(existingIngresoEstudiante);
+                ingresoStatsService.ingresoChanged(before, IngresoStatsService.cellOf(result));
+                admissionRollupService.recordChange(AdmissionRollupService.Series.INGRESO, fechaIngresoBefore, result.getFechaIngreso());
+                return result;
+            });
+    }
+
+    /**
+     * Get all the ingresoEstudiantes with eager load of many-to-many relationships.
+     *
+     * @param pageable the pagination information.
+     * @return the list of entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<IngresoEstudiante> findAllWithEagerRelationships(Pageable pageable) {
+        log.debug("Request to get all IngresoEstudiantes with eager relationships");
+        return ingresoEstudianteRepository.findAllWithEagerRelationships(pageable);
+    }
+
+    /**
+     * Get the ingresoEstudiantes following the given id, for keyset pagination.
+     *
+     * @param after the id of the last ingresoEstudiante of the previous slice.
+     * @param size the size of the slice.
+     * @return the slice of entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<IngresoEstudiante> findAllAfter(Long after, int size) {
+        log.debug("Request to get a slice of IngresoEstudiantes after : {}", after);
+        return ingresoEstudianteRepository.findAllByIdAfter(after, PageRequest.of(0, size));
+    }
+
+    /**
+     * Count all the ingresoEstudiantes.
+     *
+     * @return the number of entities.
+     */
+    @Transactional(readOnly = true)
+    public long count() {
+        log.debug("Request to count IngresoEstudiantes");
+        return ingresoEstudianteRepository.count();
+    }
+
+    /**
+     * Get one ingresoEstudiante by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<IngresoEstudiante> findOne(Long id) {
+        log.debug("Request to get IngresoEstudiante : {}", id);
+        return ingresoEstudianteRepository.findOneWithEagerRelationships(id);
+    }
+
+    /**
+     * Delete the ingresoEstudiante by id, and remove it from the statistics and rollups.
+     *
+     * @param id the id of the entity.
+     */
+    public void delete(Long id) {
+        log.debug("Request to delete IngresoEstudiante : {}", id);
+        ingresoEstudianteRepository
+            .findById(id)
+            .ifPresent(current -> {
+                expedienteService.evict(estudianteId(current));
+                ingresoStatsService.ingresoChanged(IngresoStatsService.cellOf(current), null);
+                admissionRollupService.recordChange(AdmissionRollupService.Series.INGRESO, current.getFechaIngreso(), null);
+            });
+        ingresoEstudianteRepository.deleteById(id);
+    }
+
+    static Long estudianteId(IngresoEstudiante ingresoEstudiante) {
+        return ingresoEstudiante != null && ingresoEstudiante.getEstudiante() != null ? ingresoEstudiante.getEstudiante().getId() : null;
+    }
+}
@@ -0,0 +1,248 @@
+package com.udea.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable cube of counters, in sorted primitive arrays: {@code counts[i]} is the counter of the cell {@code keys[i]}.
+ * <p>
+ * A cell key packs the dictionary index of the carrera, the code of its modalidad, the dictionary index of the sede and
+ * the code of the term, {@code 0} standing for none. The cells of the cube leave the modalidad to {@code 0}, it is only
+ * set in the keys of the groups of a query. Empty cells are not stored, and updates build a new cube.
+ */
+final class IngresoStatsCube {
+
+    static final IngresoStatsCube EMPTY = new IngresoStatsCube(new long[0], new long[0]);
+
+    private static final int TERM_BITS = 20;
+
+    private static final int SEDE_BITS = 20;
+
+    private static final int MODALIDAD_BITS = 2;
+
+    private static final int CARRERA_BITS = 21;
+
+    private static final int SEDE_SHIFT = TERM_BITS;
+
+    private static final int MODALIDAD_SHIFT = SEDE_SHIFT + SEDE_BITS;
+
+    private static final int CARRERA_SHIFT = MODALIDAD_SHIFT + MODALIDAD_BITS;
+
+    static final int MAX_CARRERAS = (1 << CARRERA_BITS) - 1;
+
+    static final int MAX_SEDES = (1 << SEDE_BITS) - 1;
+
+    private final long[] keys;
+
+    private final long[] counts;
+
+    private IngresoStatsCube(long[] keys, long[] counts) {
+        this.keys = keys;
+        this.counts = counts;
+    }
+
+    static long key(int carrera, int modalidad, int sede, int term) {
+        return ((long) carrera << CARRERA_SHIFT) | ((long) modalidad << MODALIDAD_SHIFT) | ((long) sede << SEDE_SHIFT) | term;
+    }
+
+    static int carrera(long key) {
+        return (int) (key >>> CARRERA_SHIFT) & MAX_CARRERAS;
+    }
+
+    static int modalidad(long key) {
+        return (int) (key >>> MODALIDAD_SHIFT) & ((1 << MODALIDAD_BITS) - 1);
+    }
+
+    static int sede(long key) {
+        return (int) (key >>> SEDE_SHIFT) & MAX_SEDES;
+    }
+
+    static int term(long key) {
+        return (int) key & ((1 << TERM_BITS) - 1);
+    }
+
+    int cellCount() {
+        return keys.length;
+    }
+
+    long keyAt(int index) {
+        return keys[index];
+    }
+
+    long countAt(int index) {
+        return counts[index];
+    }
+
+    /**
+     * @param key the key of the cell.
+     * @return the counter of the cell, {@code 0} if it is empty.
+     */
+    long count(long key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index < 0 ? 0 : counts[index];
+    }
+
+    /**
+     * Build a new cube where the given deltas are added to the counters of their cells.
+     *
+     * @param changedKeys the keys of the cells to update, sorted in ascending order without duplicates.
+     * @param deltas the delta of each cell; a cell whose counter drops to {@code 0} is removed.
+     * @return the new cube.
+     */
+    IngresoStatsCube with(long[] changedKeys, long[] deltas) {
+        long[] newKeys = new long[keys.length + changedKeys.length];
+        long[] newCounts = new long[newKeys.length];
+        int cellCount = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < changedKeys.length) {
+            long key;
+            long count;
+            if (j == changedKeys.length || (i < keys.length && keys[i] < changedKeys[j])) {
+                key = keys[i];
+                count = counts[i];
+                i++;
+            } else {
+                key = changedKeys[j];
+                count = deltas[j];
+                if (i < keys.length && keys[i] == key) {
+                    count += counts[i];
+                    i++;
+                }
+                j++;
+            }
+            if (count <= 0) {
+                continue;
+            }
+            newKeys[cellCount] = key;
+            newCounts[cellCount] = count;
+            cellCount++;
+        }
+        return new IngresoStatsCube(Arrays.copyOf(newKeys, cellCount), Arrays.copyOf(newCounts, cellCount));
+    }
+
+    /**
+     * Builds an {@link IngresoStatsCube} from counters added in any order.
+     */
+    static final class Builder {
+
+        private final Map<Long, Long> counts = new HashMap<>();
+
+        void add(long key, long count) {
+            counts.merge(key, count, Long::sum);
+        }
+
+        IngresoStatsCube build() {
+            long[] keys = counts.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            return EMPTY.with(keys, Arrays.stream(keys).map(counts::get).toArray());
+        }
+    }
+
+    /**
+     * An immutable dictionary of the ids of a dimension, giving them compact indexes in order of appearance. Index
+     * {@code 0} stands for no id.
+     */
+    static final class Dictionary {
+
+        static final Dictionary EMPTY = new Dictionary(new long[1], Map.of());
+
+        private final long[] ids;
+
+        private final Map<Long, Integer> indexes;
+
+        private Dictionary(long[] ids, Map<Long, Integer> indexes) {
+            this.ids = ids;
+            this.indexes = indexes;
+        }
+
+        /**
+         * @param id the id, may be {@code null}.
+         * @return the index of the id, {@code 0} if it is {@code null}, or {@code -1} if it is not in the dictionary.
+         */
+        int indexOf(Long id) {
+            if (id == null) {
+                return 0;
+            }
+            return indexes.getOrDefault(id, -1);
+        }
+
+        /**
+         * @param index the index of an id.
+         * @return the id, {@code null} for index {@code 0}.
+         */
+        Long idAt(int index) {
+            return index == 0 ? null : ids[index];
+        }
+
+        int size() {
+            return ids.length - 1;
+        }
+
+        /**
+         * Build a new dictionary holding the given id, or return this one if it already does.
+         *
+         * @param id the id to add.
+         * @param maxSize the maximum number of ids of the dictionary.
+         * @return the dictionary holding the id.
+         */
+        Dictionary with(long id, int maxSize) {
+            if (indexes.containsKey(id)) {
+                return this;
+            }
+            if (size() == maxSize) {
+                throw new IllegalStateException("The dictionary is full with " + maxSize + " ids");
+            }
+            long[] newIds = Arrays.copyOf(ids, ids.length + 1);
+            newIds[ids.length] = id;
+            Map<Long, Integer> newIndexes = new HashMap<>(indexes);
+            newIndexes.put(id, ids.length);
+            return new Dictionary(newIds, newIndexes);
+        }
+
+        /**
+         * Builds a {@link Dictionary} from ids added in any order.
+         */
+        static final class Builder {
+
+            private final int maxSize;
+
+            private long[] ids = new long[16];
+
+            private int length = 1;
+
+            private final Map<Long, Integer> indexes = new HashMap<>();
+
+            Builder(int maxSize) {
+                this.maxSize = maxSize;
+            }
+
+            /**
+             * @param id the id to add, may be {@code null}.
+             * @return the index of the id.
+             */
+            int add(Long id) {
+                if (id == null) {
+                    return 0;
+                }
+                Integer index = indexes.get(id);
+                if (index != null) {
+                    return index;
+                }
+                if (length - 1 == maxSize) {
+                    throw new IllegalStateException("The dictionary is full with " + maxSize + " ids");
+                }
+                if (length == ids.length) {
+                    ids = Arrays.copyOf(ids, length * 2);
+                }
+                ids[length] = id;
+                indexes.put(id, length);
+                return length++;
+            }
+
+            Dictionary build() {
+                return new Dictionary(Arrays.copyOf(ids, length), new HashMap<>(indexes));
+            }
+        }
+    }
+}
@@ -0,0 +1,481 @@
+package com.udea.service;
+
+import com.udea.domain.Carrera;
+import com.udea.domain.IngresoEstudiante;
+import com.udea.domain.enumeration.Modalidad;
+import com.udea.service.dto.IngresoStatsDTO;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service holding the enrollment statistics: an in-memory cube counting the {@link IngresoEstudiante} by carrera, sede
+ * and term, the modalidad being read from the carrera.
+ * <p>
+ * The cube is built by a single grouped scan of {@code ingreso_estudiante} when the application is ready, and is then
+ * updated in place after each committed write of an ingresoEstudiante or of the modalidad of a carrera, so queries
+ * never hit the database. A term is a semester: {@code 2024-1} from January to June, {@code 2024-2} from July to
+ * December, in UTC.
+ * <p>
+ * A write committed while the cube is being rebuilt may or may not be seen by the scan, so it cannot be applied on top of
+ * the scanned cube: the scan is run again until no write committed during it.
+ * <p>
+ * Only the writes of this instance are applied in place: the cube is also rebuilt every
+ * {@code application.stats.rebuild-interval-ms}, so that the writes of the other instances are counted.
+ */
+@Service
+public class IngresoStatsService {
+
+    private final Logger log = LoggerFactory.getLogger(IngresoStatsService.class);
+
+    /**
+     * A dimension the statistics can be grouped by.
+     */
+    public enum Dimension {
+        CARRERA,
+        SEDE,
+        MODALIDAD,
+        TERM,
+    }
+
+    private static final String CARRERAS_QUERY = "select id, modalidad from carrera";
+
+    private static final String SEMESTER = "case when extract(month from fecha_ingreso) <= 6 then 1 else 2 end";
+
+    private static final String CELLS_QUERY =
+        "select carrera_id, sede_id, extract(year from fecha_ingreso), " +
+        SEMESTER +
+        ", count(*) from ingreso_estudiante group by carrera_id, sede_id, extract(year from fecha_ingreso), " +
+        SEMESTER;
+
+    private static final Pattern TERM_PATTERN = Pattern.compile("(\\d{4})-([12])");
+
+    private static final Modalidad[] MODALIDADES = Modalidad.values();
+
+    private static final int MAX_REBUILD_SCANS = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Object rebuildLock = new Object();
+
+    /**
+     * The number of transactions recording a change that are committing, from before their commit until the change is
+     * applied.
+     */
+    private final AtomicInteger committingWrites = new AtomicInteger();
+
+    private volatile Snapshot snapshot;
+
+    // Guarded by this
+    private boolean rebuilding;
+
+    // Guarded by this
+    private boolean changedWhileRebuilding;
+
+    public IngresoStatsService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (DataAccessException e) {
+            log.warn("Enrollment statistics could not be built at startup, they will be built on first use: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuild the cube periodically, counting the writes of the other instances.
+     */
+    @Scheduled(
+        initialDelayString = "${application.stats.rebuild-interval-ms:300000}",
+        fixedDelayString = "${application.stats.rebuild-interval-ms:300000}"
+    )
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (DataAccessException e) {
+            log.warn("Enrollment statistics could not be rebuilt, retrying on next run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuild the whole cube from the database.
+     * <p>
+     * The changes committed meanwhile are still applied to the current cube, which is kept if writes keep committing
+     * during {@value #MAX_REBUILD_SCANS} scans in a row. Without a current cube, the last scan is kept instead, until the
+     * next rebuild: it may miss or count twice the writes committed during that scan.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.currentTimeMillis();
+            Snapshot built = null;
+            try {
+                for (int scans = 1; scans <= MAX_REBUILD_SCANS; scans++) {
+                    synchronized (this) {
+                        rebuilding = true;
+                        changedWhileRebuilding = false;
+                    }
+                    // A write committed before the scan began, but not applied yet, is counted as committing
+                    boolean quiet = committingWrites.get() == 0;
+                    built = scan();
+                    synchronized (this) {
+                        if (quiet && !changedWhileRebuilding && committingWrites.get() == 0) {
+                            snapshot = built;
+                            log.info(
+                                "Enrollment statistics built with {} cells for {} carreras and {} sedes in {} scans and {} ms",
+                                built.cube.cellCount(),
+                                built.carreras.size(),
+                                built.sedes.size(),
+                                scans,
+                                System.currentTimeMillis() - start
+                            );
+                            return;
+                        }
+                    }
+                    log.debug("Writes committed during the scan of the enrollment statistics, scanning again");
+                }
+                synchronized (this) {
+                    if (snapshot == null) {
+                        snapshot = built;
+                        log.warn("Enrollment statistics approximated, writes committed during each of {} scans", MAX_REBUILD_SCANS);
+                        return;
+                    }
+                }
+                log.warn("Enrollment statistics not rebuilt, writes committed during each of {} scans", MAX_REBUILD_SCANS);
+            } finally {
+                synchronized (this) {
+                    rebuilding = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Count the ingresoEstudiantes, grouped by the given dimensions.
+     *
+     * @param groupBy the dimensions to group by; a single total is returned when empty.
+     * @param fromTerm the code of the first term to count, if any, see {@link #parseTerm(String)}.
+     * @param toTerm the code of the last term to count, if any. The ingresoEstudiantes without date are only counted
+     * when no term is given.
+     * @return the non-empty groups, ordered by carrera, modalidad, sede and term.
+     */
+    public List<IngresoStatsDTO> count(Set<Dimension> groupBy, Integer fromTerm, Integer toTerm) {
+        Snapshot current = snapshot();
+        boolean byCarrera = groupBy.contains(Dimension.CARRERA);
+        boolean byModalidad = groupBy.contains(Dimension.MODALIDAD);
+        boolean bySede = groupBy.contains(Dimension.SEDE);
+        boolean byTerm = groupBy.contains(Dimension.TERM);
+        boolean termRange = fromTerm != null || toTerm != null;
+        Map<Long, long[]> groups = new HashMap<>();
+        for (int i = 0; i < current.cube.cellCount(); i++) {
+            long key = current.cube.keyAt(i);
+            int term = IngresoStatsCube.term(key);
+            if (termRange && (term == 0 || (fromTerm != null && term < fromTerm) || (toTerm != null && term > toTerm))) {
+                continue;
+            }
+            int carrera = IngresoStatsCube.carrera(key);
+            long group = IngresoStatsCube.key(
+                byCarrera ? carrera : 0,
+                byModalidad ? current.modalidades[carrera] : 0,
+                bySede ? IngresoStatsCube.sede(key) : 0,
+                byTerm ? term : 0
+            );
+            groups.computeIfAbsent(group, k -> new long[1])[0] += current.cube.countAt(i);
+        }
+        long[] groupKeys = groups.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        List<IngresoStatsDTO> result = new ArrayList<>(groupKeys.length);
+        for (long group : groupKeys) {
+            int modalidad = IngresoStatsCube.modalidad(group);
+            int term = IngresoStatsCube.term(group);
+            result.add(
+                new IngresoStatsDTO(
+                    current.carreras.idAt(IngresoStatsCube.carrera(group)),
+                    current.sedes.idAt(IngresoStatsCube.sede(group)),
+                    modalidad == 0 ? null : MODALIDADES[modalidad - 1],
+                    term == 0 ? null : termName(term),
+                    groups.get(group)[0]
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Record a created, updated or deleted ingresoEstudiante, once the current transaction commits.
+     *
+     * @param before the cell of the ingresoEstudiante before the write, {@code null} if it is created.
+     * @param after the cell of the ingresoEstudiante after the write, {@code null} if it is deleted.
+     */
+    public void ingresoChanged(Cell before, Cell after) {
+        ingresosChanged(before == null ? List.of() : List.of(before), after == null ? List.of() : List.of(after));
+    }
+
+    /**
+     * Record created, updated or deleted ingresoEstudiantes, once the current transaction commits.
+     *
+     * @param removed the cells the ingresoEstudiantes leave.
+     * @param added the cells the ingresoEstudiantes enter.
+     */
+    public void ingresosChanged(List<Cell> removed, List<Cell> added) {
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            afterCommit(() -> applyChanges(removed, added));
+        }
+    }
+
+    /**
+     * Record the modalidad of a saved carrera, once the current transaction commits.
+     *
+     * @param carrera the saved carrera.
+     */
+    public void carreraSaved(Carrera carrera) {
+        long carreraId = carrera.getId();
+        byte modalidad = modalidadCode(carrera.getModalidad());
+        afterCommit(() -> replaceModalidad(carreraId, modalidad));
+    }
+
+    /**
+     * Get the cell counting an ingresoEstudiante, to be captured before it is updated or deleted.
+     *
+     * @param ingresoEstudiante the ingresoEstudiante.
+     * @return its cell.
+     */
+    public static Cell cellOf(IngresoEstudiante ingresoEstudiante) {
+        return new Cell(
+            ingresoEstudiante.getCarrera() != null ? ingresoEstudiante.getCarrera().getId() : null,
+            ingresoEstudiante.getSede() != null ? ingresoEstudiante.getSede().getId() : null,
+            termOf(ingresoEstudiante.getFechaIngreso())
+        );
+    }
+
+    /**
+     * Parse a term.
+     *
+     * @param term the term, as {@code 2024-1} or {@code 2024-2}.
+     * @return the code of the term.
+     * @throws IllegalArgumentException if the term is not valid.
+     */
+    public static int parseTerm(String term) {
+        Matcher matcher = TERM_PATTERN.matcher(term);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid term: " + term);
+        }
+        return termCode(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+
+    static int termOf(Instant date) {
+        if (date == null) {
+            return 0;
+        }
+        ZonedDateTime utc = date.atZone(ZoneOffset.UTC);
+        return termCode(utc.getYear(), utc.getMonthValue() <= 6 ? 1 : 2);
+    }
+
+    static int termCode(int year, int semester) {
+        return year * 2 + semester;
+    }
+
+    static String termName(int code) {
+        return (code - 1) / 2 + "-" + ((code - 1) % 2 + 1);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // Not holding this monitor, which the changes committed during the scan need
+            synchronized (rebuildLock) {
+                if (snapshot == null) {
+                    rebuild();
+                }
+            }
+            // Set by the rebuild, approximated if writes kept committing
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private synchronized void applyChanges(List<Cell> removed, List<Cell> added) {
+        changedWhileRebuilding |= rebuilding;
+        Snapshot current = snapshot;
+        if (current == null) {
+            // Not built yet, the changes will be read from the database
+            return;
+        }
+        IngresoStatsCube.Dictionary carreras = current.carreras;
+        IngresoStatsCube.Dictionary sedes = current.sedes;
+        for (Cell cell : added) {
+            // Removed cells are already in the dictionaries
+            if (cell.carreraId != null) {
+                carreras = carreras.with(cell.carreraId, IngresoStatsCube.MAX_CARRERAS);
+            }
+            if (cell.sedeId != null) {
+                sedes = sedes.with(cell.sedeId, IngresoStatsCube.MAX_SEDES);
+            }
+        }
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (Cell cell : removed) {
+            int carrera = carreras.indexOf(cell.carreraId);
+            int sede = sedes.indexOf(cell.sedeId);
+            if (carrera >= 0 && sede >= 0) {
+                deltas.merge(IngresoStatsCube.key(carrera, 0, sede, cell.term), -1L, Long::sum);
+            }
+        }
+        for (Cell cell : added) {
+            deltas.merge(IngresoStatsCube.key(carreras.indexOf(cell.carreraId), 0, sedes.indexOf(cell.sedeId), cell.term), 1L, Long::sum);
+        }
+        snapshot =
+            new Snapshot(
+                carreras,
+                Arrays.copyOf(current.modalidades, carreras.size() + 1),
+                sedes,
+                current.cube.with(
+                    deltas.keySet().stream().mapToLong(Long::longValue).toArray(),
+                    deltas.values().stream().mapToLong(Long::longValue).toArray()
+                )
+            );
+    }
+
+    private synchronized void replaceModalidad(long carreraId, byte modalidad) {
+        changedWhileRebuilding |= rebuilding;
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        IngresoStatsCube.Dictionary carreras = current.carreras.with(carreraId, IngresoStatsCube.MAX_CARRERAS);
+        byte[] modalidades = Arrays.copyOf(current.modalidades, carreras.size() + 1);
+        modalidades[carreras.indexOf(carreraId)] = modalidad;
+        snapshot = new Snapshot(carreras, modalidades, current.sedes, current.cube);
+    }
+
+    private Snapshot scan() {
+        Map<Long, Modalidad> modalidadByCarrera = new LinkedHashMap<>();
+        jdbcTemplate.query(
+            CARRERAS_QUERY,
+            (RowCallbackHandler) rs -> {
+                String modalidad = rs.getString(2);
+                modalidadByCarrera.put(rs.getLong(1), modalidad == null ? null : Modalidad.valueOf(modalidad));
+            }
+        );
+        IngresoStatsCube.Dictionary.Builder carreras = new IngresoStatsCube.Dictionary.Builder(IngresoStatsCube.MAX_CARRERAS);
+        modalidadByCarrera.keySet().forEach(carreras::add);
+        IngresoStatsCube.Dictionary.Builder sedes = new IngresoStatsCube.Dictionary.Builder(IngresoStatsCube.MAX_SEDES);
+        IngresoStatsCube.Builder cube = new IngresoStatsCube.Builder();
+        jdbcTemplate.query(
+            CELLS_QUERY,
+            (RowCallbackHandler) rs -> {
+                int carrera = carreras.add(nullableLong(rs.getLong(1), rs.wasNull()));
+                int sede = sedes.add(nullableLong(rs.getLong(2), rs.wasNull()));
+                int year = rs.getInt(3);
+                int term = rs.wasNull() ? 0 : termCode(year, rs.getInt(4));
+                cube.add(IngresoStatsCube.key(carrera, 0, sede, term), rs.getLong(5));
+            }
+        );
+        IngresoStatsCube.Dictionary carreraDictionary = carreras.build();
+        byte[] modalidades = new byte[carreraDictionary.size() + 1];
+        modalidadByCarrera.forEach((id, modalidad) -> modalidades[carreraDictionary.indexOf(id)] = modalidadCode(modalidad));
+        return new Snapshot(carreraDictionary, modalidades, sedes.build(), cube.build());
+    }
+
+    private static byte modalidadCode(Modalidad modalidad) {
+        return (byte) (modalidad == null ? 0 : modalidad.ordinal() + 1);
+    }
+
+    private static Long nullableLong(long value, boolean wasNull) {
+        return wasNull ? null : value;
+    }
+
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    private boolean committing;
+
+                    @Override
+                    public void beforeCommit(boolean readOnly) {
+                        committing = true;
+                        committingWrites.incrementAndGet();
+                    }
+
+                    @Override
+                    public void afterCommit() {
+                        update.run();
+                    }
+
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (committing) {
+                            committingWrites.decrementAndGet();
+                        }
+                    }
+                }
+            );
+        } else {
+            update.run();
+        }
+    }
+
+    /**
+     * The cell counting an ingresoEstudiante, by ids so that it can be applied after the transaction.
+     */
+    public static final class Cell {
+
+        private final Long carreraId;
+
+        private final Long sedeId;
+
+        private final int term;
+
+        private Cell(Long carreraId, Long sedeId, int term) {
+            this.carreraId = carreraId;
+            this.sedeId = sedeId;
+            this.term = term;
+        }
+    }
+
+    /**
+     * The dictionaries and the cube, swapped together so readers always see consistent indexes.
+     */
+    private static final class Snapshot {
+
+        private final IngresoStatsCube.Dictionary carreras;
+
+        /**
+         * The code of the modalidad of each carrera, by dictionary index.
+         */
+        private final byte[] modalidades;
+
+        private final IngresoStatsCube.Dictionary sedes;
+
+        private final IngresoStatsCube cube;
+
+        Snapshot(IngresoStatsCube.Dictionary carreras, byte[] modalidades, IngresoStatsCube.Dictionary sedes, IngresoStatsCube cube) {
+            this.carreras = carreras;
+            this.modalidades = modalidades;
+            this.sedes = sedes;
+            this.cube = cube;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.udea.service;
+
+import com.udea.config.ApplicationProperties;
+import com.udea.domain.MailOutboxMessage;
+import com.udea.domain.enumeration.MailOutboxStatus;
+import com.udea.repository.MailOutboxRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Service sending the emails of the outbox written by the {@link MailService}.
+ * <p>
+ * The due messages are locked and sent in batches, each batch over a single connection to the SMTP server. A message
+ * failing to be sent is retried with an exponential backoff, until {@code application.mail.max-attempts} is reached.
+ * Dispatches run on the single thread of the {@code mailTaskExecutor}: they are requested once a message is committed,
+ * and periodically to catch up with the retries.
+ */
+@Service
+public class MailOutboxDispatcher {
+
+    private final Logger log = LoggerFactory.getLogger(MailOutboxDispatcher.class);
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    private final JavaMailSender javaMailSender;
+
+    private final JHipsterProperties jHipsterProperties;
+
+    private final ApplicationProperties.Mail mailProperties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Executor mailTaskExecutor;
+
+    private final AtomicBoolean dispatchRequested = new AtomicBoolean();
+
+    public MailOutboxDispatcher(
+        MailOutboxRepository mailOutboxRepository,
+        JavaMailSender javaMailSender,
+        JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("mailTaskExecutor") Executor mailTaskExecutor
+    ) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.javaMailSender = javaMailSender;
+        this.jHipsterProperties = jHipsterProperties;
+        this.mailProperties = applicationProperties.getMail();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Dispatches can be requested from the afterCommit callback of the transaction writing the message
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.mailTaskExecutor = mailTaskExecutor;
+    }
+
+    /**
+     * Request a dispatch on the {@code mailTaskExecutor}, unless one is already waiting to start.
+     */
+    public void requestDispatch() {
+        if (dispatchRequested.compareAndSet(false, true)) {
+            try {
+                mailTaskExecutor.execute(this::runRequestedDispatch);
+            } catch (RejectedExecutionException e) {
+                dispatchRequested.set(false);
+                log.warn("Mail dispatch could not be started, the outbox will be polled again", e);
+            }
+        }
+    }
+
+    /**
+     * Poll the outbox for the messages due for a retry, and for the messages written by another instance.
+     */
+    @Scheduled(fixedDelayString = "${application.mail.poll-interval-ms:30000}")
+    public void pollOutbox() {
+        requestDispatch();
+    }
+
+    private void runRequestedDispatch() {
+        // Cleared before dispatching, so that a message committed meanwhile requests another dispatch
+        dispatchRequested.set(false);
+        dispatch();
+    }
+
+    /**
+     * Send the messages due for sending, batch by batch. Stops after a batch where nothing could be sent, the SMTP
+     * server being most likely unavailable.
+     *
+     * @return the number of messages sent.
+     */
+    public int dispatch() {
+        int sent = 0;
+        BatchResult batch;
+        do {
+            batch = transactionTemplate.execute(status -> dispatchBatch());
+            sent += batch.sent;
+        } while (batch.claimed == mailProperties.getBatchSize() && batch.sent > 0);
+        return sent;
+    }
+
+    private BatchResult dispatchBatch() {
+        Instant now = Instant.now();
+        List<MailOutboxMessage> messages = mailOutboxRepository.findDueForUpdate(
+            MailOutboxStatus.PENDING,
+            now,
+            PageRequest.of(0, mailProperties.getBatchSize())
+        );
+        if (messages.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        Map<MimeMessage, MailOutboxMessage> mimeMessages = new LinkedHashMap<>();
+        for (MailOutboxMessage message : messages) {
+            try {
+                mimeMessages.put(toMimeMessage(message), message);
+            } catch (MessagingException e) {
+                failed(message, e, now);
+            }
+        }
+
+        Map<Object, Exception> failures = Collections.emptyMap();
+        if (!mimeMessages.isEmpty()) {
+            try {
+                // Sends all the messages over a single connection, the failed ones being reported by the exception
+                javaMailSender.send(mimeMessages.keySet().toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                failures = e.getFailedMessages().isEmpty() ? allFailed(mimeMessages.keySet(), e) : e.getFailedMessages();
+            } catch (MailException e) {
+                failures = allFailed(mimeMessages.keySet(), e);
+            }
+        }
+
+        List<MailOutboxMessage> sent = new ArrayList<>();
+        for (Map.Entry<MimeMessage, MailOutboxMessage> entry : mimeMessages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                log.debug("Sent email to User '{}'", entry.getValue().getRecipient());
+                sent.add(entry.getValue());
+            } else {
+                failed(entry.getValue(), failure, now);
+            }
+        }
+        mailOutboxRepository.deleteAll(sent);
+        return new BatchResult(messages.size(), sent.size());
+    }
+
+    private MimeMessage toMimeMessage(MailOutboxMessage outboxMessage) throws MessagingException {
+        // Prepare message using a Spring helper
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper message = new MimeMessageHelper(mimeMessage, outboxMessage.isMultipart(), StandardCharsets.UTF_8.name());
+        message.setTo(outboxMessage.getRecipient());
+        message.setFrom(jHipsterProperties.getMail().getFrom());
+        message.setSubject(outboxMessage.getSubject());
+        message.setText(outboxMessage.getContent(), outboxMessage.isHtml());
+        return mimeMessage;
+    }
+
+    private void failed(MailOutboxMessage message, Exception e, Instant now) {
+        message.setAttempts(message.getAttempts() + 1);
+        message.setLastError(truncate(String.valueOf(e.getMessage())));
+        if (message.getAttempts() >= mailProperties.getMaxAttempts()) {
+            message.setStatus(MailOutboxStatus.FAILED);
+            log.error("Email could not be sent to user '{}' after {} attempts", message.getRecipient(), message.getAttempts(), e);
+        } else {
+            message.setNextAttemptAt(now.plus(mailProperties.getRetryBackoff().multipliedBy(1L << (message.getAttempts() - 1))));
+            log.warn("Email could not be sent to user '{}', retrying at {}", message.getRecipient(), message.getNextAttemptAt(), e);
+        }
+    }
+
+    private static Map<Object, Exception> allFailed(Iterable<MimeMessage> mimeMessages, Exception e) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        mimeMessages.forEach(mimeMessage -> failures.put(mimeMessage, e));
+        return failures;
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= MailOutboxMessage.LAST_ERROR_MAX_LENGTH ? error : error.substring(0, MailOutboxMessage.LAST_ERROR_MAX_LENGTH);
+    }
+
+    private static final class BatchResult {
+
+        private final int claimed;
+
+        private final int sent;
+
+        private BatchResult(int claimed, int sent) {
+            this.claimed = claimed;
+            this.sent = sent;
+        }
+    }
+}
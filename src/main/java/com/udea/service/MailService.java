@@ -1,18 +1,19 @@
 package com.udea.service;
 
+import com.udea.config.Constants;
+import com.udea.domain.MailOutboxMessage;
 import com.udea.domain.User;
-import java.nio.charset.StandardCharsets;
+import com.udea.repository.MailOutboxRepository;
+import java.util.List;
 import java.util.Locale;
-import javax.mail.MessagingException;
-import javax.mail.internet.MimeMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.MessageSource;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring5.SpringTemplateEngine;
 import tech.jhipster.config.JHipsterProperties;
@@ -20,7 +21,8 @@ import tech.jhipster.config.JHipsterProperties;
 /**
  * Service for sending emails.
  * <p>
- * We use the {@link Async} annotation to send emails asynchronously.
+ * Emails are rendered by the calling thread and written to the outbox, within the transaction of the caller if any, so
+ * that they are only sent once it commits. They are then sent asynchronously by the {@link MailOutboxDispatcher}.
  */
 @Service
 public class MailService {
@@ -31,9 +33,19 @@ public class MailService {
 
     private static final String BASE_URL = "baseUrl";
 
+    private static final String ACTIVATION_TEMPLATE = "mail/activationEmail";
+
+    private static final String CREATION_TEMPLATE = "mail/creationEmail";
+
+    private static final String PASSWORD_RESET_TEMPLATE = "mail/passwordResetEmail";
+
+    private static final List<String> TEMPLATES = List.of(ACTIVATION_TEMPLATE, CREATION_TEMPLATE, PASSWORD_RESET_TEMPLATE);
+
     private final JHipsterProperties jHipsterProperties;
 
-    private final JavaMailSender javaMailSender;
+    private final MailOutboxRepository mailOutboxRepository;
+
+    private final MailOutboxDispatcher mailOutboxDispatcher;
 
     private final MessageSource messageSource;
 
@@ -41,17 +53,38 @@ public class MailService {
 
     public MailService(
         JHipsterProperties jHipsterProperties,
-        JavaMailSender javaMailSender,
+        MailOutboxRepository mailOutboxRepository,
+        MailOutboxDispatcher mailOutboxDispatcher,
         MessageSource messageSource,
         SpringTemplateEngine templateEngine
     ) {
         this.jHipsterProperties = jHipsterProperties;
-        this.javaMailSender = javaMailSender;
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailOutboxDispatcher = mailOutboxDispatcher;
         this.messageSource = messageSource;
         this.templateEngine = templateEngine;
     }
 
-    @Async
+    /**
+     * Render the mail templates once at startup, so that their parsed form is in the template cache of Thymeleaf, when
+     * enabled, before the first email is requested.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpTemplates() {
+        User user = new User();
+        user.setLogin("warm-up");
+        Context context = new Context(Locale.forLanguageTag(Constants.DEFAULT_LANGUAGE));
+        context.setVariable(USER, user);
+        context.setVariable(BASE_URL, jHipsterProperties.getMail().getBaseUrl());
+        for (String template : TEMPLATES) {
+            try {
+                templateEngine.process(template, context);
+            } catch (RuntimeException e) {
+                log.warn("Mail template '{}' could not be warmed up", template, e);
+            }
+        }
+    }
+
     public void sendEmail(String to, String subject, String content, boolean isMultipart, boolean isHtml) {
         log.debug(
             "Send email[multipart '{}' and html '{}'] to '{}' with subject '{}' and content={}",
@@ -62,22 +95,23 @@ public class MailService {
             content
         );
 
-        // Prepare message using a Spring helper
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-        try {
-            MimeMessageHelper message = new MimeMessageHelper(mimeMessage, isMultipart, StandardCharsets.UTF_8.name());
-            message.setTo(to);
-            message.setFrom(jHipsterProperties.getMail().getFrom());
-            message.setSubject(subject);
-            message.setText(content, isHtml);
-            javaMailSender.send(mimeMessage);
-            log.debug("Sent email to User '{}'", to);
-        } catch (MailException | MessagingException e) {
-            log.warn("Email could not be sent to user '{}'", to, e);
+        mailOutboxRepository.save(
+            new MailOutboxMessage().recipient(to).subject(subject).content(content).multipart(isMultipart).html(isHtml)
+        );
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        mailOutboxDispatcher.requestDispatch();
+                    }
+                }
+            );
+        } else {
+            mailOutboxDispatcher.requestDispatch();
         }
     }
 
-    @Async
     public void sendEmailFromTemplate(User user, String templateName, String titleKey) {
         if (user.getEmail() == null) {
             log.debug("Email doesn't exist for user '{}'", user.getLogin());
@@ -92,21 +126,18 @@ public class MailService {
         sendEmail(user.getEmail(), subject, content, false, true);
     }
 
-    @Async
     public void sendActivationEmail(User user) {
         log.debug("Sending activation email to '{}'", user.getEmail());
-        sendEmailFromTemplate(user, "mail/activationEmail", "email.activation.title");
+        sendEmailFromTemplate(user, ACTIVATION_TEMPLATE, "email.activation.title");
     }
 
-    @Async
     public void sendCreationEmail(User user) {
         log.debug("Sending creation email to '{}'", user.getEmail());
-        sendEmailFromTemplate(user, "mail/creationEmail", "email.activation.title");
+        sendEmailFromTemplate(user, CREATION_TEMPLATE, "email.activation.title");
     }
 
-    @Async
     public void sendPasswordResetMail(User user) {
         log.debug("Sending password reset email to '{}'", user.getEmail());
-        sendEmailFromTemplate(user, "mail/passwordResetEmail", "email.reset.title");
+        sendEmailFromTemplate(user, PASSWORD_RESET_TEMPLATE, "email.reset.title");
     }
 }
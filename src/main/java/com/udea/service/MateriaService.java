@@ -0,0 +1,126 @@
+package com.udea.service;
+
+import com.udea.domain.Materia;
+import com.udea.repository.MateriaRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for managing {@link Materia}.
+ */
+@Service
+@Transactional
+public class MateriaService {
+
+    private final Logger log = LoggerFactory.getLogger(MateriaService.class);
+
+    private final MateriaRepository materiaRepository;
+
+    private final CurriculumIndexService curriculumIndexService;
+
+    public MateriaService(MateriaRepository materiaRepository, CurriculumIndexService curriculumIndexService) {
+        this.materiaRepository = materiaRepository;
+        this.curriculumIndexService = curriculumIndexService;
+    }
+
+    /**
+     * Save a materia.
+     *
+     * @param materia the entity to save.
+     * @return the persisted entity.
+     */
+    public Materia save(Materia materia) {
+        log.debug("Request to save Materia : {}", materia);
+        return materiaRepository.save(materia);
+    }
+
+    /**
+     * Update a materia, overwriting its current state. The version of the materia is checked when it has one.
+     *
+     * @param materia the entity to update.
+     * @param precondition the check of the current state of the materia, before it is overwritten.
+     * @return the persisted entity, with its incremented version, or empty if the materia does not exist.
+     */
+    public Optional<Materia> update(Materia materia, Consumer<Materia> precondition) {
+        log.debug("Request to update Materia : {}", materia);
+        return materiaRepository
+            .findById(materia.getId())
+            .map(current -> {
+                precondition.accept(current);
+                if (materia.getVersion() == null) {
+                    // Clients unaware of the version overwrite the current state
+                    materia.setVersion(current.getVersion());
+                }
+                // Flushed, so that the result holds the incremented version
+                return materiaRepository.saveAndFlush(materia);
+            });
+    }
+
+    /**
+     * Partially update a materia.
+     *
+     * @param materia the entity to update partially.
+     * @param precondition the check of the current state of the materia, before it is updated.
+     * @return the persisted entity, with its incremented version, or empty if the materia does not exist.
+     */
+    public Optional<Materia> partialUpdate(Materia materia, Consumer<Materia> precondition) {
+        log.debug("Request to partially update Materia : {}", materia);
+
+        return materiaRepository
+            .findById(materia.getId())
+            .map(existingMateria -> {
+                precondition.accept(existingMateria);
+                if (materia.getNombre() != null) {
+                    existingMateria.setNombre(materia.getNombre());
+                }
+                if (materia.getCreditos() != null) {
+                    existingMateria.setCreditos(materia.getCreditos());
+                }
+
+                return existingMateria;
+            })
+            .map(materiaRepository::saveAndFlush);
+    }
+
+    /**
+     * Get all the materias.
+     * <p>
+     * Read from the primary database: the result is kept in the query cache, where a lagging replica could leave the
+     * state preceding the last write.
+     *
+     * @return the list of entities.
+     */
+    @Transactional
+    public List<Materia> findAll() {
+        log.debug("Request to get all Materias");
+        return materiaRepository.findAll();
+    }
+
+    /**
+     * Get one materia by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Materia> findOne(Long id) {
+        log.debug("Request to get Materia : {}", id);
+        return materiaRepository.findById(id);
+    }
+
+    /**
+     * Delete the materia by id, and remove it from the curriculum index once committed.
+     *
+     * @param id the id of the entity.
+     */
+    public void delete(Long id) {
+        log.debug("Request to delete Materia : {}", id);
+        materiaRepository.deleteById(id);
+        curriculumIndexService.materiaDeleted(id);
+    }
+}
@@ -0,0 +1,154 @@
+package com.udea.service;
+
+import com.udea.domain.Pensum;
+import com.udea.repository.PensumRepository;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for managing {@link Pensum}.
+ */
+@Service
+@Transactional
+public class PensumService {
+
+    private final Logger log = LoggerFactory.getLogger(PensumService.class);
+
+    private final PensumRepository pensumRepository;
+
+    private final CurriculumIndexService curriculumIndexService;
+
+    private final ExpedienteService expedienteService;
+
+    public PensumService(
+        PensumRepository pensumRepository,
+        CurriculumIndexService curriculumIndexService,
+        ExpedienteService expedienteService
+    ) {
+        this.pensumRepository = pensumRepository;
+        this.curriculumIndexService = curriculumIndexService;
+        this.expedienteService = expedienteService;
+    }
+
+    /**
+     * Save a pensum, and update the curriculum index once committed.
+     *
+     * @param pensum the entity to save.
+     * @return the persisted entity.
+     */
+    public Pensum save(Pensum pensum) {
+        log.debug("Request to save Pensum : {}", pensum);
+        Pensum result = pensumRepository.save(pensum);
+        curriculumIndexService.pensumSaved(result);
+        return result;
+    }
+
+    /**
+     * Update a pensum, overwriting its current state, and update the curriculum index once committed. The version of
+     * the pensum is checked when it has one.
+     *
+     * @param pensum the entity to update.
+     * @param precondition the check of the current state of the pensum, with its materias, before it is overwritten.
+     * @return the persisted entity, with its incremented version, or empty if the pensum does not exist.
+     */
+    public Optional<Pensum> update(Pensum pensum, Consumer<Pensum> precondition) {
+        log.debug("Request to update Pensum : {}", pensum);
+        return pensumRepository
+            .findOneWithEagerRelationships(pensum.getId())
+            .map(current -> {
+                precondition.accept(current);
+                if (!Objects.equals(current.getNumero(), pensum.getNumero())) {
+                    // Shown by the expedientes of its estudiantes
+                    expedienteService.evictAll();
+                }
+                if (pensum.getVersion() == null) {
+                    // Clients unaware of the version overwrite the current state
+                    pensum.setVersion(current.getVersion());
+                }
+                // Flushed, so that the result holds the incremented version
+                Pensum result = pensumRepository.saveAndFlush(pensum);
+                curriculumIndexService.pensumSaved(result);
+                return result;
+            });
+    }
+
+    /**
+     * Partially update a pensum.
+     *
+     * @param pensum the entity to update partially.
+     * @param precondition the check of the current state of the pensum, with its materias, before it is updated.
+     * @return the persisted entity, with its incremented version, or empty if the pensum does not exist.
+     */
+    public Optional<Pensum> partialUpdate(Pensum pensum, Consumer<Pensum> precondition) {
+        log.debug("Request to partially update Pensum : {}", pensum);
+
+        return pensumRepository
+            .findOneWithEagerRelationships(pensum.getId())
+            .map(existingPensum -> {
+                precondition.accept(existingPensum);
+                if (pensum.getNumero() != null) {
+                    if (!pensum.getNumero().equals(existingPensum.getNumero())) {
+                        expedienteService.evictAll();
+                    }
+                    existingPensum.setNumero(pensum.getNumero());
+                }
+
+                return existingPensum;
+            })
+            .map(pensumRepository::saveAndFlush);
+    }
+
+    /**
+     * Get all the pensums.
+     *
+     * @param pageable the pagination information.
+     * @return the list of entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Pensum> findAll(Pageable pageable) {
+        log.debug("Request to get all Pensums");
+        return pensumRepository.findAll(pageable);
+    }
+
+    /**
+     * Get all the pensums with eager load of many-to-many relationships.
+     *
+     * @param pageable the pagination information.
+     * @return the list of entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Pensum> findAllWithEagerRelationships(Pageable pageable) {
+        log.debug("Request to get all Pensums with eager relationships");
+        return pensumRepository.findAllWithEagerRelationships(pageable);
+    }
+
+    /**
+     * Get one pensum by id, with its materias.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Pensum> findOne(Long id) {
+        log.debug("Request to get Pensum : {}", id);
+        return pensumRepository.findOneWithEagerRelationships(id);
+    }
+
+    /**
+     * Delete the pensum by id, and remove it from the curriculum index once committed.
+     *
+     * @param id the id of the entity.
+     */
+    public void delete(Long id) {
+        log.debug("Request to delete Pensum : {}", id);
+        pensumRepository.deleteById(id);
+        curriculumIndexService.pensumDeleted(id);
+    }
+}
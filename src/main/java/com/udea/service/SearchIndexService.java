@@ -0,0 +1,97 @@
+package com.udea.service;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service rebuilding the full-text indexes from the database.
+ * <p>
+ * Entities are indexed as they are saved, so a rebuild is only needed when the indexes are lost or when rows are
+ * changed outside of the application. It runs automatically at startup when the indexes are empty.
+ */
+@Service
+public class SearchIndexService {
+
+    private static final int THREADS_TO_LOAD_OBJECTS = 2;
+
+    private static final int BATCH_SIZE_TO_LOAD_OBJECTS = 25;
+
+    private final Logger log = LoggerFactory.getLogger(SearchIndexService.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final Executor jobTaskExecutor;
+
+    private final AtomicBoolean reindexing = new AtomicBoolean();
+
+    public SearchIndexService(EntityManagerFactory entityManagerFactory, @Qualifier("jobTaskExecutor") Executor jobTaskExecutor) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jobTaskExecutor = jobTaskExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (isIndexEmpty()) {
+            log.info("Search indexes are empty, rebuilding them");
+            reindex();
+        }
+    }
+
+    /**
+     * Rebuild all the full-text indexes in the background.
+     *
+     * @return {@code false} if a rebuild is already running.
+     */
+    public boolean reindex() {
+        if (!reindexing.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            jobTaskExecutor.execute(this::massIndex);
+        } catch (RuntimeException e) {
+            reindexing.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    private boolean isIndexEmpty() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            SearchSession searchSession = Search.session(entityManager);
+            return searchSession.search(searchSession.scope(Object.class)).where(f -> f.matchAll()).fetchTotalHitCount() == 0;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private void massIndex() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            long start = System.currentTimeMillis();
+            Search
+                .session(entityManager)
+                .massIndexer()
+                .threadsToLoadObjects(THREADS_TO_LOAD_OBJECTS)
+                .batchSizeToLoadObjects(BATCH_SIZE_TO_LOAD_OBJECTS)
+                .startAndWait();
+            log.info("Rebuilt search indexes in {} ms", System.currentTimeMillis() - start);
+        } catch (InterruptedException e) {
+            log.warn("Search indexes rebuild interrupted");
+            Thread.currentThread().interrupt();
+        } finally {
+            entityManager.close();
+            reindexing.set(false);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.udea.service;
+
+import com.udea.domain.Sede;
+import com.udea.repository.SedeRepository;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for managing {@link Sede}.
+ */
+@Service
+@Transactional
+public class SedeService {
+
+    private final Logger log = LoggerFactory.getLogger(SedeService.class);
+
+    private final SedeRepository sedeRepository;
+
+    private final ExpedienteService expedienteService;
+
+    public SedeService(SedeRepository sedeRepository, ExpedienteService expedienteService) {
+        this.sedeRepository = sedeRepository;
+        this.expedienteService = expedienteService;
+    }
+
+    /**
+     * Save a sede.
+     *
+     * @param sede the entity to save.
+     * @return the persisted entity.
+     */
+    public Sede save(Sede sede) {
+        log.debug("Request to save Sede : {}", sede);
+        return sedeRepository.save(sede);
+    }
+
+    /**
+     * Update a sede, overwriting its current state. The version of the sede is checked when it has one.
+     *
+     * @param sede the entity to update.
+     * @param precondition the check of the current state of the sede, before it is overwritten.
+     * @return the persisted entity, with its incremented version, or empty if the sede does not exist.
+     */
+    public Optional<Sede> update(Sede sede, Consumer<Sede> precondition) {
+        log.debug("Request to update Sede : {}", sede);
+        return sedeRepository
+            .findById(sede.getId())
+            .map(current -> {
+                precondition.accept(current);
+                if (!Objects.equals(current.getNombre(), sede.getNombre())) {
+                    // Shown by the expedientes of its estudiantes
+                    expedienteService.evictAll();
+                }
+                if (sede.getVersion() == null) {
+                    // Clients unaware of the version overwrite the current state
+                    sede.setVersion(current.getVersion());
+                }
+                // Flushed, so that the result holds the incremented version
+                return sedeRepository.saveAndFlush(sede);
+            });
+    }
+
+    /**
+     * Partially update a sede.
+     *
+     * @param sede the entity to update partially.
+     * @param precondition the check of the current state of the sede, before it is updated.
+     * @return the persisted entity, with its incremented version, or empty if the sede does not exist.
+     */
+    public Optional<Sede> partialUpdate(Sede sede, Consumer<Sede> precondition) {
+        log.debug("Request to partially update Sede : {}", sede);
+
+        return sedeRepository
+            .findById(sede.getId())
+            .map(existingSede -> {
+                precondition.accept(existingSede);
+                if (sede.getNombre() != null) {
+                    if (!sede.getNombre().equals(existingSede.getNombre())) {
+                        expedienteService.evictAll();
+                    }
+                    existingSede.setNombre(sede.getNombre());
+                }
+                if (sede.getDireccion() != null) {
+                    existingSede.setDireccion(sede.getDireccion());
+                }
+
+                return existingSede;
+            })
+            .map(sedeRepository::saveAndFlush);
+    }
+
+    /**
+     * Get all the sedes.
+     * <p>
+     * Read from the primary database: the result is kept in the query cache, where a lagging replica could leave the
+     * state preceding the last write.
+     *
+     * @return the list of entities.
+     */
+    @Transactional
+    public List<Sede> findAll() {
+        log.debug("Request to get all Sedes");
+        return sedeRepository.findAll();
+    }
+
+    /**
+     * Get one sede by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Sede> findOne(Long id) {
+        log.debug("Request to get Sede : {}", id);
+        return sedeRepository.findById(id);
+    }
+
+    /**
+     * Delete the sede by id.
+     *
+     * @param id the id of the entity.
+     */
+    public void delete(Long id) {
+        log.debug("Request to delete Sede : {}", id);
+        sedeRepository.deleteById(id);
+    }
+}
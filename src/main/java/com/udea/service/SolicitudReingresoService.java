@@ -0,0 +1,163 @@
+package com.udea.service;
+
+import com.udea.domain.SolicitudReingreso;
+import com.udea.repository.SolicitudReingresoRepository;
+import com.udea.repository.search.SolicitudReingresoSearchRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for managing {@link SolicitudReingreso}.
+ */
+@Service
+@Transactional
+public class SolicitudReingresoService {
+
+    private final Logger log = LoggerFactory.getLogger(SolicitudReingresoService.class);
+
+    private final SolicitudReingresoRepository solicitudReingresoRepository;
+
+    private final SolicitudReingresoSearchRepository solicitudReingresoSearchRepository;
+
+    private final ExpedienteService expedienteService;
+
+    private final AdmissionRollupService admissionRollupService;
+
+    public SolicitudReingresoService(
+        SolicitudReingresoRepository solicitudReingresoRepository,
+        SolicitudReingresoSearchRepository solicitudReingresoSearchRepository,
+        ExpedienteService expedienteService,
+        AdmissionRollupService admissionRollupService
+    ) {
+        this.solicitudReingresoRepository = solicitudReingresoRepository;
+        this.solicitudReingresoSearchRepository = solicitudReingresoSearchRepository;
+        this.expedienteService = expedienteService;
+        this.admissionRollupService = admissionRollupService;
+    }
+
+    /**
+     * Save a solicitudReingreso, and count it in the rollups.
+     *
+     * @param solicitudReingreso the entity to save.
+     * @return the persisted entity.
+     */
+    public SolicitudReingreso save(SolicitudReingreso solicitudReingreso) {
+        log.debug("Request to save SolicitudReingreso : {}", solicitudReingreso);
+        expedienteService.evict(estudianteId(solicitudReingreso));
+        SolicitudReingreso result = solicitudReingresoRepository.save(solicitudReingreso);
+        admissionRollupService.recordChange(AdmissionRollupService.Series.REINGRESO, null, result.getFechaSolicitud());
+        return result;
+    }
+
+    /**
+     * Update a solicitudReingreso, and move it in the rollups.
+     *
+     * @param solicitudReingreso the entity to save.
+     * @return the persisted entity.
+     */
+    public SolicitudReingreso update(SolicitudReingreso solicitudReingreso) {
+        log.debug("Request to update SolicitudReingreso : {}", solicitudReingreso);
+        Optional<SolicitudReingreso> current = solicitudReingresoRepository.findById(solicitudReingreso.getId());
+        // The estudiante may change, both expedientes are evicted
+        expedienteService.evict(current.map(SolicitudReingresoService::estudianteId).orElse(null), estudianteId(solicitudReingreso));
+        // Captured before the merge overwrites the current state
+        Instant fechaSolicitudBefore = current.map(SolicitudReingreso::getFechaSolicitud).orElse(null);
+        SolicitudReingreso result = solicitudReingresoRepository.save(solicitudReingreso);
+        admissionRollupService.recordChange(AdmissionRollupService.Series.REINGRESO, fechaSolicitudBefore, result.getFechaSolicitud());
+        return result;
+    }
+
+    /**
+     * Partially update a solicitudReingreso, and move it in the rollups.
+     *
+     * @param solicitudReingreso the entity to update partially.
+     * @return the persisted entity.
+     */
+    public Optional<SolicitudReingreso> partialUpdate(SolicitudReingreso solicitudReingreso) {
+        log.debug("Request to partially update SolicitudReingreso : {}", solicitudReingreso);
+
+        return solicitudReingresoRepository
+            .findById(solicitudReingreso.getId())
+            .map(existingSolicitudReingreso -> {
+                expedienteService.evict(estudianteId(existingSolicitudReingreso));
+                Instant fechaSolicitudBefore = existingSolicitudReingreso.getFechaSolicitud();
+                if (solicitudReingreso.getFechaSolicitud() != null) {
+                    existingSolicitudReingreso.setFechaSolicitud(solicitudReingreso.getFechaSolicitud());
+                }
+                if (solicitudReingreso.getMotivo() != null) {
+                    existingSolicitudReingreso.setMotivo(solicitudReingreso.getMotivo());
+                }
+
+                SolicitudReingreso result = solicitudReingresoRepository.save(existingSolicitudReingreso);
+                admissionRollupService.recordChange(
+                    AdmissionRollupService.Series.REINGRESO,
+                    fechaSolicitudBefore,
+                    result.getFechaSolicitud()
+                );
+                return result;
+            });
+    }
+
+    /**
+     * Get all the solicitudReingresos.
+     *
+     * @return the list of entities.
+     */
+    @Transactional(readOnly = true)
+    public List<SolicitudReingreso> findAll() {
+        log.debug("Request to get all SolicitudReingresos");
+        return solicitudReingresoRepository.findAll();
+    }
+
+    /**
+     * Get one solicitudReingreso by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<SolicitudReingreso> findOne(Long id) {
+        log.debug("Request to get SolicitudReingreso : {}", id);
+        return solicitudReingresoRepository.findById(id);
+    }
+
+    /**
+     * Search for the solicitudReingresos corresponding to the query, by relevance.
+     *
+     * @param query the query of the search.
+     * @param pageable the pagination information.
+     * @return the list of entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<SolicitudReingreso> search(String query, Pageable pageable) {
+        log.debug("Request to search for a page of SolicitudReingresos for query {}", query);
+        return solicitudReingresoSearchRepository.search(query, pageable);
+    }
+
+    /**
+     * Delete the solicitudReingreso by id, and remove it from the rollups.
+     *
+     * @param id the id of the entity.
+     */
+    public void delete(Long id) {
+        log.debug("Request to delete SolicitudReingreso : {}", id);
+        solicitudReingresoRepository
+            .findById(id)
+            .ifPresent(current -> {
+                expedienteService.evict(estudianteId(current));
+                admissionRollupService.recordChange(AdmissionRollupService.Series.REINGRESO, current.getFechaSolicitud(), null);
+            });
+        solicitudReingresoRepository.deleteById(id);
+    }
+
+    static Long estudianteId(SolicitudReingreso solicitudReingreso) {
+        return solicitudReingreso != null && solicitudReingreso.getEstudiante() != null ? solicitudReingreso.getEstudiante().getId() : null;
+    }
+}
@@ -9,19 +9,27 @@ import com.udea.security.AuthoritiesConstants;
 import com.udea.security.SecurityUtils;
 import com.udea.service.dto.AdminUserDTO;
 import com.udea.service.dto.UserDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import tech.jhipster.security.RandomUtil;
 
 /**
@@ -31,6 +39,15 @@ import tech.jhipster.security.RandomUtil;
 @Transactional
 public class UserService {
 
+    public static final String PURGE_METER_NAME = "users.not-activated.purge";
+    public static final String PURGE_METER_DESCRIPTION = "Indicates the time taken to delete the not activated users.";
+
+    public static final String PURGED_METER_NAME = "users.not-activated.purged";
+    public static final String PURGED_METER_DESCRIPTION = "Indicates how many not activated users were deleted.";
+    public static final String PURGED_METER_BASE_UNIT = "users";
+
+    private static final int PURGE_BATCH_SIZE = 500;
+
     private final Logger log = LoggerFactory.getLogger(UserService.class);
 
     private final UserRepository userRepository;
@@ -41,16 +58,32 @@ public class UserService {
 
     private final CacheManager cacheManager;
 
+    private final TransactionTemplate purgeTransactionTemplate;
+
+    private final Timer purgeTimer;
+
+    private final Counter purgedCounter;
+
     public UserService(
         UserRepository userRepository,
         PasswordEncoder passwordEncoder,
         AuthorityRepository authorityRepository,
-        CacheManager cacheManager
+        CacheManager cacheManager,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
     ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authorityRepository = authorityRepository;
         this.cacheManager = cacheManager;
+        this.purgeTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.purgeTimer = Timer.builder(PURGE_METER_NAME).description(PURGE_METER_DESCRIPTION).register(meterRegistry);
+        this.purgedCounter =
+            Counter
+                .builder(PURGED_METER_NAME)
+                .baseUnit(PURGED_METER_BASE_UNIT)
+                .description(PURGED_METER_DESCRIPTION)
+                .register(meterRegistry);
     }
 
     public Optional<User> activateRegistration(String key) {
@@ -294,17 +327,40 @@ public class UserService {
     /**
      * Not activated users should be automatically deleted after 3 days.
      * <p>
-     * This is scheduled to get fired everyday, at 01:00 (am).
+     * This is scheduled to get fired everyday, at 01:00 (am). The users are deleted by chunks of consecutive ids, with
+     * set-based statements in one short transaction per chunk, joining the transaction of the caller if any.
      */
     @Scheduled(cron = "0 0 1 * * ?")
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void removeNotActivatedUsers() {
-        userRepository
-            .findAllByActivatedIsFalseAndActivationKeyIsNotNullAndCreatedDateBefore(Instant.now().minus(3, ChronoUnit.DAYS))
-            .forEach(user -> {
-                log.debug("Deleting not activated user {}", user.getLogin());
-                userRepository.delete(user);
-                this.clearUserCaches(user);
-            });
+        Instant createdBefore = Instant.now().minus(3, ChronoUnit.DAYS);
+        long start = System.currentTimeMillis();
+        long purged = 0;
+        long lastId = 0;
+        List<Long> ids;
+        do {
+            ids = userRepository.findIdsOfNotActivatedUsersCreatedBefore(createdBefore, lastId, PageRequest.of(0, PURGE_BATCH_SIZE));
+            if (!ids.isEmpty()) {
+                long fromId = lastId;
+                long toId = ids.get(ids.size() - 1);
+                // The conditions are checked again, a user activated in the meantime is kept
+                purged +=
+                    purgeTransactionTemplate.execute(status -> {
+                        userRepository.deleteAuthoritiesOfNotActivatedUsersCreatedBefore(createdBefore, fromId, toId);
+                        return userRepository.deleteNotActivatedUsersCreatedBefore(createdBefore, fromId, toId);
+                    });
+                lastId = toId;
+            }
+        } while (ids.size() == PURGE_BATCH_SIZE);
+
+        if (purged > 0) {
+            Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE)).clear();
+            Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_EMAIL_CACHE)).clear();
+        }
+        long duration = System.currentTimeMillis() - start;
+        purgeTimer.record(duration, TimeUnit.MILLISECONDS);
+        purgedCounter.increment(purged);
+        log.info("Deleted {} not activated users in {} ms", purged, duration);
     }
 
     /**
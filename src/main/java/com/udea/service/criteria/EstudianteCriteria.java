@@ -0,0 +1,191 @@
+package com.udea.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.api.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.udea.domain.Estudiante} entity. This class is used
+ * in {@link com.udea.web.rest.EstudianteResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /estudiantes?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class EstudianteCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter nombre;
+
+    private StringFilter apellido;
+
+    private InstantFilter fechaNacimiento;
+
+    private StringFilter correo;
+
+    private StringFilter direccion;
+
+    private Boolean distinct;
+
+    public EstudianteCriteria() {}
+
+    public EstudianteCriteria(EstudianteCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.nombre = other.nombre == null ? null : other.nombre.copy();
+        this.apellido = other.apellido == null ? null : other.apellido.copy();
+        this.fechaNacimiento = other.fechaNacimiento == null ? null : other.fechaNacimiento.copy();
+        this.correo = other.correo == null ? null : other.correo.copy();
+        this.direccion = other.direccion == null ? null : other.direccion.copy();
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public EstudianteCriteria copy() {
+        return new EstudianteCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getNombre() {
+        return nombre;
+    }
+
+    public StringFilter nombre() {
+        if (nombre == null) {
+            nombre = new StringFilter();
+        }
+        return nombre;
+    }
+
+    public void setNombre(StringFilter nombre) {
+        this.nombre = nombre;
+    }
+
+    public StringFilter getApellido() {
+        return apellido;
+    }
+
+    public StringFilter apellido() {
+        if (apellido == null) {
+            apellido = new StringFilter();
+        }
+        return apellido;
+    }
+
+    public void setApellido(StringFilter apellido) {
+        this.apellido = apellido;
+    }
+
+    public InstantFilter getFechaNacimiento() {
+        return fechaNacimiento;
+    }
+
+    public InstantFilter fechaNacimiento() {
+        if (fechaNacimiento == null) {
+            fechaNacimiento = new InstantFilter();
+        }
+        return fechaNacimiento;
+    }
+
+    public void setFechaNacimiento(InstantFilter fechaNacimiento) {
+        this.fechaNacimiento = fechaNacimiento;
+    }
+
+    public StringFilter getCorreo() {
+        return correo;
+    }
+
+    public StringFilter correo() {
+        if (correo == null) {
+            correo = new StringFilter();
+        }
+        return correo;
+    }
+
+    public void setCorreo(StringFilter correo) {
+        this.correo = correo;
+    }
+
+    public StringFilter getDireccion() {
+        return direccion;
+    }
+
+    public StringFilter direccion() {
+        if (direccion == null) {
+            direccion = new StringFilter();
+        }
+        return direccion;
+    }
+
+    public void setDireccion(StringFilter direccion) {
+        this.direccion = direccion;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final EstudianteCriteria that = (EstudianteCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(nombre, that.nombre) &&
+            Objects.equals(apellido, that.apellido) &&
+            Objects.equals(fechaNacimiento, that.fechaNacimiento) &&
+            Objects.equals(correo, that.correo) &&
+            Objects.equals(direccion, that.direccion) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, nombre, apellido, fechaNacimiento, correo, direccion, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "EstudianteCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (nombre != null ? "nombre=" + nombre + ", " : "") +
+            (apellido != null ? "apellido=" + apellido + ", " : "") +
+            (fechaNacimiento != null ? "fechaNacimiento=" + fechaNacimiento + ", " : "") +
+            (correo != null ? "correo=" + correo + ", " : "") +
+            (direccion != null ? "direccion=" + direccion + ", " : "") +
+            (distinct != null ? "distinct=" + distinct + ", " : "") +
+            "}";
+    }
+}
@@ -0,0 +1,62 @@
+package com.udea.service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * A DTO representing the number of admissions or readmission requests of a period of a time series.
+ */
+public class AdmissionBucketDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String period;
+
+    private LocalDate start;
+
+    private long count;
+
+    public AdmissionBucketDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public AdmissionBucketDTO(String period, LocalDate start, long count) {
+        this.period = period;
+        this.start = start;
+        this.count = count;
+    }
+
+    public String getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(String period) {
+        this.period = period;
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public void setStart(LocalDate start) {
+        this.start = start;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "AdmissionBucketDTO{" +
+            "period='" + period + "'" +
+            ", start='" + start + "'" +
+            ", count=" + count +
+            "}";
+    }
+}
@@ -0,0 +1,90 @@
+package com.udea.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A DTO representing the outcome of one item of a bulk request.
+ */
+public class BulkItemResultDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The outcome of an item.
+     */
+    public enum Status {
+        CREATED,
+        REJECTED,
+    }
+
+    private int index;
+
+    private Long id;
+
+    private Status status;
+
+    private String errorKey;
+
+    public BulkItemResultDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public static BulkItemResultDTO created(int index, Long id) {
+        BulkItemResultDTO result = new BulkItemResultDTO();
+        result.setIndex(index);
+        result.setId(id);
+        result.setStatus(Status.CREATED);
+        return result;
+    }
+
+    public static BulkItemResultDTO rejected(int index, String errorKey) {
+        BulkItemResultDTO result = new BulkItemResultDTO();
+        result.setIndex(index);
+        result.setStatus(Status.REJECTED);
+        result.setErrorKey(errorKey);
+        return result;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public String getErrorKey() {
+        return errorKey;
+    }
+
+    public void setErrorKey(String errorKey) {
+        this.errorKey = errorKey;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BulkItemResultDTO{" +
+            "index=" + index +
+            ", id=" + id +
+            ", status=" + status +
+            ", errorKey='" + errorKey + '\'' +
+            "}";
+    }
+}
@@ -0,0 +1,325 @@
+package com.udea.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A DTO representing the admission history of a {@link com.udea.domain.Estudiante}: its
+ * {@link com.udea.domain.IngresoEstudiante} and {@link com.udea.domain.SolicitudReingreso}, each with its document.
+ * The relationships absent for the estudiante are omitted.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ExpedienteDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private String nombre;
+
+    private String apellido;
+
+    private Instant fechaNacimiento;
+
+    private String correo;
+
+    private String direccion;
+
+    private IngresoDTO ingreso;
+
+    private ReingresoDTO reingreso;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public String getApellido() {
+        return apellido;
+    }
+
+    public void setApellido(String apellido) {
+        this.apellido = apellido;
+    }
+
+    public Instant getFechaNacimiento() {
+        return fechaNacimiento;
+    }
+
+    public void setFechaNacimiento(Instant fechaNacimiento) {
+        this.fechaNacimiento = fechaNacimiento;
+    }
+
+    public String getCorreo() {
+        return correo;
+    }
+
+    public void setCorreo(String correo) {
+        this.correo = correo;
+    }
+
+    public String getDireccion() {
+        return direccion;
+    }
+
+    public void setDireccion(String direccion) {
+        this.direccion = direccion;
+    }
+
+    public IngresoDTO getIngreso() {
+        return ingreso;
+    }
+
+    public void setIngreso(IngresoDTO ingreso) {
+        this.ingreso = ingreso;
+    }
+
+    public ReingresoDTO getReingreso() {
+        return reingreso;
+    }
+
+    public void setReingreso(ReingresoDTO reingreso) {
+        this.reingreso = reingreso;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ExpedienteDTO{" +
+            "id=" + id +
+            ", ingreso=" + ingreso +
+            ", reingreso=" + reingreso +
+            "}";
+    }
+
+    /**
+     * The {@link com.udea.domain.IngresoEstudiante} of the estudiante, with the ids and display names of its relationships.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class IngresoDTO implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Long id;
+
+        private Instant fechaIngreso;
+
+        private Long carreraId;
+
+        private String carreraNombre;
+
+        private Long sedeId;
+
+        private String sedeNombre;
+
+        private Long pensumId;
+
+        private Long pensumNumero;
+
+        private DocumentoDTO documento;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Instant getFechaIngreso() {
+            return fechaIngreso;
+        }
+
+        public void setFechaIngreso(Instant fechaIngreso) {
+            this.fechaIngreso = fechaIngreso;
+        }
+
+        public Long getCarreraId() {
+            return carreraId;
+        }
+
+        public void setCarreraId(Long carreraId) {
+            this.carreraId = carreraId;
+        }
+
+        public String getCarreraNombre() {
+            return carreraNombre;
+        }
+
+        public void setCarreraNombre(String carreraNombre) {
+            this.carreraNombre = carreraNombre;
+        }
+
+        public Long getSedeId() {
+            return sedeId;
+        }
+
+        public void setSedeId(Long sedeId) {
+            this.sedeId = sedeId;
+        }
+
+        public String getSedeNombre() {
+            return sedeNombre;
+        }
+
+        public void setSedeNombre(String sedeNombre) {
+            this.sedeNombre = sedeNombre;
+        }
+
+        public Long getPensumId() {
+            return pensumId;
+        }
+
+        public void setPensumId(Long pensumId) {
+            this.pensumId = pensumId;
+        }
+
+        public Long getPensumNumero() {
+            return pensumNumero;
+        }
+
+        public void setPensumNumero(Long pensumNumero) {
+            this.pensumNumero = pensumNumero;
+        }
+
+        public DocumentoDTO getDocumento() {
+            return documento;
+        }
+
+        public void setDocumento(DocumentoDTO documento) {
+            this.documento = documento;
+        }
+
+        // prettier-ignore
+        @Override
+        public String toString() {
+            return "IngresoDTO{" +
+                "id=" + id +
+                ", fechaIngreso='" + fechaIngreso + "'" +
+                ", carreraId=" + carreraId +
+                ", sedeId=" + sedeId +
+                ", pensumId=" + pensumId +
+                ", documento=" + documento +
+                "}";
+        }
+    }
+
+    /**
+     * The {@link com.udea.domain.SolicitudReingreso} of the estudiante.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ReingresoDTO implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Long id;
+
+        private Instant fechaSolicitud;
+
+        private String motivo;
+
+        private DocumentoDTO documento;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Instant getFechaSolicitud() {
+            return fechaSolicitud;
+        }
+
+        public void setFechaSolicitud(Instant fechaSolicitud) {
+            this.fechaSolicitud = fechaSolicitud;
+        }
+
+        public String getMotivo() {
+            return motivo;
+        }
+
+        public void setMotivo(String motivo) {
+            this.motivo = motivo;
+        }
+
+        public DocumentoDTO getDocumento() {
+            return documento;
+        }
+
+        public void setDocumento(DocumentoDTO documento) {
+            this.documento = documento;
+        }
+
+        // prettier-ignore
+        @Override
+        public String toString() {
+            return "ReingresoDTO{" +
+                "id=" + id +
+                ", fechaSolicitud='" + fechaSolicitud + "'" +
+                ", documento=" + documento +
+                "}";
+        }
+    }
+
+    /**
+     * A {@link com.udea.domain.DocumentoIngresoEstudiante} or {@link com.udea.domain.DocumentoReingresoEstudiante}.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class DocumentoDTO implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Long id;
+
+        private String nombreDocumento;
+
+        private String descripcionDocumento;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getNombreDocumento() {
+            return nombreDocumento;
+        }
+
+        public void setNombreDocumento(String nombreDocumento) {
+            this.nombreDocumento = nombreDocumento;
+        }
+
+        public String getDescripcionDocumento() {
+            return descripcionDocumento;
+        }
+
+        public void setDescripcionDocumento(String descripcionDocumento) {
+            this.descripcionDocumento = descripcionDocumento;
+        }
+
+        // prettier-ignore
+        @Override
+        public String toString() {
+            return "DocumentoDTO{" +
+                "id=" + id +
+                ", nombreDocumento='" + nombreDocumento + "'" +
+                "}";
+        }
+    }
+}
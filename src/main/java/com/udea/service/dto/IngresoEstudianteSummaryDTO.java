@@ -0,0 +1,165 @@
+package com.udea.service.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A flat DTO summarizing a {@link com.udea.domain.IngresoEstudiante}, with only the ids and display names of its relationships.
+ */
+public class IngresoEstudianteSummaryDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Instant fechaIngreso;
+
+    private Long estudianteId;
+
+    private String estudianteNombre;
+
+    private String estudianteApellido;
+
+    private Long carreraId;
+
+    private String carreraNombre;
+
+    private Long sedeId;
+
+    private String sedeNombre;
+
+    private Long pensumId;
+
+    private Long pensumNumero;
+
+    public IngresoEstudianteSummaryDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public IngresoEstudianteSummaryDTO(
+        Long id,
+        Instant fechaIngreso,
+        Long estudianteId,
+        String estudianteNombre,
+        String estudianteApellido,
+        Long carreraId,
+        String carreraNombre,
+        Long sedeId,
+        String sedeNombre,
+        Long pensumId,
+        Long pensumNumero
+    ) {
+        this.id = id;
+        this.fechaIngreso = fechaIngreso;
+        this.estudianteId = estudianteId;
+        this.estudianteNombre = estudianteNombre;
+        this.estudianteApellido = estudianteApellido;
+        this.carreraId = carreraId;
+        this.carreraNombre = carreraNombre;
+        this.sedeId = sedeId;
+        this.sedeNombre = sedeNombre;
+        this.pensumId = pensumId;
+        this.pensumNumero = pensumNumero;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Instant getFechaIngreso() {
+        return fechaIngreso;
+    }
+
+    public void setFechaIngreso(Instant fechaIngreso) {
+        this.fechaIngreso = fechaIngreso;
+    }
+
+    public Long getEstudianteId() {
+        return estudianteId;
+    }
+
+    public void setEstudianteId(Long estudianteId) {
+        this.estudianteId = estudianteId;
+    }
+
+    public String getEstudianteNombre() {
+        return estudianteNombre;
+    }
+
+    public void setEstudianteNombre(String estudianteNombre) {
+        this.estudianteNombre = estudianteNombre;
+    }
+
+    public String getEstudianteApellido() {
+        return estudianteApellido;
+    }
+
+    public void setEstudianteApellido(String estudianteApellido) {
+        this.estudianteApellido = estudianteApellido;
+    }
+
+    public Long getCarreraId() {
+        return carreraId;
+    }
+
+    public void setCarreraId(Long carreraId) {
+        this.carreraId = carreraId;
+    }
+
+    public String getCarreraNombre() {
+        return carreraNombre;
+    }
+
+    public void setCarreraNombre(String carreraNombre) {
+        this.carreraNombre = carreraNombre;
+    }
+
+    public Long getSedeId() {
+        return sedeId;
+    }
+
+    public void setSedeId(Long sedeId) {
+        this.sedeId = sedeId;
+    }
+
+    public String getSedeNombre() {
+        return sedeNombre;
+    }
+
+    public void setSedeNombre(String sedeNombre) {
+        this.sedeNombre = sedeNombre;
+    }
+
+    public Long getPensumId() {
+        return pensumId;
+    }
+
+    public void setPensumId(Long pensumId) {
+        this.pensumId = pensumId;
+    }
+
+    public Long getPensumNumero() {
+        return pensumNumero;
+    }
+
+    public void setPensumNumero(Long pensumNumero) {
+        this.pensumNumero = pensumNumero;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "IngresoEstudianteSummaryDTO{" +
+            "id=" + id +
+            ", fechaIngreso='" + fechaIngreso + "'" +
+            ", estudianteId=" + estudianteId +
+            ", carreraId=" + carreraId +
+            ", sedeId=" + sedeId +
+            ", pensumId=" + pensumId +
+            "}";
+    }
+}
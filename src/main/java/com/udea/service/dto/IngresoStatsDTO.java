@@ -0,0 +1,89 @@
+package com.udea.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.udea.domain.enumeration.Modalidad;
+import java.io.Serializable;
+
+/**
+ * A DTO representing the number of {@link com.udea.domain.IngresoEstudiante} of a group of the enrollment statistics.
+ * Only the dimensions the statistics are grouped by are set.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IngresoStatsDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long carreraId;
+
+    private Long sedeId;
+
+    private Modalidad modalidad;
+
+    private String term;
+
+    private long count;
+
+    public IngresoStatsDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public IngresoStatsDTO(Long carreraId, Long sedeId, Modalidad modalidad, String term, long count) {
+        this.carreraId = carreraId;
+        this.sedeId = sedeId;
+        this.modalidad = modalidad;
+        this.term = term;
+        this.count = count;
+    }
+
+    public Long getCarreraId() {
+        return carreraId;
+    }
+
+    public void setCarreraId(Long carreraId) {
+        this.carreraId = carreraId;
+    }
+
+    public Long getSedeId() {
+        return sedeId;
+    }
+
+    public void setSedeId(Long sedeId) {
+        this.sedeId = sedeId;
+    }
+
+    public Modalidad getModalidad() {
+        return modalidad;
+    }
+
+    public void setModalidad(Modalidad modalidad) {
+        this.modalidad = modalidad;
+    }
+
+    public String getTerm() {
+        return term;
+    }
+
+    public void setTerm(String term) {
+        this.term = term;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "IngresoStatsDTO{" +
+            "carreraId=" + carreraId +
+            ", sedeId=" + sedeId +
+            ", modalidad='" + modalidad + "'" +
+            ", term='" + term + "'" +
+            ", count=" + count +
+            "}";
+    }
+}
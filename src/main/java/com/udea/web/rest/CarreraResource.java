@@ -2,7 +2,9 @@ package com.udea.web.rest;
 
 import com.udea.domain.Carrera;
 import com.udea.repository.CarreraRepository;
+import com.udea.service.CarreraService;
 import com.udea.web.rest.errors.BadRequestAlertException;
+import com.udea.web.rest.util.ETagUtil;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -16,19 +18,16 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
-import tech.jhipster.web.util.ResponseUtil;
 
 /**
  * REST controller for managing {@link com.udea.domain.Carrera}.
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class CarreraResource {
 
     private final Logger log = LoggerFactory.getLogger(CarreraResource.class);
@@ -38,9 +37,12 @@ public class CarreraResource {
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
+    private final CarreraService carreraService;
+
     private final CarreraRepository carreraRepository;
 
-    public CarreraResource(CarreraRepository carreraRepository) {
+    public CarreraResource(CarreraService carreraService, CarreraRepository carreraRepository) {
+        this.carreraService = carreraService;
         this.carreraRepository = carreraRepository;
     }
 
@@ -57,7 +59,7 @@ public class CarreraResource {
         if (carrera.getId() != null) {
             throw new BadRequestAlertException("A new carrera cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        Carrera result = carreraRepository.save(carrera);
+        Carrera result = carreraService.save(carrera);
         return ResponseEntity
             .created(new URI("/api/carreras/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
@@ -68,15 +70,21 @@ public class CarreraResource {
      * {@code PUT  /carreras/:id} : Updates an existing carrera.
      *
      * @param id the id of the carrera to save.
+     * @param ifMatch the entity tag the carrera must still have, if any.
      * @param carrera the carrera to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated carrera,
      * or with status {@code 400 (Bad Request)} if the carrera is not valid,
+     * or with status {@code 409 (Conflict)} if the version of the carrera is outdated,
+     * or with status {@code 412 (Precondition Failed)} if the carrera does not match {@code If-Match},
      * or with status {@code 500 (Internal Server Error)} if the carrera couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/carreras/{id}")
-    public ResponseEntity<Carrera> updateCarrera(@PathVariable(value = "id", required = false) final Long id, @RequestBody Carrera carrera)
-        throws URISyntaxException {
+    public ResponseEntity<Carrera> updateCarrera(
+        @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @RequestBody Carrera carrera
+    ) throws URISyntaxException {
         log.debug("REST request to update Carrera : {}, {}", id, carrera);
         if (carrera.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -85,14 +93,13 @@ public class CarreraResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!carreraRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Carrera result = carreraRepository.save(carrera);
+        Carrera result = carreraService
+            .update(carrera, current -> ETagUtil.checkIfMatch(ifMatch, entityTag(current), ENTITY_NAME))
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, carrera.getId().toString()))
+            .eTag(entityTag(result))
             .body(result);
     }
 
@@ -100,16 +107,19 @@ public class CarreraResource {
      * {@code PATCH  /carreras/:id} : Partial updates given fields of an existing carrera, field will ignore if it is null
      *
      * @param id the id of the carrera to save.
+     * @param ifMatch the entity tag the carrera must still have, if any.
      * @param carrera the carrera to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated carrera,
      * or with status {@code 400 (Bad Request)} if the carrera is not valid,
      * or with status {@code 404 (Not Found)} if the carrera is not found,
+     * or with status {@code 412 (Precondition Failed)} if the carrera does not match {@code If-Match},
      * or with status {@code 500 (Internal Server Error)} if the carrera couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/carreras/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Carrera> partialUpdateCarrera(
         @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody Carrera carrera
     ) throws URISyntaxException {
         log.debug("REST request to partial update Carrera partially : {}, {}", id, carrera);
@@ -124,22 +134,14 @@ public class CarreraResource {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        Optional<Carrera> result = carreraRepository
-            .findById(carrera.getId())
-            .map(existingCarrera -> {
-                if (carrera.getNombre() != null) {
-                    existingCarrera.setNombre(carrera.getNombre());
-                }
-                if (carrera.getModalidad() != null) {
-                    existingCarrera.setModalidad(carrera.getModalidad());
-                }
-
-                return existingCarrera;
-            })
-            .map(carreraRepository::save);
-
-        return ResponseUtil.wrapOrNotFound(
+        Optional<Carrera> result = carreraService.partialUpdate(
+            carrera,
+            existingCarrera -> ETagUtil.checkIfMatch(ifMatch, entityTag(existingCarrera), ENTITY_NAME)
+        );
+
+        return ETagUtil.wrapOrNotFound(
             result,
+            CarreraResource::entityTag,
             HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, carrera.getId().toString())
         );
     }
@@ -148,27 +150,33 @@ public class CarreraResource {
      * {@code GET  /carreras} : get all the carreras.
      *
      * @param pageable the pagination information.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of carreras in body.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of carreras in body,
+     * or with status {@code 304 (Not Modified)} if it matches {@code If-None-Match}.
      */
     @GetMapping("/carreras")
     public ResponseEntity<List<Carrera>> getAllCarreras(@org.springdoc.api.annotations.ParameterObject Pageable pageable) {
         log.debug("REST request to get a page of Carreras");
-        Page<Carrera> page = carreraRepository.findAll(pageable);
+        Page<Carrera> page = carreraService.findAll(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
-        return ResponseEntity.ok().headers(headers).body(page.getContent());
+        return ResponseEntity
+            .ok()
+            .headers(headers)
+            .eTag(ETagUtil.entityTag(page, Carrera::getId, Carrera::getVersion))
+            .body(page.getContent());
     }
 
     /**
      * {@code GET  /carreras/:id} : get the "id" carrera.
      *
      * @param id the id of the carrera to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the carrera, or with status {@code 404 (Not Found)}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the carrera,
+     * or with status {@code 304 (Not Modified)} if it matches {@code If-None-Match}, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/carreras/{id}")
     public ResponseEntity<Carrera> getCarrera(@PathVariable Long id) {
         log.debug("REST request to get Carrera : {}", id);
-        Optional<Carrera> carrera = carreraRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(carrera);
+        Optional<Carrera> carrera = carreraService.findOne(id);
+        return ETagUtil.wrapOrNotFound(carrera, CarreraResource::entityTag);
     }
 
     /**
@@ -180,10 +188,14 @@ public class CarreraResource {
     @DeleteMapping("/carreras/{id}")
     public ResponseEntity<Void> deleteCarrera(@PathVariable Long id) {
         log.debug("REST request to delete Carrera : {}", id);
-        carreraRepository.deleteById(id);
+        carreraService.delete(id);
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private static String entityTag(Carrera carrera) {
+        return ETagUtil.entityTag(carrera.getVersion());
+    }
 }
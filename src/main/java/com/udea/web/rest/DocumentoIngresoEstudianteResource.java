@@ -2,6 +2,7 @@ package com.udea.web.rest;
 
 import com.udea.domain.DocumentoIngresoEstudiante;
 import com.udea.repository.DocumentoIngresoEstudianteRepository;
+import com.udea.service.DocumentoIngresoEstudianteService;
 import com.udea.web.rest.errors.BadRequestAlertException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -12,7 +13,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
@@ -22,7 +22,6 @@ import tech.jhipster.web.util.ResponseUtil;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class DocumentoIngresoEstudianteResource {
 
     private final Logger log = LoggerFactory.getLogger(DocumentoIngresoEstudianteResource.class);
@@ -32,9 +31,15 @@ public class DocumentoIngresoEstudianteResource {
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
+    private final DocumentoIngresoEstudianteService documentoIngresoEstudianteService;
+
     private final DocumentoIngresoEstudianteRepository documentoIngresoEstudianteRepository;
 
-    public DocumentoIngresoEstudianteResource(DocumentoIngresoEstudianteRepository documentoIngresoEstudianteRepository) {
+    public DocumentoIngresoEstudianteResource(
+        DocumentoIngresoEstudianteService documentoIngresoEstudianteService,
+        DocumentoIngresoEstudianteRepository documentoIngresoEstudianteRepository
+    ) {
+        this.documentoIngresoEstudianteService = documentoIngresoEstudianteService;
         this.documentoIngresoEstudianteRepository = documentoIngresoEstudianteRepository;
     }
 
@@ -53,7 +58,7 @@ public class DocumentoIngresoEstudianteResource {
         if (documentoIngresoEstudiante.getId() != null) {
             throw new BadRequestAlertException("A new documentoIngresoEstudiante cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        DocumentoIngresoEstudiante result = documentoIngresoEstudianteRepository.save(documentoIngresoEstudiante);
+        DocumentoIngresoEstudiante result = documentoIngresoEstudianteService.save(documentoIngresoEstudiante);
         return ResponseEntity
             .created(new URI("/api/documento-ingreso-estudiantes/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
@@ -87,7 +92,7 @@ public class DocumentoIngresoEstudianteResource {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        DocumentoIngresoEstudiante result = documentoIngresoEstudianteRepository.save(documentoIngresoEstudiante);
+        DocumentoIngresoEstudiante result = documentoIngresoEstudianteService.update(documentoIngresoEstudiante);
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, documentoIngresoEstudiante.getId().toString()))
@@ -122,19 +127,7 @@ public class DocumentoIngresoEstudianteResource {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        Optional<DocumentoIngresoEstudiante> result = documentoIngresoEstudianteRepository
-            .findById(documentoIngresoEstudiante.getId())
-            .map(existingDocumentoIngresoEstudiante -> {
-                if (documentoIngresoEstudiante.getNombreDocumento() != null) {
-                    existingDocumentoIngresoEstudiante.setNombreDocumento(documentoIngresoEstudiante.getNombreDocumento());
-                }
-                if (documentoIngresoEstudiante.getDescripcionDocumento() != null) {
-                    existingDocumentoIngresoEstudiante.setDescripcionDocumento(documentoIngresoEstudiante.getDescripcionDocumento());
-                }
-
-                return existingDocumentoIngresoEstudiante;
-            })
-            .map(documentoIngresoEstudianteRepository::save);
+        Optional<DocumentoIngresoEstudiante> result = documentoIngresoEstudianteService.partialUpdate(documentoIngresoEstudiante);
 
         return ResponseUtil.wrapOrNotFound(
             result,
@@ -150,7 +143,7 @@ public class DocumentoIngresoEstudianteResource {
     @GetMapping("/documento-ingreso-estudiantes")
     public List<DocumentoIngresoEstudiante> getAllDocumentoIngresoEstudiantes() {
         log.debug("REST request to get all DocumentoIngresoEstudiantes");
-        return documentoIngresoEstudianteRepository.findAll();
+        return documentoIngresoEstudianteService.findAll();
     }
 
     /**
@@ -162,7 +155,7 @@ public class DocumentoIngresoEstudianteResource {
     @GetMapping("/documento-ingreso-estudiantes/{id}")
     public ResponseEntity<DocumentoIngresoEstudiante> getDocumentoIngresoEstudiante(@PathVariable Long id) {
         log.debug("REST request to get DocumentoIngresoEstudiante : {}", id);
-        Optional<DocumentoIngresoEstudiante> documentoIngresoEstudiante = documentoIngresoEstudianteRepository.findById(id);
+        Optional<DocumentoIngresoEstudiante> documentoIngresoEstudiante = documentoIngresoEstudianteService.findOne(id);
         return ResponseUtil.wrapOrNotFound(documentoIngresoEstudiante);
     }
 
@@ -175,7 +168,7 @@ public class DocumentoIngresoEstudianteResource {
     @DeleteMapping("/documento-ingreso-estudiantes/{id}")
     public ResponseEntity<Void> deleteDocumentoIngresoEstudiante(@PathVariable Long id) {
         log.debug("REST request to delete DocumentoIngresoEstudiante : {}", id);
-        documentoIngresoEstudianteRepository.deleteById(id);
+        documentoIngresoEstudianteService.delete(id);
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
@@ -2,6 +2,7 @@ package com.udea.web.rest;
 
 import com.udea.domain.DocumentoReingresoEstudiante;
 import com.udea.repository.DocumentoReingresoEstudianteRepository;
+import com.udea.service.DocumentoReingresoEstudianteService;
 import com.udea.web.rest.errors.BadRequestAlertException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -12,7 +13,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
@@ -22,7 +22,6 @@ import tech.jhipster.web.util.ResponseUtil;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class DocumentoReingresoEstudianteResource {
 
     private final Logger log = LoggerFactory.getLogger(DocumentoReingresoEstudianteResource.class);
@@ -32,9 +31,15 @@ public class DocumentoReingresoEstudianteResource {
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
+    private final DocumentoReingresoEstudianteService documentoReingresoEstudianteService;
+
     private final DocumentoReingresoEstudianteRepository documentoReingresoEstudianteRepository;
 
-    public DocumentoReingresoEstudianteResource(DocumentoReingresoEstudianteRepository documentoReingresoEstudianteRepository) {
+    public DocumentoReingresoEstudianteResource(
+        DocumentoReingresoEstudianteService documentoReingresoEstudianteService,
+        DocumentoReingresoEstudianteRepository documentoReingresoEstudianteRepository
+    ) {
+        this.documentoReingresoEstudianteService = documentoReingresoEstudianteService;
         this.documentoReingresoEstudianteRepository = documentoReingresoEstudianteRepository;
     }
 
@@ -53,7 +58,7 @@ public class DocumentoReingresoEstudianteResource {
         if (documentoReingresoEstudiante.getId() != null) {
             throw new BadRequestAlertException("A new documentoReingresoEstudiante cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        DocumentoReingresoEstudiante result = documentoReingresoEstudianteRepository.save(documentoReingresoEstudiante);
+        DocumentoReingresoEstudiante result = documentoReingresoEstudianteService.save(documentoReingresoEstudiante);
         return ResponseEntity
             .created(new URI("/api/documento-reingreso-estudiantes/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
@@ -87,7 +92,7 @@ public class DocumentoReingresoEstudianteResource {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        DocumentoReingresoEstudiante result = documentoReingresoEstudianteRepository.save(documentoReingresoEstudiante);
+        DocumentoReingresoEstudiante result = documentoReingresoEstudianteService.update(documentoReingresoEstudiante);
         return ResponseEntity
             .ok()
             .headers(
@@ -124,19 +129,7 @@ public class DocumentoReingresoEstudianteResource {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        Optional<DocumentoReingresoEstudiante> result = documentoReingresoEstudianteRepository
-            .findById(documentoReingresoEstudiante.getId())
-            .map(existingDocumentoReingresoEstudiante -> {
-                if (documentoReingresoEstudiante.getNombreDocumento() != null) {
-                    existingDocumentoReingresoEstudiante.setNombreDocumento(documentoReingresoEstudiante.getNombreDocumento());
-                }
-                if (documentoReingresoEstudiante.getDescripcionDocumento() != null) {
-                    existingDocumentoReingresoEstudiante.setDescripcionDocumento(documentoReingresoEstudiante.getDescripcionDocumento());
-                }
-
-                return existingDocumentoReingresoEstudiante;
-            })
-            .map(documentoReingresoEstudianteRepository::save);
+        Optional<DocumentoReingresoEstudiante> result = documentoReingresoEstudianteService.partialUpdate(documentoReingresoEstudiante);
 
         return ResponseUtil.wrapOrNotFound(
             result,
@@ -152,7 +145,7 @@ public class DocumentoReingresoEstudianteResource {
     @GetMapping("/documento-reingreso-estudiantes")
     public List<DocumentoReingresoEstudiante> getAllDocumentoReingresoEstudiantes() {
         log.debug("REST request to get all DocumentoReingresoEstudiantes");
-        return documentoReingresoEstudianteRepository.findAll();
+        return documentoReingresoEstudianteService.findAll();
     }
 
     /**
@@ -164,7 +157,7 @@ public class DocumentoReingresoEstudianteResource {
     @GetMapping("/documento-reingreso-estudiantes/{id}")
     public ResponseEntity<DocumentoReingresoEstudiante> getDocumentoReingresoEstudiante(@PathVariable Long id) {
         log.debug("REST request to get DocumentoReingresoEstudiante : {}", id);
-        Optional<DocumentoReingresoEstudiante> documentoReingresoEstudiante = documentoReingresoEstudianteRepository.findById(id);
+        Optional<DocumentoReingresoEstudiante> documentoReingresoEstudiante = documentoReingresoEstudianteService.findOne(id);
         return ResponseUtil.wrapOrNotFound(documentoReingresoEstudiante);
     }
 
@@ -177,7 +170,7 @@ public class DocumentoReingresoEstudianteResource {
     @DeleteMapping("/documento-reingreso-estudiantes/{id}")
     public ResponseEntity<Void> deleteDocumentoReingresoEstudiante(@PathVariable Long id) {
         log.debug("REST request to delete DocumentoReingresoEstudiante : {}", id);
-        documentoReingresoEstudianteRepository.deleteById(id);
+        documentoReingresoEstudianteService.delete(id);
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
@@ -1,8 +1,18 @@
 package com.udea.web.rest;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.udea.domain.Estudiante;
 import com.udea.repository.EstudianteRepository;
+import com.udea.service.EstudianteQueryService;
+import com.udea.service.EstudianteService;
+import com.udea.service.ExpedienteService;
+import com.udea.service.criteria.EstudianteCriteria;
+import com.udea.service.dto.ExpedienteDTO;
 import com.udea.web.rest.errors.BadRequestAlertException;
+import com.udea.web.rest.util.ETagUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -11,10 +21,16 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -22,20 +38,39 @@ import tech.jhipster.web.util.ResponseUtil;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class EstudianteResource {
 
     private final Logger log = LoggerFactory.getLogger(EstudianteResource.class);
 
     private static final String ENTITY_NAME = "estudiante";
 
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
+    private final EstudianteService estudianteService;
+
     private final EstudianteRepository estudianteRepository;
 
-    public EstudianteResource(EstudianteRepository estudianteRepository) {
+    private final EstudianteQueryService estudianteQueryService;
+
+    private final ExpedienteService expedienteService;
+
+    private final ObjectMapper objectMapper;
+
+    public EstudianteResource(
+        EstudianteService estudianteService,
+        EstudianteRepository estudianteRepository,
+        EstudianteQueryService estudianteQueryService,
+        ExpedienteService expedienteService,
+        ObjectMapper objectMapper
+    ) {
+        this.estudianteService = estudianteService;
         this.estudianteRepository = estudianteRepository;
+        this.estudianteQueryService = estudianteQueryService;
+        this.expedienteService = expedienteService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -51,7 +86,7 @@ public class EstudianteResource {
         if (estudiante.getId() != null) {
             throw new BadRequestAlertException("A new estudiante cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        Estudiante result = estudianteRepository.save(estudiante);
+        Estudiante result = estudianteService.save(estudiante);
         return ResponseEntity
             .created(new URI("/api/estudiantes/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
@@ -62,15 +97,19 @@ public class EstudianteResource {
      * {@code PUT  /estudiantes/:id} : Updates an existing estudiante.
      *
      * @param id the id of the estudiante to save.
+     * @param ifMatch the entity tag the estudiante must still have, if any.
      * @param estudiante the estudiante to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated estudiante,
      * or with status {@code 400 (Bad Request)} if the estudiante is not valid,
+     * or with status {@code 409 (Conflict)} if the version of the estudiante is outdated,
+     * or with status {@code 412 (Precondition Failed)} if the estudiante does not match {@code If-Match},
      * or with status {@code 500 (Internal Server Error)} if the estudiante couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/estudiantes/{id}")
     public ResponseEntity<Estudiante> updateEstudiante(
         @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody Estudiante estudiante
     ) throws URISyntaxException {
         log.debug("REST request to update Estudiante : {}, {}", id, estudiante);
@@ -81,14 +120,13 @@ public class EstudianteResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!estudianteRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Estudiante result = estudianteRepository.save(estudiante);
+        Estudiante result = estudianteService
+            .update(estudiante, current -> ETagUtil.checkIfMatch(ifMatch, entityTag(current), ENTITY_NAME))
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, estudiante.getId().toString()))
+            .eTag(entityTag(result))
             .body(result);
     }
 
@@ -96,16 +134,19 @@ public class EstudianteResource {
      * {@code PATCH  /estudiantes/:id} : Partial updates given fields of an existing estudiante, field will ignore if it is null
      *
      * @param id the id of the estudiante to save.
+     * @param ifMatch the entity tag the estudiante must still have, if any.
      * @param estudiante the estudiante to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated estudiante,
      * or with status {@code 400 (Bad Request)} if the estudiante is not valid,
      * or with status {@code 404 (Not Found)} if the estudiante is not found,
+     * or with status {@code 412 (Precondition Failed)} if the estudiante does not match {@code If-Match},
      * or with status {@code 500 (Internal Server Error)} if the estudiante couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/estudiantes/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Estudiante> partialUpdateEstudiante(
         @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody Estudiante estudiante
     ) throws URISyntaxException {
         log.debug("REST request to partial update Estudiante partially : {}, {}", id, estudiante);
@@ -120,31 +161,14 @@ public class EstudianteResource {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        Optional<Estudiante> result = estudianteRepository
-            .findById(estudiante.getId())
-            .map(existingEstudiante -> {
-                if (estudiante.getNombre() != null) {
-                    existingEstudiante.setNombre(estudiante.getNombre());
-                }
-                if (estudiante.getApellido() != null) {
-                    existingEstudiante.setApellido(estudiante.getApellido());
-                }
-                if (estudiante.getFechaNacimiento() != null) {
-                    existingEstudiante.setFechaNacimiento(estudiante.getFechaNacimiento());
-                }
-                if (estudiante.getCorreo() != null) {
-                    existingEstudiante.setCorreo(estudiante.getCorreo());
-                }
-                if (estudiante.getDireccion() != null) {
-                    existingEstudiante.setDireccion(estudiante.getDireccion());
-                }
-
-                return existingEstudiante;
-            })
-            .map(estudianteRepository::save);
-
-        return ResponseUtil.wrapOrNotFound(
+        Optional<Estudiante> result = estudianteService.partialUpdate(
+            estudiante,
+            existingEstudiante -> ETagUtil.checkIfMatch(ifMatch, entityTag(existingEstudiante), ENTITY_NAME)
+        );
+
+        return ETagUtil.wrapOrNotFound(
             result,
+            EstudianteResource::entityTag,
             HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, estudiante.getId().toString())
         );
     }
@@ -152,25 +176,93 @@ public class EstudianteResource {
     /**
      * {@code GET  /estudiantes} : get all the estudiantes.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of estudiantes in body.
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of estudiantes in body,
+     * or with status {@code 304 (Not Modified)} if it matches {@code If-None-Match}.
      */
     @GetMapping("/estudiantes")
-    public List<Estudiante> getAllEstudiantes() {
-        log.debug("REST request to get all Estudiantes");
-        return estudianteRepository.findAll();
+    public ResponseEntity<List<Estudiante>> getAllEstudiantes(
+        EstudianteCriteria criteria,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get Estudiantes by criteria: {}", criteria);
+        Page<Estudiante> page = estudianteQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity
+            .ok()
+            .headers(headers)
+            .eTag(ETagUtil.entityTag(page, Estudiante::getId, Estudiante::getVersion))
+            .body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /estudiantes/count} : count all the estudiantes.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/estudiantes/count")
+    public ResponseEntity<Long> countEstudiantes(EstudianteCriteria criteria) {
+        log.debug("REST request to count Estudiantes by criteria: {}", criteria);
+        return ResponseEntity.ok().body(estudianteQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /estudiantes/stream} : stream all the estudiantes as newline delimited JSON.
+     * <p>
+     * Rows are read through a database cursor and each entity is detached once written, so memory usage does not depend
+     * on the size of the table.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the estudiantes in body, one JSON document per line.
+     */
+    @GetMapping(value = "/estudiantes/stream", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEstudiantes() {
+        log.debug("REST request to stream all Estudiantes");
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                estudianteService.forEach(estudiante -> writeLine(generator, estudiante));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE)).body(body);
+    }
+
+    private static void writeLine(JsonGenerator generator, Estudiante estudiante) {
+        try {
+            generator.writeObject(estudiante);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
      * {@code GET  /estudiantes/:id} : get the "id" estudiante.
      *
      * @param id the id of the estudiante to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the estudiante, or with status {@code 404 (Not Found)}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the estudiante,
+     * or with status {@code 304 (Not Modified)} if it matches {@code If-None-Match}, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/estudiantes/{id}")
     public ResponseEntity<Estudiante> getEstudiante(@PathVariable Long id) {
         log.debug("REST request to get Estudiante : {}", id);
-        Optional<Estudiante> estudiante = estudianteRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(estudiante);
+        Optional<Estudiante> estudiante = estudianteService.findOne(id);
+        return ETagUtil.wrapOrNotFound(estudiante, EstudianteResource::entityTag);
+    }
+
+    /**
+     * {@code GET  /estudiantes/:id/expediente} : get the admission history of the "id" estudiante.
+     * <p>
+     * The expediente is read by a single query and cached until one of its entities is written.
+     *
+     * @param id the id of the estudiante.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the expediente, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/estudiantes/{id}/expediente")
+    public ResponseEntity<ExpedienteDTO> getExpediente(@PathVariable Long id) {
+        log.debug("REST request to get the Expediente of Estudiante : {}", id);
+        return ResponseUtil.wrapOrNotFound(expedienteService.findOne(id));
     }
 
     /**
@@ -182,10 +274,32 @@ public class EstudianteResource {
     @DeleteMapping("/estudiantes/{id}")
     public ResponseEntity<Void> deleteEstudiante(@PathVariable Long id) {
         log.debug("REST request to delete Estudiante : {}", id);
-        estudianteRepository.deleteById(id);
+        estudianteService.delete(id);
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    /**
+     * {@code GET  /_search/estudiantes?q=:query} : search for the estudiante corresponding to the query.
+     *
+     * @param query the query of the estudiante search.
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the matching estudiantes in body, by relevance.
+     */
+    @GetMapping("/_search/estudiantes")
+    public ResponseEntity<List<Estudiante>> searchEstudiantes(
+        @RequestParam("q") String query,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to search for a page of Estudiantes for query {}", query);
+        Page<Estudiante> page = estudianteService.search(query, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    private static String entityTag(Estudiante estudiante) {
+        return ETagUtil.entityTag(estudiante.getVersion());
+    }
 }
@@ -1,10 +1,21 @@
 package com.udea.web.rest;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.udea.domain.IngresoEstudiante;
 import com.udea.repository.IngresoEstudianteRepository;
+import com.udea.service.IngresoEstudianteBulkService;
+import com.udea.service.IngresoEstudianteQueryService;
+import com.udea.service.IngresoEstudianteService;
+import com.udea.service.dto.BulkItemResultDTO;
+import com.udea.service.dto.IngresoEstudianteSummaryDTO;
 import com.udea.web.rest.errors.BadRequestAlertException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -13,10 +24,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
@@ -28,20 +40,39 @@ import tech.jhipster.web.util.ResponseUtil;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class IngresoEstudianteResource {
 
     private final Logger log = LoggerFactory.getLogger(IngresoEstudianteResource.class);
 
     private static final String ENTITY_NAME = "ingresoEstudiante";
 
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
+    private final IngresoEstudianteService ingresoEstudianteService;
+
     private final IngresoEstudianteRepository ingresoEstudianteRepository;
 
-    public IngresoEstudianteResource(IngresoEstudianteRepository ingresoEstudianteRepository) {
+    private final IngresoEstudianteBulkService ingresoEstudianteBulkService;
+
+    private final IngresoEstudianteQueryService ingresoEstudianteQueryService;
+
+    private final ObjectMapper objectMapper;
+
+    public IngresoEstudianteResource(
+        IngresoEstudianteService ingresoEstudianteService,
+        IngresoEstudianteRepository ingresoEstudianteRepository,
+        IngresoEstudianteBulkService ingresoEstudianteBulkService,
+        IngresoEstudianteQueryService ingresoEstudianteQueryService,
+        ObjectMapper objectMapper
+    ) {
+        this.ingresoEstudianteService = ingresoEstudianteService;
         this.ingresoEstudianteRepository = ingresoEstudianteRepository;
+        this.ingresoEstudianteBulkService = ingresoEstudianteBulkService;
+        this.ingresoEstudianteQueryService = ingresoEstudianteQueryService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -58,13 +89,41 @@ public class IngresoEstudianteResource {
         if (ingresoEstudiante.getId() != null) {
             throw new BadRequestAlertException("A new ingresoEstudiante cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        IngresoEstudiante result = ingresoEstudianteRepository.save(ingresoEstudiante);
+        IngresoEstudiante result = ingresoEstudianteService.save(ingresoEstudiante);
         return ResponseEntity
             .created(new URI("/api/ingreso-estudiantes/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
             .body(result);
     }
 
+    /**
+     * {@code POST  /ingreso-estudiantes/_bulk} : Create new ingresoEstudiantes in bulk.
+     *
+     * @param ingresoEstudiantes the ingresoEstudiantes to create.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the outcome of each ingresoEstudiante, in the same order.
+     */
+    @PostMapping(value = "/ingreso-estudiantes/_bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BulkItemResultDTO>> createIngresoEstudiantes(@RequestBody List<IngresoEstudiante> ingresoEstudiantes) {
+        log.debug("REST request to save {} IngresoEstudiantes in bulk", ingresoEstudiantes.size());
+        return ResponseEntity.ok().body(ingresoEstudianteBulkService.createAll(ingresoEstudiantes));
+    }
+
+    /**
+     * {@code POST  /ingreso-estudiantes/_bulk} : Create new ingresoEstudiantes in bulk, from newline delimited JSON.
+     *
+     * @param body the ingresoEstudiantes to create, one JSON document per line.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the outcome of each ingresoEstudiante, in the same order.
+     * @throws IOException if the body can't be read.
+     */
+    @PostMapping(value = "/ingreso-estudiantes/_bulk", consumes = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<BulkItemResultDTO>> createIngresoEstudiantesFromNdjson(InputStream body) throws IOException {
+        List<IngresoEstudiante> ingresoEstudiantes;
+        try (MappingIterator<IngresoEstudiante> iterator = objectMapper.readerFor(IngresoEstudiante.class).readValues(body)) {
+            ingresoEstudiantes = iterator.readAll();
+        }
+        return createIngresoEstudiantes(ingresoEstudiantes);
+    }
+
     /**
      * {@code PUT  /ingreso-estudiantes/:id} : Updates an existing ingresoEstudiante.
      *
@@ -92,7 +151,7 @@ public class IngresoEstudianteResource {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        IngresoEstudiante result = ingresoEstudianteRepository.save(ingresoEstudiante);
+        IngresoEstudiante result = ingresoEstudianteService.update(ingresoEstudiante);
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, ingresoEstudiante.getId().toString()))
@@ -127,16 +186,7 @@ public class IngresoEstudianteResource {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        Optional<IngresoEstudiante> result = ingresoEstudianteRepository
-            .findById(ingresoEstudiante.getId())
-            .map(existingIngresoEstudiante -> {
-                if (ingresoEstudiante.getFechaIngreso() != null) {
-                    existingIngresoEstudiante.setFechaIngreso(ingresoEstudiante.getFechaIngreso());
-                }
-
-                return existingIngresoEstudiante;
-            })
-            .map(ingresoEstudianteRepository::save);
+        Optional<IngresoEstudiante> result = ingresoEstudianteService.partialUpdate(ingresoEstudiante);
 
         return ResponseUtil.wrapOrNotFound(
             result,
@@ -146,20 +196,83 @@ public class IngresoEstudianteResource {
 
     /**
      * {@code GET  /ingreso-estudiantes} : get all the ingresoEstudiantes.
+     * <p>
+     * When the {@code after} parameter is present (it may be empty for the first page), keyset pagination is used
+     * instead of offset pagination: the next page is returned as an opaque cursor in the {@code Link} header, and the
+     * total count is only computed when {@code withTotal} is {@code true}.
      *
      * @param pageable the pagination information.
+     * @param after the opaque cursor returned by the previous page, enables keyset pagination.
+     * @param withTotal flag to compute the {@code X-Total-Count} header in keyset pagination.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of ingresoEstudiantes in body.
      */
     @GetMapping("/ingreso-estudiantes")
     public ResponseEntity<List<IngresoEstudiante>> getAllIngresoEstudiantes(
-        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        @RequestParam(required = false) String after,
+        @RequestParam(required = false, defaultValue = "false") boolean withTotal
     ) {
+        if (after != null) {
+            return getAllIngresoEstudiantesAfter(pageable, after, withTotal);
+        }
         log.debug("REST request to get a page of IngresoEstudiantes");
-        Page<IngresoEstudiante> page = ingresoEstudianteRepository.findAll(pageable);
+        Page<IngresoEstudiante> page = ingresoEstudianteService.findAllWithEagerRelationships(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /ingreso-estudiantes?view=summary} : get a summary of all the ingresoEstudiantes.
+     *
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of ingresoEstudiante summaries in body.
+     */
+    @GetMapping(value = "/ingreso-estudiantes", params = "view=summary")
+    public ResponseEntity<List<IngresoEstudianteSummaryDTO>> getAllIngresoEstudianteSummaries(
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get a page of IngresoEstudiante summaries");
+        Page<IngresoEstudianteSummaryDTO> page = ingresoEstudianteQueryService.findSummaries(pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    private ResponseEntity<List<IngresoEstudiante>> getAllIngresoEstudiantesAfter(Pageable pageable, String after, boolean withTotal) {
+        log.debug("REST request to get a slice of IngresoEstudiantes after cursor : {}", after);
+        Slice<IngresoEstudiante> slice = ingresoEstudianteService.findAllAfter(decodeCursor(after), pageable.getPageSize());
+        HttpHeaders headers = new HttpHeaders();
+        if (slice.hasNext()) {
+            List<IngresoEstudiante> content = slice.getContent();
+            String next = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .replaceQueryParam("after", encodeCursor(content.get(content.size() - 1).getId()))
+                .replaceQueryParam("size", pageable.getPageSize())
+                .replaceQueryParam("page")
+                .replaceQueryParam("sort")
+                .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        if (withTotal) {
+            headers.add("X-Total-Count", Long.toString(ingresoEstudianteService.count()));
+        }
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
+    private static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Long decodeCursor(String cursor) {
+        if (cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid cursor", ENTITY_NAME, "cursorinvalid");
+        }
+    }
+
     /**
      * {@code GET  /ingreso-estudiantes/:id} : get the "id" ingresoEstudiante.
      *
@@ -169,7 +282,7 @@ public class IngresoEstudianteResource {
     @GetMapping("/ingreso-estudiantes/{id}")
     public ResponseEntity<IngresoEstudiante> getIngresoEstudiante(@PathVariable Long id) {
         log.debug("REST request to get IngresoEstudiante : {}", id);
-        Optional<IngresoEstudiante> ingresoEstudiante = ingresoEstudianteRepository.findById(id);
+        Optional<IngresoEstudiante> ingresoEstudiante = ingresoEstudianteService.findOne(id);
         return ResponseUtil.wrapOrNotFound(ingresoEstudiante);
     }
 
@@ -182,7 +295,7 @@ public class IngresoEstudianteResource {
     @DeleteMapping("/ingreso-estudiantes/{id}")
     public ResponseEntity<Void> deleteIngresoEstudiante(@PathVariable Long id) {
         log.debug("REST request to delete IngresoEstudiante : {}", id);
-        ingresoEstudianteRepository.deleteById(id);
+        ingresoEstudianteService.delete(id);
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
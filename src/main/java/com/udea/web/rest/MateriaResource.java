@@ -2,7 +2,10 @@ package com.udea.web.rest;
 
 import com.udea.domain.Materia;
 import com.udea.repository.MateriaRepository;
+import com.udea.service.CurriculumIndexService;
+import com.udea.service.MateriaService;
 import com.udea.web.rest.errors.BadRequestAlertException;
+import com.udea.web.rest.util.ETagUtil;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -11,18 +14,16 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.ResponseUtil;
 
 /**
  * REST controller for managing {@link com.udea.domain.Materia}.
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class MateriaResource {
 
     private final Logger log = LoggerFactory.getLogger(MateriaResource.class);
@@ -32,10 +33,20 @@ public class MateriaResource {
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
+    private final MateriaService materiaService;
+
     private final MateriaRepository materiaRepository;
 
-    public MateriaResource(MateriaRepository materiaRepository) {
+    private final CurriculumIndexService curriculumIndexService;
+
+    public MateriaResource(
+        MateriaService materiaService,
+        MateriaRepository materiaRepository,
+        CurriculumIndexService curriculumIndexService
+    ) {
+        this.materiaService = materiaService;
         this.materiaRepository = materiaRepository;
+        this.curriculumIndexService = curriculumIndexService;
     }
 
     /**
@@ -51,7 +62,7 @@ public class MateriaResource {
         if (materia.getId() != null) {
             throw new BadRequestAlertException("A new materia cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        Materia result = materiaRepository.save(materia);
+        Materia result = materiaService.save(materia);
         return ResponseEntity
             .created(new URI("/api/materias/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
@@ -62,15 +73,21 @@ public class MateriaResource {
      * {@code PUT  /materias/:id} : Updates an existing materia.
      *
      * @param id the id of the materia to save.
+     * @param ifMatch the entity tag the materia must still have, if any.
      * @param materia the materia to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated materia,
      * or with status {@code 400 (Bad Request)} if the materia is not valid,
+     * or with status {@code 409 (Conflict)} if the version of the materia is outdated,
+     * or with status {@code 412 (Precondition Failed)} if the materia does not match {@code If-Match},
      * or with status {@code 500 (Internal Server Error)} if the materia couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/materias/{id}")
-    public ResponseEntity<Materia> updateMateria(@PathVariable(value = "id", required = false) final Long id, @RequestBody Materia materia)
-        throws URISyntaxException {
+    public ResponseEntity<Materia> updateMateria(
+        @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @RequestBody Materia materia
+    ) throws URISyntaxException {
         log.debug("REST request to update Materia : {}, {}", id, materia);
         if (materia.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -79,14 +96,13 @@ public class MateriaResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!materiaRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Materia result = materiaRepository.save(materia);
+        Materia result = materiaService
+            .update(materia, current -> ETagUtil.checkIfMatch(ifMatch, entityTag(current), ENTITY_NAME))
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, materia.getId().toString()))
+            .eTag(entityTag(result))
             .body(result);
     }
 
@@ -94,16 +110,19 @@ public class MateriaResource {
      * {@code PATCH  /materias/:id} : Partial updates given fields of an existing materia, field will ignore if it is null
      *
      * @param id the id of the materia to save.
+     * @param ifMatch the entity tag the materia must still have, if any.
      * @param materia the materia to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated materia,
      * or with status {@code 400 (Bad Request)} if the materia is not valid,
      * or with status {@code 404 (Not Found)} if the materia is not found,
+     * or with status {@code 412 (Precondition Failed)} if the materia does not match {@code If-Match},
      * or with status {@code 500 (Internal Server Error)} if the materia couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/materias/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Materia> partialUpdateMateria(
         @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody Materia materia
     ) throws URISyntaxException {
         log.debug("REST request to partial update Materia partially : {}, {}", id, materia);
@@ -118,22 +137,14 @@ public class MateriaResource {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        Optional<Materia> result = materiaRepository
-            .findById(materia.getId())
-            .map(existingMateria -> {
-                if (materia.getNombre() != null) {
-                    existingMateria.setNombre(materia.getNombre());
-                }
-                if (materia.getCreditos() != null) {
-                    existingMateria.setCreditos(materia.getCreditos());
-                }
-
-                return existingMateria;
-            })
-            .map(materiaRepository::save);
-
-        return ResponseUtil.wrapOrNotFound(
+        Optional<Materia> result = materiaService.partialUpdate(
+            materia,
+            existingMateria -> ETagUtil.checkIfMatch(ifMatch, entityTag(existingMateria), ENTITY_NAME)
+        );
+
+        return ETagUtil.wrapOrNotFound(
             result,
+            MateriaResource::entityTag,
             HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, materia.getId().toString())
         );
     }
@@ -141,25 +152,42 @@ public class MateriaResource {
     /**
      * {@code GET  /materias} : get all the materias.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of materias in body.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of materias in body,
+     * or with status {@code 304 (Not Modified)} if it matches {@code If-None-Match}.
      */
     @GetMapping("/materias")
-    public List<Materia> getAllMaterias() {
+    public ResponseEntity<List<Materia>> getAllMaterias() {
         log.debug("REST request to get all Materias");
-        return materiaRepository.findAll();
+        List<Materia> materias = materiaService.findAll();
+        return ResponseEntity.ok().eTag(ETagUtil.entityTag(materias, Materia::getId, Materia::getVersion)).body(materias);
     }
 
     /**
      * {@code GET  /materias/:id} : get the "id" materia.
      *
      * @param id the id of the materia to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the materia, or with status {@code 404 (Not Found)}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the materia,
+     * or with status {@code 304 (Not Modified)} if it matches {@code If-None-Match}, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/materias/{id}")
     public ResponseEntity<Materia> getMateria(@PathVariable Long id) {
         log.debug("REST request to get Materia : {}", id);
-        Optional<Materia> materia = materiaRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(materia);
+        Optional<Materia> materia = materiaService.findOne(id);
+        return ETagUtil.wrapOrNotFound(materia, MateriaResource::entityTag);
+    }
+
+    /**
+     * {@code GET  /materias/:id/pensums} : get the ids of the pensums containing the "id" materia.
+     * <p>
+     * Served from the in-memory curriculum index, without querying the database.
+     *
+     * @param id the id of the materia.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the ids of the pensums, in ascending order.
+     */
+    @GetMapping("/materias/{id}/pensums")
+    public ResponseEntity<long[]> getMateriaPensumIds(@PathVariable Long id) {
+        log.debug("REST request to get the Pensums of Materia : {}", id);
+        return ResponseEntity.ok().body(curriculumIndexService.findPensumIds(id));
     }
 
     /**
@@ -171,10 +199,14 @@ public class MateriaResource {
     @DeleteMapping("/materias/{id}")
     public ResponseEntity<Void> deleteMateria(@PathVariable Long id) {
         log.debug("REST request to delete Materia : {}", id);
-        materiaRepository.deleteById(id);
+        materiaService.delete(id);
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private static String entityTag(Materia materia) {
+        return ETagUtil.entityTag(materia.getVersion());
+    }
 }
@@ -1,13 +1,21 @@
 package com.udea.web.rest;
 
+import com.udea.domain.Materia;
 import com.udea.domain.Pensum;
 import com.udea.repository.PensumRepository;
+import com.udea.service.CurriculumIndexService;
+import com.udea.service.PensumService;
 import com.udea.web.rest.errors.BadRequestAlertException;
+import com.udea.web.rest.util.ETagUtil;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,19 +24,16 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
-import tech.jhipster.web.util.ResponseUtil;
 
 /**
  * REST controller for managing {@link com.udea.domain.Pensum}.
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class PensumResource {
 
     private final Logger log = LoggerFactory.getLogger(PensumResource.class);
@@ -38,10 +43,16 @@ public class PensumResource {
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
+    private final PensumService pensumService;
+
     private final PensumRepository pensumRepository;
 
-    public PensumResource(PensumRepository pensumRepository) {
+    private final CurriculumIndexService curriculumIndexService;
+
+    public PensumResource(PensumService pensumService, PensumRepository pensumRepository, CurriculumIndexService curriculumIndexService) {
+        this.pensumService = pensumService;
         this.pensumRepository = pensumRepository;
+        this.curriculumIndexService = curriculumIndexService;
     }
 
     /**
@@ -57,7 +68,7 @@ public class PensumResource {
         if (pensum.getId() != null) {
             throw new BadRequestAlertException("A new pensum cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        Pensum result = pensumRepository.save(pensum);
+        Pensum result = pensumService.save(pensum);
         return ResponseEntity
             .created(new URI("/api/pensums/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
@@ -68,15 +79,21 @@ public class PensumResource {
      * {@code PUT  /pensums/:id} : Updates an existing pensum.
      *
      * @param id the id of the pensum to save.
+     * @param ifMatch the entity tag the pensum must still have, if any.
      * @param pensum the pensum to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated pensum,
      * or with status {@code 400 (Bad Request)} if the pensum is not valid,
+     * or with status {@code 409 (Conflict)} if the version of the pensum is outdated,
+     * or with status {@code 412 (Precondition Failed)} if the pensum does not match {@code If-Match},
      * or with status {@code 500 (Internal Server Error)} if the pensum couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/pensums/{id}")
-    public ResponseEntity<Pensum> updatePensum(@PathVariable(value = "id", required = false) final Long id, @RequestBody Pensum pensum)
-        throws URISyntaxException {
+    public ResponseEntity<Pensum> updatePensum(
+        @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @RequestBody Pensum pensum
+    ) throws URISyntaxException {
         log.debug("REST request to update Pensum : {}, {}", id, pensum);
         if (pensum.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -85,14 +102,13 @@ public class PensumResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!pensumRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Pensum result = pensumRepository.save(pensum);
+        Pensum result = pensumService
+            .update(pensum, current -> ETagUtil.checkIfMatch(ifMatch, entityTag(current), ENTITY_NAME))
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, pensum.getId().toString()))
+            .eTag(entityTag(result))
             .body(result);
     }
 
@@ -100,16 +116,19 @@ public class PensumResource {
      * {@code PATCH  /pensums/:id} : Partial updates given fields of an existing pensum, field will ignore if it is null
      *
      * @param id the id of the pensum to save.
+     * @param ifMatch the entity tag the pensum must still have, if any.
      * @param pensum the pensum to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated pensum,
      * or with status {@code 400 (Bad Request)} if the pensum is not valid,
      * or with status {@code 404 (Not Found)} if the pensum is not found,
+     * or with status {@code 412 (Precondition Failed)} if the pensum does not match {@code If-Match},
      * or with status {@code 500 (Internal Server Error)} if the pensum couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/pensums/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Pensum> partialUpdatePensum(
         @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody Pensum pensum
     ) throws URISyntaxException {
         log.debug("REST request to partial update Pensum partially : {}, {}", id, pensum);
@@ -124,19 +143,14 @@ public class PensumResource {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        Optional<Pensum> result = pensumRepository
-            .findById(pensum.getId())
-            .map(existingPensum -> {
-                if (pensum.getNumero() != null) {
-                    existingPensum.setNumero(pensum.getNumero());
-                }
-
-                return existingPensum;
-            })
-            .map(pensumRepository::save);
+        Optional<Pensum> result = pensumService.partialUpdate(
+            pensum,
+            existingPensum -> ETagUtil.checkIfMatch(ifMatch, entityTag(existingPensum), ENTITY_NAME)
+        );
 
-        return ResponseUtil.wrapOrNotFound(
+        return ETagUtil.wrapOrNotFound(
             result,
+            PensumResource::entityTag,
             HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, pensum.getId().toString())
         );
     }
@@ -146,7 +160,8 @@ public class PensumResource {
      *
      * @param pageable the pagination information.
      * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of pensums in body.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of pensums in body,
+     * or with status {@code 304 (Not Modified)} if it matches {@code If-None-Match}.
      */
     @GetMapping("/pensums")
     public ResponseEntity<List<Pensum>> getAllPensums(
@@ -156,25 +171,44 @@ public class PensumResource {
         log.debug("REST request to get a page of Pensums");
         Page<Pensum> page;
         if (eagerload) {
-            page = pensumRepository.findAllWithEagerRelationships(pageable);
+            page = pensumService.findAllWithEagerRelationships(pageable);
         } else {
-            page = pensumRepository.findAll(pageable);
+            page = pensumService.findAll(pageable);
         }
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
-        return ResponseEntity.ok().headers(headers).body(page.getContent());
+        return ResponseEntity
+            .ok()
+            .headers(headers)
+            .eTag(ETagUtil.entityTag(page, Pensum::getId, PensumResource::version))
+            .body(page.getContent());
     }
 
     /**
      * {@code GET  /pensums/:id} : get the "id" pensum.
      *
      * @param id the id of the pensum to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the pensum, or with status {@code 404 (Not Found)}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the pensum,
+     * or with status {@code 304 (Not Modified)} if it matches {@code If-None-Match}, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/pensums/{id}")
     public ResponseEntity<Pensum> getPensum(@PathVariable Long id) {
         log.debug("REST request to get Pensum : {}", id);
-        Optional<Pensum> pensum = pensumRepository.findOneWithEagerRelationships(id);
-        return ResponseUtil.wrapOrNotFound(pensum);
+        Optional<Pensum> pensum = pensumService.findOne(id);
+        return ETagUtil.wrapOrNotFound(pensum, PensumResource::entityTag);
+    }
+
+    /**
+     * {@code GET  /pensums/:id/materias} : get the ids of the materias of the "id" pensum.
+     * <p>
+     * Served from the in-memory curriculum index, without querying the database.
+     *
+     * @param id the id of the pensum.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the ids of the materias, in ascending order.
+     */
+    @GetMapping("/pensums/{id}/materias")
+    public ResponseEntity<long[]> getPensumMateriaIds(@PathVariable Long id) {
+        log.debug("REST request to get the Materias of Pensum : {}", id);
+        return ResponseEntity.ok().body(curriculumIndexService.findMateriaIds(id));
     }
 
     /**
@@ -186,10 +220,32 @@ public class PensumResource {
     @DeleteMapping("/pensums/{id}")
     public ResponseEntity<Void> deletePensum(@PathVariable Long id) {
         log.debug("REST request to delete Pensum : {}", id);
-        pensumRepository.deleteById(id);
+        pensumService.delete(id);
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private static String entityTag(Pensum pensum) {
+        return ETagUtil.entityTag(Collections.singletonList(pensum), Pensum::getId, PensumResource::version);
+    }
+
+    /**
+     * Version of the representation of the pensum, which includes its materias when they are loaded.
+     */
+    private static String version(Pensum pensum) {
+        if (!Hibernate.isInitialized(pensum.getMaterias())) {
+            return String.valueOf(pensum.getVersion());
+        }
+        return (
+            pensum.getVersion() +
+            pensum
+                .getMaterias()
+                .stream()
+                .sorted(Comparator.comparing(Materia::getId))
+                .map(materia -> materia.getId() + ":" + materia.getVersion())
+                .collect(Collectors.joining(",", "[", "]"))
+        );
+    }
 }
@@ -0,0 +1,41 @@
+package com.udea.web.rest;
+
+import com.udea.security.AuthoritiesConstants;
+import com.udea.service.SearchIndexService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for managing the full-text search indexes.
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class SearchIndexResource {
+
+    private final Logger log = LoggerFactory.getLogger(SearchIndexResource.class);
+
+    private final SearchIndexService searchIndexService;
+
+    public SearchIndexResource(SearchIndexService searchIndexService) {
+        this.searchIndexService = searchIndexService;
+    }
+
+    /**
+     * {@code POST  /admin/_search/reindex} : rebuild all the search indexes from the database, in the background.
+     *
+     * @return the {@link ResponseEntity} with status {@code 202 (Accepted)}, or with status {@code 409 (Conflict)} if a rebuild is already running.
+     */
+    @PostMapping("/_search/reindex")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<Void> reindex() {
+        log.debug("REST request to rebuild the search indexes");
+        if (!searchIndexService.reindex()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -2,7 +2,9 @@ package com.udea.web.rest;
 
 import com.udea.domain.Sede;
 import com.udea.repository.SedeRepository;
+import com.udea.service.SedeService;
 import com.udea.web.rest.errors.BadRequestAlertException;
+import com.udea.web.rest.util.ETagUtil;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -11,18 +13,16 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.ResponseUtil;
 
 /**
  * REST controller for managing {@link com.udea.domain.Sede}.
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class SedeResource {
 
     private final Logger log = LoggerFactory.getLogger(SedeResource.class);
@@ -32,9 +32,12 @@ public class SedeResource {
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
+    private final SedeService sedeService;
+
     private final SedeRepository sedeRepository;
 
-    public SedeResource(SedeRepository sedeRepository) {
+    public SedeResource(SedeService sedeService, SedeRepository sedeRepository) {
+        this.sedeService = sedeService;
         this.sedeRepository = sedeRepository;
     }
 
@@ -51,7 +54,7 @@ public class SedeResource {
         if (sede.getId() != null) {
             throw new BadRequestAlertException("A new sede cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        Sede result = sedeRepository.save(sede);
+        Sede result = sedeService.save(sede);
         return ResponseEntity
             .created(new URI("/api/sedes/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
@@ -62,15 +65,21 @@ public class SedeResource {
      * {@code PUT  /sedes/:id} : Updates an existing sede.
      *
      * @param id the id of the sede to save.
+     * @param ifMatch the entity tag the sede must still have, if any.
      * @param sede the sede to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated sede,
      * or with status {@code 400 (Bad Request)} if the sede is not valid,
+     * or with status {@code 409 (Conflict)} if the version of the sede is outdated,
+     * or with status {@code 412 (Precondition Failed)} if the sede does not match {@code If-Match},
      * or with status {@code 500 (Internal Server Error)} if the sede couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/sedes/{id}")
-    public ResponseEntity<Sede> updateSede(@PathVariable(value = "id", required = false) final Long id, @RequestBody Sede sede)
-        throws URISyntaxException {
+    public ResponseEntity<Sede> updateSede(
+        @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @RequestBody Sede sede
+    ) throws URISyntaxException {
         log.debug("REST request to update Sede : {}, {}", id, sede);
         if (sede.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -79,14 +88,13 @@ public class SedeResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!sedeRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Sede result = sedeRepository.save(sede);
+        Sede result = sedeService
+            .update(sede, current -> ETagUtil.checkIfMatch(ifMatch, entityTag(current), ENTITY_NAME))
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, sede.getId().toString()))
+            .eTag(entityTag(result))
             .body(result);
     }
 
@@ -94,16 +102,21 @@ public class SedeResource {
      * {@code PATCH  /sedes/:id} : Partial updates given fields of an existing sede, field will ignore if it is null
      *
      * @param id the id of the sede to save.
+     * @param ifMatch the entity tag the sede must still have, if any.
      * @param sede the sede to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated sede,
      * or with status {@code 400 (Bad Request)} if the sede is not valid,
      * or with status {@code 404 (Not Found)} if the sede is not found,
+     * or with status {@code 412 (Precondition Failed)} if the sede does not match {@code If-Match},
      * or with status {@code 500 (Internal Server Error)} if the sede couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/sedes/{id}", consumes = { "application/json", "application/merge-patch+json" })
-    public ResponseEntity<Sede> partialUpdateSede(@PathVariable(value = "id", required = false) final Long id, @RequestBody Sede sede)
-        throws URISyntaxException {
+    public ResponseEntity<Sede> partialUpdateSede(
+        @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @RequestBody Sede sede
+    ) throws URISyntaxException {
         log.debug("REST request to partial update Sede partially : {}, {}", id, sede);
         if (sede.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -116,22 +129,14 @@ public class SedeResource {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        Optional<Sede> result = sedeRepository
-            .findById(sede.getId())
-            .map(existingSede -> {
-                if (sede.getNombre() != null) {
-                    existingSede.setNombre(sede.getNombre());
-                }
-                if (sede.getDireccion() != null) {
-                    existingSede.setDireccion(sede.getDireccion());
-                }
-
-                return existingSede;
-            })
-            .map(sedeRepository::save);
-
-        return ResponseUtil.wrapOrNotFound(
+        Optional<Sede> result = sedeService.partialUpdate(
+            sede,
+            existingSede -> ETagUtil.checkIfMatch(ifMatch, entityTag(existingSede), ENTITY_NAME)
+        );
+
+        return ETagUtil.wrapOrNotFound(
             result,
+            SedeResource::entityTag,
             HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, sede.getId().toString())
         );
     }
@@ -139,25 +144,28 @@ public class SedeResource {
     /**
      * {@code GET  /sedes} : get all the sedes.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of sedes in body.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of sedes in body,
+     * or with status {@code 304 (Not Modified)} if it matches {@code If-None-Match}.
      */
     @GetMapping("/sedes")
-    public List<Sede> getAllSedes() {
+    public ResponseEntity<List<Sede>> getAllSedes() {
         log.debug("REST request to get all Sedes");
-        return sedeRepository.findAll();
+        List<Sede> sedes = sedeService.findAll();
+        return ResponseEntity.ok().eTag(ETagUtil.entityTag(sedes, Sede::getId, Sede::getVersion)).body(sedes);
     }
 
     /**
      * {@code GET  /sedes/:id} : get the "id" sede.
      *
      * @param id the id of the sede to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the sede, or with status {@code 404 (Not Found)}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the sede,
+     * or with status {@code 304 (Not Modified)} if it matches {@code If-None-Match}, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/sedes/{id}")
     public ResponseEntity<Sede> getSede(@PathVariable Long id) {
         log.debug("REST request to get Sede : {}", id);
-        Optional<Sede> sede = sedeRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(sede);
+        Optional<Sede> sede = sedeService.findOne(id);
+        return ETagUtil.wrapOrNotFound(sede, SedeResource::entityTag);
     }
 
     /**
@@ -169,10 +177,14 @@ public class SedeResource {
     @DeleteMapping("/sedes/{id}")
     public ResponseEntity<Void> deleteSede(@PathVariable Long id) {
         log.debug("REST request to delete Sede : {}", id);
-        sedeRepository.deleteById(id);
+        sedeService.delete(id);
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private static String entityTag(Sede sede) {
+        return ETagUtil.entityTag(sede.getVersion());
+    }
 }
@@ -2,6 +2,7 @@ package com.udea.web.rest;
 
 import com.udea.domain.SolicitudReingreso;
 import com.udea.repository.SolicitudReingresoRepository;
+import com.udea.service.SolicitudReingresoService;
 import com.udea.web.rest.errors.BadRequestAlertException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -11,10 +12,14 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -22,7 +27,6 @@ import tech.jhipster.web.util.ResponseUtil;
  */
 @RestController
 @RequestMapping("/api")
-@Transactional
 public class SolicitudReingresoResource {
 
     private final Logger log = LoggerFactory.getLogger(SolicitudReingresoResource.class);
@@ -32,9 +36,15 @@ public class SolicitudReingresoResource {
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
+    private final SolicitudReingresoService solicitudReingresoService;
+
     private final SolicitudReingresoRepository solicitudReingresoRepository;
 
-    public SolicitudReingresoResource(SolicitudReingresoRepository solicitudReingresoRepository) {
+    public SolicitudReingresoResource(
+        SolicitudReingresoService solicitudReingresoService,
+        SolicitudReingresoRepository solicitudReingresoRepository
+    ) {
+        this.solicitudReingresoService = solicitudReingresoService;
         this.solicitudReingresoRepository = solicitudReingresoRepository;
     }
 
@@ -52,7 +62,7 @@ public class SolicitudReingresoResource {
         if (solicitudReingreso.getId() != null) {
             throw new BadRequestAlertException("A new solicitudReingreso cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        SolicitudReingreso result = solicitudReingresoRepository.save(solicitudReingreso);
+        SolicitudReingreso result = solicitudReingresoService.save(solicitudReingreso);
         return ResponseEntity
             .created(new URI("/api/solicitud-reingresos/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
@@ -86,7 +96,7 @@ public class SolicitudReingresoResource {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        SolicitudReingreso result = solicitudReingresoRepository.save(solicitudReingreso);
+        SolicitudReingreso result = solicitudReingresoService.update(solicitudReingreso);
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, solicitudReingreso.getId().toString()))
@@ -121,19 +131,7 @@ public class SolicitudReingresoResource {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        Optional<SolicitudReingreso> result = solicitudReingresoRepository
-            .findById(solicitudReingreso.getId())
-            .map(existingSolicitudReingreso -> {
-                if (solicitudReingreso.getFechaSolicitud() != null) {
-                    existingSolicitudReingreso.setFechaSolicitud(solicitudReingreso.getFechaSolicitud());
-                }
-                if (solicitudReingreso.getMotivo() != null) {
-                    existingSolicitudReingreso.setMotivo(solicitudReingreso.getMotivo());
-                }
-
-                return existingSolicitudReingreso;
-            })
-            .map(solicitudReingresoRepository::save);
+        Optional<SolicitudReingreso> result = solicitudReingresoService.partialUpdate(solicitudReingreso);
 
         return ResponseUtil.wrapOrNotFound(
             result,
@@ -149,7 +147,7 @@ public class SolicitudReingresoResource {
     @GetMapping("/solicitud-reingresos")
     public List<SolicitudReingreso> getAllSolicitudReingresos() {
         log.debug("REST request to get all SolicitudReingresos");
-        return solicitudReingresoRepository.findAll();
+        return solicitudReingresoService.findAll();
     }
 
     /**
@@ -161,7 +159,7 @@ public class SolicitudReingresoResource {
     @GetMapping("/solicitud-reingresos/{id}")
     public ResponseEntity<SolicitudReingreso> getSolicitudReingreso(@PathVariable Long id) {
         log.debug("REST request to get SolicitudReingreso : {}", id);
-        Optional<SolicitudReingreso> solicitudReingreso = solicitudReingresoRepository.findById(id);
+        Optional<SolicitudReingreso> solicitudReingreso = solicitudReingresoService.findOne(id);
         return ResponseUtil.wrapOrNotFound(solicitudReingreso);
     }
 
@@ -174,10 +172,28 @@ public class SolicitudReingresoResource {
     @DeleteMapping("/solicitud-reingresos/{id}")
     public ResponseEntity<Void> deleteSolicitudReingreso(@PathVariable Long id) {
         log.debug("REST request to delete SolicitudReingreso : {}", id);
-        solicitudReingresoRepository.deleteById(id);
+        solicitudReingresoService.delete(id);
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    /**
+     * {@code GET  /_search/solicitud-reingresos?q=:query} : search for the solicitudReingreso corresponding to the query.
+     *
+     * @param query the query of the solicitudReingreso search.
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the matching solicitudReingresos in body, by relevance.
+     */
+    @GetMapping("/_search/solicitud-reingresos")
+    public ResponseEntity<List<SolicitudReingreso>> searchSolicitudReingresos(
+        @RequestParam("q") String query,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to search for a page of SolicitudReingresos for query {}", query);
+        Page<SolicitudReingreso> page = solicitudReingresoService.search(query, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
 }
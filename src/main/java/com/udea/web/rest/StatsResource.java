@@ -0,0 +1,129 @@
+package com.udea.web.rest;
+
+import com.udea.service.AdmissionRollupService;
+import com.udea.service.IngresoStatsService;
+import com.udea.service.dto.AdmissionBucketDTO;
+import com.udea.service.dto.IngresoStatsDTO;
+import com.udea.web.rest.errors.BadRequestAlertException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the enrollment statistics and the admission time series.
+ */
+@RestController
+@RequestMapping("/api/stats")
+public class StatsResource {
+
+    private final Logger log = LoggerFactory.getLogger(StatsResource.class);
+
+    private static final String ENTITY_NAME = "ingresoStats";
+
+    private static final String SERIES_ENTITY_NAME = "admissionSeries";
+
+    private final IngresoStatsService ingresoStatsService;
+
+    private final AdmissionRollupService admissionRollupService;
+
+    public StatsResource(IngresoStatsService ingresoStatsService, AdmissionRollupService admissionRollupService) {
+        this.ingresoStatsService = ingresoStatsService;
+        this.admissionRollupService = admissionRollupService;
+    }
+
+    /**
+     * {@code GET  /stats/ingresos} : count the ingresoEstudiantes, grouped by carrera, sede, modalidad and/or term.
+     *
+     * @param groupBy the dimensions to group by, among {@code carrera}, {@code sede}, {@code modalidad} and {@code term}.
+     * @param from the first term to count, as {@code 2024-1}, if any.
+     * @param to the last term to count, as {@code 2024-2}, if any.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of groups in body, or with status {@code 400 (Bad Request)} if a dimension or a term is not valid.
+     */
+    @GetMapping("/ingresos")
+    public ResponseEntity<List<IngresoStatsDTO>> getIngresoStats(
+        @RequestParam(required = false) List<String> groupBy,
+        @RequestParam(required = false) String from,
+        @RequestParam(required = false) String to
+    ) {
+        log.debug("REST request to get the IngresoEstudiante statistics by {} from {} to {}", groupBy, from, to);
+        Set<IngresoStatsService.Dimension> dimensions = EnumSet.noneOf(IngresoStatsService.Dimension.class);
+        if (groupBy != null) {
+            for (String dimension : groupBy) {
+                try {
+                    dimensions.add(IngresoStatsService.Dimension.valueOf(dimension.trim().toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException e) {
+                    throw new BadRequestAlertException("Invalid groupBy dimension: " + dimension, ENTITY_NAME, "invalidgroupby");
+                }
+            }
+        }
+        return ResponseEntity.ok().body(ingresoStatsService.count(dimensions, parseTerm(from), parseTerm(to)));
+    }
+
+    /**
+     * {@code GET  /stats/ingresos/series} : get the number of ingresoEstudiantes per day, week or term.
+     *
+     * @param granularity the period of the buckets, among {@code day}, {@code week} and {@code term}.
+     * @param from the first day of the series.
+     * @param to the last day of the series, today in UTC if not given.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of buckets in body, or with status {@code 400 (Bad Request)} if the granularity or the range is not valid.
+     */
+    @GetMapping("/ingresos/series")
+    public ResponseEntity<List<AdmissionBucketDTO>> getIngresoSeries(
+        @RequestParam(defaultValue = "day") String granularity,
+        @RequestParam LocalDate from,
+        @RequestParam(required = false) LocalDate to
+    ) {
+        log.debug("REST request to get the IngresoEstudiante series by {} from {} to {}", granularity, from, to);
+        return ResponseEntity.ok().body(series(AdmissionRollupService.Series.INGRESO, granularity, from, to));
+    }
+
+    /**
+     * {@code GET  /stats/reingresos/series} : get the number of solicitudReingresos per day, week or term.
+     *
+     * @param granularity the period of the buckets, among {@code day}, {@code week} and {@code term}.
+     * @param from the first day of the series.
+     * @param to the last day of the series, today in UTC if not given.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of buckets in body, or with status {@code 400 (Bad Request)} if the granularity or the range is not valid.
+     */
+    @GetMapping("/reingresos/series")
+    public ResponseEntity<List<AdmissionBucketDTO>> getReingresoSeries(
+        @RequestParam(defaultValue = "day") String granularity,
+        @RequestParam LocalDate from,
+        @RequestParam(required = false) LocalDate to
+    ) {
+        log.debug("REST request to get the SolicitudReingreso series by {} from {} to {}", granularity, from, to);
+        return ResponseEntity.ok().body(series(AdmissionRollupService.Series.REINGRESO, granularity, from, to));
+    }
+
+    private List<AdmissionBucketDTO> series(AdmissionRollupService.Series series, String granularity, LocalDate from, LocalDate to) {
+        AdmissionRollupService.Granularity period;
+        try {
+            period = AdmissionRollupService.Granularity.valueOf(granularity.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid granularity: " + granularity, SERIES_ENTITY_NAME, "invalidgranularity");
+        }
+        try {
+            return admissionRollupService.series(series, period, from, to != null ? to : LocalDate.now(ZoneOffset.UTC));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException(e.getMessage(), SERIES_ENTITY_NAME, "invalidrange");
+        }
+    }
+
+    private static Integer parseTerm(String term) {
+        if (term == null || term.isBlank()) {
+            return null;
+        }
+        try {
+            return IngresoStatsService.parseTerm(term.trim());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid term: " + term, ENTITY_NAME, "invalidterm");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.udea.web.rest.errors;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.zalando.problem.AbstractThrowableProblem;
+import org.zalando.problem.Status;
+
+/**
+ * Thrown when the {@code If-Match} header of an update does not match the current version of the entity.
+ */
+@SuppressWarnings("java:S110") // Inheritance tree of classes should not be too deep
+public class PreconditionFailedAlertException extends AbstractThrowableProblem {
+
+    private static final long serialVersionUID = 1L;
+
+    public PreconditionFailedAlertException(String defaultMessage, String entityName) {
+        super(ErrorConstants.DEFAULT_TYPE, defaultMessage, Status.PRECONDITION_FAILED, null, null, null, getAlertParameters(entityName));
+    }
+
+    private static Map<String, Object> getAlertParameters(String entityName) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("message", ErrorConstants.ERR_CONCURRENCY_FAILURE);
+        parameters.put("params", entityName);
+        return parameters;
+    }
+}
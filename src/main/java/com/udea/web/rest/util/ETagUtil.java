@@ -0,0 +1,123 @@
+package com.udea.web.rest.util;
+
+import com.udea.web.rest.errors.PreconditionFailedAlertException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Utility class for the HTTP entity tags of the entities, derived from their {@code @Version}.
+ * <p>
+ * A {@link ResponseEntity} carrying an entity tag is answered by Spring MVC with {@code 304 (Not Modified)}, without
+ * serializing its body, when the tag matches the {@code If-None-Match} header of a {@code GET} request.
+ */
+public final class ETagUtil {
+
+    private static final String ANY = "*";
+
+    private ETagUtil() {}
+
+    /**
+     * Build the strong entity tag of a single entity.
+     *
+     * @param version the version of the entity.
+     * @return the quoted entity tag.
+     */
+    public static String entityTag(Object version) {
+        return quote(String.valueOf(version));
+    }
+
+    /**
+     * Build the strong entity tag of a list of entities, changing whenever an entity is added, removed, moved or updated.
+     *
+     * @param entities the entities, in the order of the response.
+     * @param id the identifier of an entity.
+     * @param version the version of an entity, including the versions of the related entities in its representation.
+     * @param <T> the type of the entities.
+     * @return the quoted entity tag.
+     */
+    public static <T> String entityTag(Collection<T> entities, Function<T, Long> id, Function<T, ?> version) {
+        return quote(hash(new StringBuilder(), entities, id, version));
+    }
+
+    /**
+     * Build the strong entity tag of a page of entities, also changing with the total number of entities.
+     *
+     * @param page the page of entities.
+     * @param id the identifier of an entity.
+     * @param version the version of an entity, including the versions of the related entities in its representation.
+     * @param <T> the type of the entities.
+     * @return the quoted entity tag.
+     */
+    public static <T> String entityTag(Page<T> page, Function<T, Long> id, Function<T, ?> version) {
+        return quote(hash(new StringBuilder().append(page.getTotalElements()).append(';'), page.getContent(), id, version));
+    }
+
+    /**
+     * Wrap the entity into a {@link ResponseEntity} with status {@code 200 (OK)} and its entity tag, or throw a
+     * {@link ResponseStatusException} with status {@code 404 (Not Found)}.
+     *
+     * @param maybeResponse the entity to wrap.
+     * @param entityTag the entity tag of the entity.
+     * @param <X> the type of the entity.
+     * @return the response.
+     */
+    public static <X> ResponseEntity<X> wrapOrNotFound(Optional<X> maybeResponse, Function<X, String> entityTag) {
+        return wrapOrNotFound(maybeResponse, entityTag, null);
+    }
+
+    /**
+     * Wrap the entity into a {@link ResponseEntity} with status {@code 200 (OK)}, the given headers and its entity tag,
+     * or throw a {@link ResponseStatusException} with status {@code 404 (Not Found)}.
+     *
+     * @param maybeResponse the entity to wrap.
+     * @param entityTag the entity tag of the entity.
+     * @param headers the headers of the response.
+     * @param <X> the type of the entity.
+     * @return the response.
+     */
+    public static <X> ResponseEntity<X> wrapOrNotFound(Optional<X> maybeResponse, Function<X, String> entityTag, HttpHeaders headers) {
+        return maybeResponse
+            .map(response -> ResponseEntity.ok().headers(headers).eTag(entityTag.apply(response)).body(response))
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Check the {@code If-Match} header of an update against the current entity tag of the entity.
+     *
+     * @param ifMatch the {@code If-Match} header, the update is unconditional when {@code null}.
+     * @param entityTag the current entity tag of the entity.
+     * @param entityName the name of the entity, for the error alert.
+     * @throws PreconditionFailedAlertException {@code 412 (Precondition Failed)} if none of the tags match.
+     */
+    public static void checkIfMatch(String ifMatch, String entityTag, String entityName) {
+        if (ifMatch == null || ANY.equals(ifMatch.trim())) {
+            return;
+        }
+        for (String candidate : ifMatch.split(",")) {
+            // Weak tags never match with the strong comparison required by If-Match
+            if (candidate.trim().equals(entityTag)) {
+                return;
+            }
+        }
+        throw new PreconditionFailedAlertException("The entity was modified since it was read", entityName);
+    }
+
+    private static <T> String hash(StringBuilder representation, Collection<T> entities, Function<T, Long> id, Function<T, ?> version) {
+        for (T entity : entities) {
+            representation.append(id.apply(entity)).append(':').append(version.apply(entity)).append(',');
+        }
+        return DigestUtils.md5DigestAsHex(representation.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String quote(String tag) {
+        return '"' + tag + '"';
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Utilities shared by the REST controllers.
+ */
+package com.udea.web.rest.util;
@@ -0,0 +1,41 @@
+import { useEffect, useState } from 'react';
+
+import { useAppDispatch, useAppSelector } from 'app/config/store';
+import { ITEMS_PER_PAGE } from 'app/shared/util/pagination.constants';
+import { IEstudiante } from 'app/shared/model/estudiante.model';
+import { getEntities, searchEntities } from './estudiante.reducer';
+
+const MIN_QUERY_LENGTH = 2;
+
+const QUERY_DELAY_MS = 300;
+
+/**
+ * Estudiantes offered by the estudiante dropdown of another entity: the first page of estudiantes, or the results of a
+ * search once a query is typed. The picked estudiante, or else the current one, stays among them.
+ */
+export const useEstudianteLookup = (current?: IEstudiante) => {
+  const dispatch = useAppDispatch();
+  const found = useAppSelector(state => state.estudiante.entities);
+  const [query, setQuery] = useState('');
+  const [picked, setPicked] = useState<IEstudiante>(null);
+
+  useEffect(() => {
+    // Delayed, so that a search is only sent once the typing pauses
+    const timeout = setTimeout(() => {
+      const trimmed = query.trim();
+      if (trimmed.length >= MIN_QUERY_LENGTH) {
+        dispatch(searchEntities({ query: trimmed }));
+      } else {
+        dispatch(getEntities({ page: 0, size: ITEMS_PER_PAGE, sort: 'id,asc' }));
+      }
+    }, QUERY_DELAY_MS);
+    return () => clearTimeout(timeout);
+  }, [query]);
+
+  const selected = picked ?? current;
+  const estudiantes = selected?.id && !found.some(it => it.id === selected.id) ? [selected, ...found] : found;
+
+  const pick = (id: string) => setPicked(estudiantes.find(it => it.id.toString() === id) ?? null);
+
+  return { estudiantes, query, setQuery, pick };
+};
@@ -9,6 +9,7 @@ import reducer, {
   deleteEntity,
   getEntities,
   getEntity,
+  searchEntities,
   updateEntity,
   partialUpdateEntity,
   reset,
@@ -30,6 +31,7 @@ describe('Entities reducer tests', () => {
     errorMessage: null,
     entities: [],
     entity: defaultValue,
+    totalItems: 0,
     updating: false,
     updateSuccess: false,
   };
@@ -59,7 +61,7 @@ describe('Entities reducer tests', () => {
 
   describe('Requests', () => {
     it('should set state to loading', () => {
-      testMultipleTypes([getEntities.pending.type, getEntity.pending.type], {}, state => {
+      testMultipleTypes([getEntities.pending.type, searchEntities.pending.type, getEntity.pending.type], {}, state => {
         expect(state).toMatchObject({
           errorMessage: null,
           updateSuccess: false,
@@ -94,6 +96,7 @@ describe('Entities reducer tests', () => {
       testMultipleTypes(
         [
           getEntities.rejected.type,
+          searchEntities.rejected.type,
           getEntity.rejected.type,
           createEntity.rejected.type,
           updateEntity.rejected.type,
@@ -117,7 +120,7 @@ describe('Entities reducer tests', () => {
 
   describe('Successes', () => {
     it('should fetch all entities', () => {
-      const payload = { data: [{ 1: 'fake1' }, { 2: 'fake2' }] };
+      const payload = { data: [{ 1: 'fake1' }, { 2: 'fake2' }], headers: { 'x-total-count': 123 } };
       expect(
         reducer(undefined, {
           type: getEntities.fulfilled.type,
@@ -126,6 +129,22 @@ describe('Entities reducer tests', () => {
       ).toEqual({
         ...initialState,
         loading: false,
+        totalItems: payload.headers['x-total-count'],
+        entities: payload.data,
+      });
+    });
+
+    it('should search all entities', () => {
+      const payload = { data: [{ 1: 'fake1' }, { 2: 'fake2' }], headers: { 'x-total-count': 123 } };
+      expect(
+        reducer(undefined, {
+          type: searchEntities.fulfilled.type,
+          payload,
+        })
+      ).toEqual({
+        ...initialState,
+        loading: false,
+        totalItems: payload.headers['x-total-count'],
         entities: payload.data,
       });
     });
@@ -201,6 +220,21 @@ describe('Entities reducer tests', () => {
       expect(store.getActions()[1]).toMatchObject(expectedActions[1]);
     });
 
+    it('dispatches SEARCH_ESTUDIANTE actions', async () => {
+      const expectedActions = [
+        {
+          type: searchEntities.pending.type,
+        },
+        {
+          type: searchEntities.fulfilled.type,
+          payload: resolvedObject,
+        },
+      ];
+      await store.dispatch(searchEntities({ query: 'garcia' }));
+      expect(store.getActions()[0]).toMatchObject(expectedActions[0]);
+      expect(store.getActions()[1]).toMatchObject(expectedActions[1]);
+    });
+
     it('dispatches FETCH_ESTUDIANTE actions', async () => {
       const expectedActions = [
         {
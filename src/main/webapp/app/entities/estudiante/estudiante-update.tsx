@@ -25,7 +25,7 @@ export const EstudianteUpdate = () => {
   const updateSuccess = useAppSelector(state => state.estudiante.updateSuccess);
 
   const handleClose = () => {
-    navigate('/estudiante');
+    navigate('/estudiante' + location.search);
   };
 
   useEffect(() => {
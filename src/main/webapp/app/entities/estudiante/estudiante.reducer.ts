@@ -11,15 +11,22 @@ const initialState: EntityState<IEstudiante> = {
   entities: [],
   entity: defaultValue,
   updating: false,
+  totalItems: 0,
   updateSuccess: false,
 };
 
 const apiUrl = 'api/estudiantes';
+const apiSearchUrl = 'api/_search/estudiantes';
 
 // Actions
 
 export const getEntities = createAsyncThunk('estudiante/fetch_entity_list', async ({ page, size, sort }: IQueryParams) => {
-  const requestUrl = `${apiUrl}?cacheBuster=${new Date().getTime()}`;
+  const requestUrl = `${apiUrl}${sort ? `?page=${page}&size=${size}&sort=${sort}&` : '?'}cacheBuster=${new Date().getTime()}`;
+  return axios.get<IEstudiante[]>(requestUrl);
+});
+
+export const searchEntities = createAsyncThunk('estudiante/search_entity', async ({ query, page, size, sort }: IQueryParams) => {
+  const requestUrl = `${apiSearchUrl}?q=${encodeURIComponent(query)}${sort ? `&page=${page}&size=${size}&sort=${sort}` : ''}`;
   return axios.get<IEstudiante[]>(requestUrl);
 });
 
@@ -89,13 +96,14 @@ export const EstudianteSlice = createEntitySlice({
         state.updateSuccess = true;
         state.entity = {};
       })
-      .addMatcher(isFulfilled(getEntities), (state, action) => {
-        const { data } = action.payload;
+      .addMatcher(isFulfilled(getEntities, searchEntities), (state, action) => {
+        const { data, headers } = action.payload;
 
         return {
           ...state,
           loading: false,
           entities: data,
+          totalItems: parseInt(headers['x-total-count'], 10),
         };
       })
       .addMatcher(isFulfilled(createEntity, updateEntity, partialUpdateEntity), (state, action) => {
@@ -104,7 +112,7 @@ export const EstudianteSlice = createEntitySlice({
         state.updateSuccess = true;
         state.entity = action.payload.data;
       })
-      .addMatcher(isPending(getEntities, getEntity), state => {
+      .addMatcher(isPending(getEntities, searchEntities, getEntity), state => {
         state.errorMessage = null;
         state.updateSuccess = false;
         state.loading = true;
@@ -1,10 +1,12 @@
 import React, { useState, useEffect } from 'react';
 import { Link, useLocation, useNavigate } from 'react-router-dom';
 import { Button, Table } from 'reactstrap';
-import { Translate, TextFormat } from 'react-jhipster';
+import { Translate, TextFormat, getSortState, JhiPagination, JhiItemCount } from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
 import { APP_DATE_FORMAT, APP_LOCAL_DATE_FORMAT } from 'app/config/constants';
+import { ASC, DESC, ITEMS_PER_PAGE, SORT } from 'app/shared/util/pagination.constants';
+import { overridePaginationStateWithQueryParams } from 'app/shared/util/entity-utils';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { IEstudiante } from 'app/shared/model/estudiante.model';
@@ -16,15 +18,67 @@ export const Estudiante = () => {
   const location = useLocation();
   const navigate = useNavigate();
 
+  const [paginationState, setPaginationState] = useState(
+    overridePaginationStateWithQueryParams(getSortState(location, ITEMS_PER_PAGE, 'id'), location.search)
+  );
+
   const estudianteList = useAppSelector(state => state.estudiante.entities);
   const loading = useAppSelector(state => state.estudiante.loading);
+  const totalItems = useAppSelector(state => state.estudiante.totalItems);
+
+  const getAllEntities = () => {
+    dispatch(
+      getEntities({
+        page: paginationState.activePage - 1,
+        size: paginationState.itemsPerPage,
+        sort: `${paginationState.sort},${paginationState.order}`,
+      })
+    );
+  };
+
+  const sortEntities = () => {
+    getAllEntities();
+    const endURL = `?page=${paginationState.activePage}&sort=${paginationState.sort},${paginationState.order}`;
+    if (location.search !== endURL) {
+      navigate(`${location.pathname}${endURL}`);
+    }
+  };
 
   useEffect(() => {
-    dispatch(getEntities({}));
-  }, []);
+    sortEntities();
+  }, [paginationState.activePage, paginationState.order, paginationState.sort]);
+
+  useEffect(() => {
+    const params = new URLSearchParams(location.search);
+    const page = params.get('page');
+    const sort = params.get(SORT);
+    if (page && sort) {
+      const sortSplit = sort.split(',');
+      setPaginationState({
+        ...paginationState,
+        activePage: +page,
+        sort: sortSplit[0],
+        order: sortSplit[1],
+      });
+    }
+  }, [location.search]);
+
+  const sort = p => () => {
+    setPaginationState({
+      ...paginationState,
+      order: paginationState.order === ASC ? DESC : ASC,
+      sort: p,
+    });
+  };
+
+  const handlePagination = currentPage =>
+    setPaginationState({
+      ...paginationState,
+      activePage: currentPage,
+    });
 
   const handleSyncList = () => {
-    dispatch(getEntities({}));
+    sortEntities();
   };
 
   return (
@@ -48,23 +102,23 @@ export const Estudiante = () => {
           <Table responsive>
             <thead>
               <tr>
-                <th>
-                  <Translate contentKey="arqui3RealApp.estudiante.id">Id</Translate>
+                <th className="hand" onClick={sort('id')}>
+                  <Translate contentKey="arqui3RealApp.estudiante.id">Id</Translate> <FontAwesomeIcon icon="sort" />
                 </th>
-                <th>
-                  <Translate contentKey="arqui3RealApp.estudiante.nombre">Nombre</Translate>
+                <th className="hand" onClick={sort('nombre')}>
+                  <Translate contentKey="arqui3RealApp.estudiante.nombre">Nombre</Translate> <FontAwesomeIcon icon="sort" />
                 </th>
-                <th>
-                  <Translate contentKey="arqui3RealApp.estudiante.apellido">Apellido</Translate>
+                <th className="hand" onClick={sort('apellido')}>
+                  <Translate contentKey="arqui3RealApp.estudiante.apellido">Apellido</Translate> <FontAwesomeIcon icon="sort" />
                 </th>
-                <th>
-                  <Translate contentKey="arqui3RealApp.estudiante.fechaNacimiento">Fecha Nacimiento</Translate>
+                <th className="hand" onClick={sort('fechaNacimiento')}>
+                  <Translate contentKey="arqui3RealApp.estudiante.fechaNacimiento">Fecha Nacimiento</Translate> <FontAwesomeIcon icon="sort" />
                 </th>
-                <th>
-                  <Translate contentKey="arqui3RealApp.estudiante.correo">Correo</Translate>
+                <th className="hand" onClick={sort('correo')}>
+                  <Translate contentKey="arqui3RealApp.estudiante.correo">Correo</Translate> <FontAwesomeIcon icon="sort" />
                 </th>
-                <th>
-                  <Translate contentKey="arqui3RealApp.estudiante.direccion">Direccion</Translate>
+                <th className="hand" onClick={sort('direccion')}>
+                  <Translate contentKey="arqui3RealApp.estudiante.direccion">Direccion</Translate> <FontAwesomeIcon icon="sort" />
                 </th>
                 <th />
               </tr>
@@ -120,6 +174,24 @@ export const Estudiante = () => {
           )
         )}
       </div>
+      {totalItems ? (
+        <div className={estudianteList && estudianteList.length > 0 ? '' : 'd-none'}>
+          <div className="justify-content-center d-flex">
+            <JhiItemCount page={paginationState.activePage} total={totalItems} itemsPerPage={paginationState.itemsPerPage} i18nEnabled />
+          </div>
+          <div className="justify-content-center d-flex">
+            <JhiPagination
+              activePage={paginationState.activePage}
+              onSelect={handlePagination}
+              maxButtons={5}
+              itemsPerPage={paginationState.itemsPerPage}
+              totalItems={totalItems}
+            />
+          </div>
+        </div>
+      ) : (
+        ''
+      )}
     </div>
   );
 };
@@ -1,6 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import { Link, useNavigate, useParams } from 'react-router-dom';
-import { Button, Row, Col, FormText } from 'reactstrap';
+import { Button, Row, Col, FormGroup, FormText, Input } from 'reactstrap';
 import { isNumber, Translate, translate, ValidatedField, ValidatedForm } from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
@@ -9,7 +9,7 @@ import { mapIdList } from 'app/shared/util/entity-utils';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { IEstudiante } from 'app/shared/model/estudiante.model';
-import { getEntities as getEstudiantes } from 'app/entities/estudiante/estudiante.reducer';
+import { useEstudianteLookup } from 'app/entities/estudiante/estudiante-lookup';
 import { ICarrera } from 'app/shared/model/carrera.model';
 import { getEntities as getCarreras } from 'app/entities/carrera/carrera.reducer';
 import { ISede } from 'app/shared/model/sede.model';
@@ -27,7 +27,6 @@ export const IngresoEstudianteUpdate = () => {
   const { id } = useParams<'id'>();
   const isNew = id === undefined;
 
-  const estudiantes = useAppSelector(state => state.estudiante.entities);
   const carreras = useAppSelector(state => state.carrera.entities);
   const sedes = useAppSelector(state => state.sede.entities);
   const pensums = useAppSelector(state => state.pensum.entities);
@@ -35,6 +34,9 @@ export const IngresoEstudianteUpdate = () => {
   const loading = useAppSelector(state => state.ingresoEstudiante.loading);
   const updating = useAppSelector(state => state.ingresoEstudiante.updating);
   const updateSuccess = useAppSelector(state => state.ingresoEstudiante.updateSuccess);
+  // The estudiantes are too many to be listed, they are looked up
+  const estudianteLookup = useEstudianteLookup(isNew ? undefined : ingresoEstudianteEntity.estudiante);
+  const estudiantes = estudianteLookup.estudiantes;
 
   const handleClose = () => {
     navigate('/ingreso-estudiante' + location.search);
@@ -47,7 +49,6 @@ export const IngresoEstudianteUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getEstudiantes({}));
     dispatch(getCarreras({}));
     dispatch(getSedes({}));
     dispatch(getPensums({}));
@@ -125,18 +126,28 @@ export const IngresoEstudianteUpdate = () => {
                 type="datetime-local"
                 placeholder="YYYY-MM-DD HH:mm"
               />
+              <FormGroup>
+                <Input
+                  id="ingreso-estudiante-estudiante-search"
+                  type="search"
+                  value={estudianteLookup.query}
+                  onChange={event => estudianteLookup.setQuery(event.target.value)}
+                  placeholder={translate('arqui3RealApp.estudiante.home.search')}
+                />
+              </FormGroup>
               <ValidatedField
                 id="ingreso-estudiante-estudiante"
                 name="estudiante"
                 data-cy="estudiante"
                 label={translate('arqui3RealApp.ingresoEstudiante.estudiante')}
                 type="select"
+                onChange={event => estudianteLookup.pick(event.target.value)}
               >
                 <option value="" key="0" />
                 {estudiantes
                   ? estudiantes.map(otherEntity => (
                       <option value={otherEntity.id} key={otherEntity.id}>
-                        {otherEntity.id}
+                        {otherEntity.id} - {otherEntity.nombre} {otherEntity.apellido}
                       </option>
                     ))
                   : null}
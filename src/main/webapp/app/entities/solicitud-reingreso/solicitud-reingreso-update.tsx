@@ -1,6 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import { Link, useNavigate, useParams } from 'react-router-dom';
-import { Button, Row, Col, FormText } from 'reactstrap';
+import { Button, Row, Col, FormGroup, FormText, Input } from 'reactstrap';
 import { isNumber, Translate, translate, ValidatedField, ValidatedForm } from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
@@ -9,7 +9,7 @@ import { mapIdList } from 'app/shared/util/entity-utils';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { IEstudiante } from 'app/shared/model/estudiante.model';
-import { getEntities as getEstudiantes } from 'app/entities/estudiante/estudiante.reducer';
+import { useEstudianteLookup } from 'app/entities/estudiante/estudiante-lookup';
 import { ISolicitudReingreso } from 'app/shared/model/solicitud-reingreso.model';
 import { getEntity, updateEntity, createEntity, reset } from './solicitud-reingreso.reducer';
 
@@ -21,11 +21,13 @@ export const SolicitudReingresoUpdate = () => {
   const { id } = useParams<'id'>();
   const isNew = id === undefined;
 
-  const estudiantes = useAppSelector(state => state.estudiante.entities);
   const solicitudReingresoEntity = useAppSelector(state => state.solicitudReingreso.entity);
   const loading = useAppSelector(state => state.solicitudReingreso.loading);
   const updating = useAppSelector(state => state.solicitudReingreso.updating);
   const updateSuccess = useAppSelector(state => state.solicitudReingreso.updateSuccess);
+  // The estudiantes are too many to be listed, they are looked up
+  const estudianteLookup = useEstudianteLookup(isNew ? undefined : solicitudReingresoEntity.estudiante);
+  const estudiantes = estudianteLookup.estudiantes;
 
   const handleClose = () => {
     navigate('/solicitud-reingreso');
@@ -38,7 +40,6 @@ export const SolicitudReingresoUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getEstudiantes({}));
   }, []);
 
   useEffect(() => {
@@ -114,18 +115,28 @@ export const SolicitudReingresoUpdate = () => {
                 data-cy="motivo"
                 type="text"
               />
+              <FormGroup>
+                <Input
+                  id="solicitud-reingreso-estudiante-search"
+                  type="search"
+                  value={estudianteLookup.query}
+                  onChange={event => estudianteLookup.setQuery(event.target.value)}
+                  placeholder={translate('arqui3RealApp.estudiante.home.search')}
+                />
+              </FormGroup>
               <ValidatedField
                 id="solicitud-reingreso-estudiante"
                 name="estudiante"
                 data-cy="estudiante"
                 label={translate('arqui3RealApp.solicitudReingreso.estudiante')}
                 type="select"
+                onChange={event => estudianteLookup.pick(event.target.value)}
               >
                 <option value="" key="0" />
                 {estudiantes
                   ? estudiantes.map(otherEntity => (
                       <option value={otherEntity.id} key={otherEntity.id}>
-                        {otherEntity.id}
+                        {otherEntity.id} - {otherEntity.nombre} {otherEntity.apellido}
                       </option>
                     ))
                   : null}
@@ -2,6 +2,7 @@ import { Modalidad } from 'app/shared/model/enumerations/modalidad.model';
 
 export interface ICarrera {
   id?: number;
+  version?: number | null;
   nombre?: string | null;
   modalidad?: Modalidad | null;
 }
@@ -2,6 +2,7 @@ import dayjs from 'dayjs';
 
 export interface IEstudiante {
   id?: number;
+  version?: number | null;
   nombre?: string | null;
   apellido?: string | null;
   fechaNacimiento?: string | null;
@@ -2,6 +2,7 @@ import { IPensum } from 'app/shared/model/pensum.model';
 
 export interface IMateria {
   id?: number;
+  version?: number | null;
   nombre?: string | null;
   creditos?: number | null;
   pensums?: IPensum[] | null;
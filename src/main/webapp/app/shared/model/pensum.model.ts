@@ -2,6 +2,7 @@ import { IMateria } from 'app/shared/model/materia.model';
 
 export interface IPensum {
   id?: number;
+  version?: number | null;
   numero?: number | null;
   materias?: IMateria[] | null;
 }
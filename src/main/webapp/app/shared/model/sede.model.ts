@@ -1,5 +1,6 @@
 export interface ISede {
   id?: number;
+  version?: number | null;
   nombre?: string | null;
   direccion?: string | null;
 }
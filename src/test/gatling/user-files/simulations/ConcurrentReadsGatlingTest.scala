@@ -0,0 +1,73 @@
+import _root_.io.gatling.core.scenario.Simulation
+import ch.qos.logback.classic.{Level, LoggerContext}
+import io.gatling.core.Predef._
+import io.gatling.http.Predef._
+import org.slf4j.LoggerFactory
+
+import scala.concurrent.duration._
+
+/**
+ * Throughput test of the read endpoints under a fixed number of concurrent clients.
+ *
+ * Compare the requests per second of a run against the default worker pool with a run against the virtual-threads
+ * profile (./mvnw -Pprod,virtual-threads on JDK 21), with the same Hikari pool size:
+ * -Dusers=2000 -Dduration=5
+ */
+class ConcurrentReadsGatlingTest extends Simulation {
+
+    val context: LoggerContext = LoggerFactory.getILoggerFactory.asInstanceOf[LoggerContext]
+    // Log all HTTP requests
+    //context.getLogger("io.gatling.http").setLevel(Level.valueOf("TRACE"))
+    // Log failed HTTP requests
+    //context.getLogger("io.gatling.http").setLevel(Level.valueOf("DEBUG"))
+
+    val baseURL = Option(System.getProperty("baseURL")) getOrElse """http://localhost:8080"""
+
+    val httpConf = http
+        .baseUrl(baseURL)
+        .acceptHeader("*/*")
+        .acceptEncodingHeader("gzip, deflate")
+        .connectionHeader("keep-alive")
+        .shareConnections
+
+    val headers_http_authentication = Map(
+        "Content-Type" -> """application/json""",
+        "Accept" -> """application/json"""
+    )
+
+    val headers_http_authenticated = Map(
+        "Accept" -> """application/json""",
+        "Authorization" -> "${access_token}"
+    )
+
+    val scn = scenario("Concurrent reads")
+        .exec(http("Authentication")
+        .post("/api/authenticate")
+        .headers(headers_http_authentication)
+        .body(StringBody("""{"username":"admin", "password":"admin"}""")).asJson
+        .check(header("Authorization").saveAs("access_token"))).exitHereIfFailed
+        .forever {
+            exec(http("Get a page of estudiantes")
+            .get("/api/estudiantes?page=0&size=20")
+            .headers(headers_http_authenticated)
+            .check(status.is(200)))
+            .exec(http("Get a page of ingresoEstudiantes")
+            .get("/api/ingreso-estudiantes?page=0&size=20")
+            .headers(headers_http_authenticated)
+            .check(status.is(200)))
+            .exec(http("Get all sedes")
+            .get("/api/sedes")
+            .headers(headers_http_authenticated)
+            .check(status.in(200, 304)))
+        }
+
+    val users = scenario("Users").exec(scn)
+
+    setUp(
+        users.inject(
+            rampConcurrentUsers(0) to (Integer.getInteger("users", 2000)) during (Integer.getInteger("ramp", 1) minutes),
+            constantConcurrentUsers(Integer.getInteger("users", 2000)) during (Integer.getInteger("duration", 5) minutes)
+        )
+    ).protocols(httpConf)
+        .maxDuration((Integer.getInteger("ramp", 1) + Integer.getInteger("duration", 5)) minutes)
+}
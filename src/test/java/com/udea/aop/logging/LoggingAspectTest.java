@@ -0,0 +1,155 @@
+package com.udea.aop.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.udea.config.ApplicationProperties;
+import com.udea.domain.Sede;
+import com.udea.repository.SedeRepository;
+import com.udea.service.ExpedienteService;
+import com.udea.service.SedeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Unit tests for the {@link LoggingAspect}.
+ */
+class LoggingAspectTest {
+
+    private final Logger applicationLogger = (Logger) LoggerFactory.getLogger("com.udea");
+
+    private ListAppender<ILoggingEvent> logs;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ApplicationProperties.Tracing tracingProperties;
+
+    private SedeRepository sedeRepository;
+
+    private SedeService sedeService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracingProperties = new ApplicationProperties.Tracing();
+        sedeRepository = mock(SedeRepository.class);
+        sedeService = tracedSedeService();
+        logs = new ListAppender<>();
+        logs.start();
+        applicationLogger.addAppender(logs);
+    }
+
+    @AfterEach
+    void tearDown() {
+        applicationLogger.detachAppender(logs);
+    }
+
+    @Test
+    void testTimesCalls() {
+        when(sedeRepository.findAll()).thenReturn(List.of());
+
+        sedeService.findAll();
+        sedeService.findAll();
+
+        assertThat(
+            meterRegistry
+                .get(LoggingAspect.TIMER_METER_NAME)
+                .tag("class", "SedeService")
+                .tag("method", "findAll")
+                .tag("exception", "none")
+                .timer()
+                .count()
+        )
+            .isEqualTo(2);
+    }
+
+    @Test
+    void testTimesThrowingCalls() {
+        when(sedeRepository.findAll()).thenThrow(new IllegalStateException("test"));
+
+        assertThatThrownBy(() -> sedeService.findAll()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(
+            meterRegistry
+                .get(LoggingAspect.TIMER_METER_NAME)
+                .tag("method", "findAll")
+                .tag("exception", "IllegalStateException")
+                .timer()
+                .count()
+        )
+            .isEqualTo(1);
+    }
+
+    @Test
+    void testSlowCallIsLoggedWithArguments() {
+        tracingProperties.setSlowCallThreshold(Duration.ZERO);
+        sedeService = tracedSedeService();
+
+        sedeService.findOne(42L);
+
+        assertThat(logs.list)
+            .singleElement()
+            .satisfies(event -> {
+                assertThat(event.getLevel()).isEqualTo(Level.WARN);
+                assertThat(event.getLoggerName()).isEqualTo(SedeService.class.getName());
+                assertThat(event.getFormattedMessage()).startsWith("Slow call: findOne() took ").endsWith(" with argument[s] = [42]");
+            });
+    }
+
+    @Test
+    void testSlowCallsAreSampled() {
+        tracingProperties.setSlowCallThreshold(Duration.ZERO);
+        tracingProperties.setSlowCallSampleInterval(Duration.ofHours(1));
+        sedeService = tracedSedeService();
+
+        sedeService.findOne(1L);
+        sedeService.findOne(2L);
+
+        assertThat(logs.list)
+            .singleElement()
+            .satisfies(event -> assertThat(event.getFormattedMessage()).endsWith(" with argument[s] = [1]"));
+    }
+
+    @Test
+    void testRepositoryCallsAreLoggedByTheRepositoryInterface() {
+        tracingProperties.setSlowCallThreshold(Duration.ZERO);
+        // Spring Data repositories are JDK proxies of their interface
+        SedeRepository repositoryProxy = (SedeRepository) Proxy.newProxyInstance(
+            SedeRepository.class.getClassLoader(),
+            new Class<?>[] { SedeRepository.class },
+            (proxy, method, args) -> List.<Sede>of()
+        );
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(repositoryProxy);
+        proxyFactory.addAspect(new LoggingAspect(new MockEnvironment(), meterRegistry, tracingProperties));
+        SedeRepository tracedRepository = proxyFactory.getProxy();
+
+        tracedRepository.findAll();
+
+        assertThat(logs.list).singleElement().extracting(ILoggingEvent::getLoggerName).isEqualTo(SedeRepository.class.getName());
+        assertThat(
+            meterRegistry.get(LoggingAspect.TIMER_METER_NAME).tag("class", "SedeRepository").tag("method", "findAll").timer().count()
+        )
+            .isEqualTo(1);
+    }
+
+    private SedeService tracedSedeService() {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SedeService(sedeRepository, mock(ExpedienteService.class)));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new LoggingAspect(new MockEnvironment(), meterRegistry, tracingProperties));
+        return proxyFactory.getProxy();
+    }
+}
@@ -13,4 +13,19 @@ public class AsyncSyncConfiguration {
     public Executor taskExecutor() {
         return new SyncTaskExecutor();
     }
+
+    @Bean(name = "jobTaskExecutor")
+    public Executor jobTaskExecutor() {
+        return new SyncTaskExecutor();
+    }
+
+    @Bean(name = "mailTaskExecutor")
+    public Executor mailTaskExecutor() {
+        return new SyncTaskExecutor();
+    }
+
+    @Bean(name = "liquibaseTaskExecutor")
+    public Executor liquibaseTaskExecutor() {
+        return new SyncTaskExecutor();
+    }
 }
@@ -0,0 +1,143 @@
+package com.udea.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.udea.domain.Carrera;
+import com.udea.domain.Estudiante;
+import java.nio.file.Path;
+import java.time.Duration;
+import javax.cache.CacheManager;
+import javax.cache.configuration.CompleteConfiguration;
+import org.ehcache.config.CacheRuntimeConfiguration;
+import org.ehcache.config.ResourcePools;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.hibernate.cache.spi.RegionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Unit tests for the {@link CacheConfiguration} class.
+ */
+class CacheConfigurationTest {
+
+    private JHipsterProperties jHipsterProperties;
+
+    private ApplicationProperties applicationProperties;
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    public void setup() {
+        jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties.getCache().getEhcache().setMaxEntries(100);
+        jHipsterProperties.getCache().getEhcache().setTimeToLiveSeconds(3600);
+        applicationProperties = new ApplicationProperties();
+    }
+
+    @AfterEach
+    public void teardown() {
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+
+    @Test
+    void testDefaultConfigurationWithoutRegion() {
+        cacheManager = new CacheConfiguration(jHipsterProperties, applicationProperties).jCacheCacheManager();
+
+        ResourcePools resourcePools = resourcePools(Carrera.class.getName());
+        assertThat(resourcePools.getPoolForResource(ResourceType.Core.HEAP).getSize()).isEqualTo(100);
+        assertThat(resourcePools.getResourceTypeSet()).containsExactly(ResourceType.Core.HEAP);
+    }
+
+    @Test
+    void testRegionConfiguredByEntityName() {
+        ApplicationProperties.Cache.Region region = new ApplicationProperties.Cache.Region();
+        region.setHeapEntries(10L);
+        region.setOffHeapMb(2);
+        applicationProperties.getCache().getRegions().put("Estudiante", region);
+
+        cacheManager = new CacheConfiguration(jHipsterProperties, applicationProperties).jCacheCacheManager();
+
+        ResourcePools resourcePools = resourcePools(Estudiante.class.getName());
+        assertThat(resourcePools.getPoolForResource(ResourceType.Core.HEAP).getSize()).isEqualTo(10);
+        assertThat(resourcePools.getPoolForResource(ResourceType.Core.OFFHEAP).getSize()).isEqualTo(2);
+        assertThat(resourcePools.getPoolForResource(ResourceType.Core.OFFHEAP).getUnit()).isEqualTo(MemoryUnit.MB);
+        assertThat(resourcePools(Carrera.class.getName()).getResourceTypeSet()).containsExactly(ResourceType.Core.HEAP);
+    }
+
+    @Test
+    void testRegionWithNonPersistentDiskTier(@TempDir Path diskPath) {
+        ApplicationProperties.Cache.Region region = new ApplicationProperties.Cache.Region();
+        region.setOffHeapMb(1);
+        region.setDiskMb(4);
+        applicationProperties.getCache().getRegions().put(Estudiante.class.getName(), region);
+        applicationProperties.getCache().setDiskPath(diskPath.toString());
+
+        cacheManager = new CacheConfiguration(jHipsterProperties, applicationProperties).jCacheCacheManager();
+
+        ResourcePools resourcePools = resourcePools(Estudiante.class.getName());
+        assertThat(resourcePools.getPoolForResource(ResourceType.Core.DISK).getSize()).isEqualTo(4);
+        assertThat(resourcePools.getPoolForResource(ResourceType.Core.DISK).isPersistent()).isFalse();
+    }
+
+    @Test
+    void testDiskTierRequiresDiskPath() {
+        ApplicationProperties.Cache.Region region = new ApplicationProperties.Cache.Region();
+        region.setOffHeapMb(1);
+        region.setDiskMb(4);
+        applicationProperties.getCache().getRegions().put("Estudiante", region);
+
+        CacheConfiguration cacheConfiguration = new CacheConfiguration(jHipsterProperties, applicationProperties);
+
+        assertThatThrownBy(cacheConfiguration::jCacheCacheManager)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(Estudiante.class.getName());
+    }
+
+    @Test
+    void testUpdateTimestampsRegionNeverExpires() {
+        applicationProperties
+            .getCache()
+            .getRegions()
+            .put(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new ApplicationProperties.Cache.Region());
+
+        cacheManager = new CacheConfiguration(jHipsterProperties, applicationProperties).jCacheCacheManager();
+
+        assertThat(expiryForCreation(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME)).isEqualTo(ExpiryPolicy.INFINITE);
+        assertThat(expiryForCreation(Constants.REFERENCE_DATA_QUERY_CACHE)).isEqualTo(Duration.ofSeconds(3600));
+    }
+
+    @Test
+    void testStatisticsEnabled() {
+        cacheManager = new CacheConfiguration(jHipsterProperties, applicationProperties).jCacheCacheManager();
+
+        CompleteConfiguration<?, ?> configuration = cacheManager
+            .getCache(Constants.REFERENCE_DATA_QUERY_CACHE)
+            .getConfiguration(CompleteConfiguration.class);
+        assertThat(configuration.isStatisticsEnabled()).isTrue();
+    }
+
+    private Duration expiryForCreation(String cacheName) {
+        return runtimeConfiguration(cacheName).getExpiryPolicy().getExpiryForCreation("key", "value");
+    }
+
+    private ResourcePools resourcePools(String cacheName) {
+        return runtimeConfiguration(cacheName).getResourcePools();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheRuntimeConfiguration<Object, Object> runtimeConfiguration(String cacheName) {
+        return cacheManager
+            .getCache(cacheName)
+            .getConfiguration(Eh107Configuration.class)
+            .unwrap(CacheRuntimeConfiguration.class);
+    }
+}
@@ -0,0 +1,158 @@
+package com.udea.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.udea.config.ApplicationProperties.Task.RejectionPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * Unit tests for the {@link InstrumentedThreadPoolTaskExecutor}.
+ */
+class InstrumentedThreadPoolTaskExecutorTest {
+
+    private static final String NAME = "testExecutor";
+
+    private MeterRegistry meterRegistry;
+
+    private CountDownLatch release;
+
+    private InstrumentedThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void testPublishesPoolAndTaskMetrics() throws Exception {
+        executor = newExecutor(RejectionPolicy.SHED);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        executor.execute(() -> {});
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(meterRegistry.get("executor.active").tag("name", NAME).gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.queued").tag("name", NAME).gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        executor.shutdown();
+        executor.getThreadPoolExecutor().awaitTermination(10, TimeUnit.SECONDS);
+        assertThat(meterRegistry.get("executor").tag("name", NAME).timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("executor.idle").tag("name", NAME).timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testShedRejectsWhenQueueIsFull() {
+        executor = newExecutor(RejectionPolicy.SHED);
+        fill();
+
+        assertThatThrownBy(() -> executor.execute(() -> {})).isInstanceOf(TaskRejectedException.class);
+        assertThat(rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testCallerRunsWhenQueueIsFull() {
+        executor = newExecutor(RejectionPolicy.CALLER_RUNS);
+        fill();
+        AtomicReference<Thread> runner = new AtomicReference<>();
+
+        executor.execute(() -> runner.set(Thread.currentThread()));
+
+        assertThat(runner.get()).isSameAs(Thread.currentThread());
+        assertThat(rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testBlockRejectsAfterTimeout() {
+        executor = newExecutor(RejectionPolicy.BLOCK);
+        fill();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> executor.execute(() -> {})).isInstanceOf(TaskRejectedException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+        assertThat(rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testBlockWaitsForRoomInQueue() throws Exception {
+        executor = newExecutor(RejectionPolicy.BLOCK, Duration.ofSeconds(10));
+        fill();
+        CountDownLatch ran = new CountDownLatch(1);
+
+        new Thread(() -> {
+            sleep(100);
+            release.countDown();
+        })
+            .start();
+        executor.execute(ran::countDown);
+
+        assertThat(ran.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(rejectedCount()).isZero();
+    }
+
+    private InstrumentedThreadPoolTaskExecutor newExecutor(RejectionPolicy rejectionPolicy) {
+        return newExecutor(rejectionPolicy, Duration.ofMillis(100));
+    }
+
+    private InstrumentedThreadPoolTaskExecutor newExecutor(RejectionPolicy rejectionPolicy, Duration blockTimeout) {
+        InstrumentedThreadPoolTaskExecutor newExecutor = new InstrumentedThreadPoolTaskExecutor(
+            meterRegistry,
+            NAME,
+            rejectionPolicy,
+            blockTimeout
+        );
+        newExecutor.setCorePoolSize(1);
+        newExecutor.setMaxPoolSize(1);
+        newExecutor.setQueueCapacity(1);
+        newExecutor.initialize();
+        return newExecutor;
+    }
+
+    /**
+     * Hold the single thread and fill the single slot of the queue.
+     */
+    private void fill() {
+        executor.execute(() -> await(release));
+        executor.execute(() -> await(release));
+    }
+
+    private double rejectedCount() {
+        return meterRegistry.get("executor.rejected").tag("name", NAME).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.udea.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javax.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Unit tests for the {@link SqlStatementMetricsFilter}.
+ */
+class SqlStatementMetricsFilterTest {
+
+    private static final String ROUTE = "/api/ingreso-estudiantes/{id}";
+
+    private MeterRegistry meterRegistry;
+
+    private ApplicationProperties.Sql sqlProperties;
+
+    private SqlStatementMetricsFilter filter;
+
+    private final Logger filterLogger = (Logger) LoggerFactory.getLogger(SqlStatementMetricsFilter.class);
+
+    private ListAppender<ILoggingEvent> logs;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sqlProperties = new ApplicationProperties.Sql();
+        filter = new SqlStatementMetricsFilter(meterRegistry, sqlProperties);
+        logs = new ListAppender<>();
+        logs.start();
+        filterLogger.addAppender(logs);
+    }
+
+    @AfterEach
+    void tearDown() {
+        filterLogger.detachAppender(logs);
+    }
+
+    @Test
+    void testRecordsStatementsByRoute() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/ingreso-estudiantes/1"), new MockHttpServletResponse(), handler(3));
+
+        assertThat(meterRegistry.get(SqlStatementMetricsFilter.STATEMENTS_METER_NAME).tag("uri", ROUTE).tag("method", "GET").summary())
+            .satisfies(summary -> {
+                assertThat(summary.count()).isEqualTo(1);
+                assertThat(summary.totalAmount()).isEqualTo(3);
+            });
+        assertThat(meterRegistry.get(SqlStatementMetricsFilter.TIME_METER_NAME).tag("uri", ROUTE).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testStatementsOutsideRequestsAreNotRecorded() throws Exception {
+        new SqlStatementInspector().inspect("select 1");
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/ingreso-estudiantes/1"), new MockHttpServletResponse(), handler(1));
+
+        assertThat(meterRegistry.get(SqlStatementMetricsFilter.STATEMENTS_METER_NAME).summary().totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    void testExceededBudgetIsLogged() throws Exception {
+        sqlProperties.getStatementBudgets().put(ROUTE, 2);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/ingreso-estudiantes/1"), new MockHttpServletResponse(), handler(3));
+
+        assertThat(logs.list)
+            .singleElement()
+            .satisfies(event -> {
+                assertThat(event.getLevel()).isEqualTo(Level.WARN);
+                assertThat(event.getFormattedMessage()).isEqualTo("GET " + ROUTE + " prepared 3 SQL statements, exceeding its budget of 2");
+            });
+    }
+
+    @Test
+    void testStatementsWithinBudgetAreNotLogged() throws Exception {
+        sqlProperties.getStatementBudgets().put(ROUTE, 3);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/ingreso-estudiantes/1"), new MockHttpServletResponse(), handler(3));
+
+        assertThat(logs.list).isEmpty();
+    }
+
+    @Test
+    void testExceededBudgetFailsWhenConfigured() {
+        sqlProperties.setDefaultStatementBudget(2);
+        sqlProperties.setFailOnBudgetExceeded(true);
+
+        assertThatThrownBy(() ->
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/ingreso-estudiantes/1"), new MockHttpServletResponse(), handler(3))
+            )
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(ROUTE);
+        assertThat(meterRegistry.get(SqlStatementMetricsFilter.STATEMENTS_METER_NAME).summary().count()).isEqualTo(1);
+    }
+
+    /**
+     * Handler of {@link #ROUTE} preparing the given number of statements.
+     */
+    private static FilterChain handler(int statements) {
+        SqlStatementInspector inspector = new SqlStatementInspector();
+        return (request, response) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ROUTE);
+            for (int i = 0; i < statements; i++) {
+                inspector.inspect("select 1");
+            }
+        };
+    }
+}
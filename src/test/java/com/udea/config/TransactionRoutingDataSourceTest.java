@@ -0,0 +1,86 @@
+package com.udea.config;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unit tests for the {@link TransactionRoutingDataSource}, behind the lazy proxy built by the {@link DatabaseConfiguration}.
+ */
+class TransactionRoutingDataSourceTest {
+
+    private DataSource primary;
+
+    private DataSource replica;
+
+    private TransactionTemplate transactionTemplate;
+
+    private DataSource dataSource;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        primary = mockDataSource();
+        replica = mockDataSource();
+        TransactionRoutingDataSource routingDataSource = new TransactionRoutingDataSource();
+        routingDataSource.setTargetDataSources(
+            Map.<Object, Object>of(
+                TransactionRoutingDataSource.Route.PRIMARY,
+                primary,
+                TransactionRoutingDataSource.Route.REPLICA,
+                replica
+            )
+        );
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+        LazyConnectionDataSourceProxy lazyDataSource = new LazyConnectionDataSourceProxy();
+        lazyDataSource.setTargetDataSource(routingDataSource);
+        lazyDataSource.setDefaultAutoCommit(false);
+        lazyDataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        lazyDataSource.afterPropertiesSet();
+        dataSource = lazyDataSource;
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void testReadOnlyTransactionUsesReplica() throws SQLException {
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> createStatement());
+
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void testReadWriteTransactionUsesPrimary() throws SQLException {
+        transactionTemplate.executeWithoutResult(status -> createStatement());
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    private void createStatement() {
+        try {
+            DataSourceUtils.getConnection(dataSource).createStatement();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static DataSource mockDataSource() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        return target;
+    }
+}
@@ -0,0 +1,41 @@
+package com.udea.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link VirtualThreads} factory, on the JDK running the tests.
+ */
+class VirtualThreadsTest {
+
+    private static final int VIRTUAL_THREADS_FEATURE = 21;
+
+    @Test
+    void testNewThreadPerTaskExecutorRunsOnNamedVirtualThreads() throws Exception {
+        assumeTrue(Runtime.version().feature() >= VIRTUAL_THREADS_FEATURE);
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("test-vt-");
+
+        Thread first = executor.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+        Thread second = executor.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(Thread.class.getMethod("isVirtual").invoke(first)).isEqualTo(true);
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getName()).isEqualTo("test-vt-0");
+        assertThat(second.getName()).isEqualTo("test-vt-1");
+    }
+
+    @Test
+    void testNewThreadPerTaskExecutorFailsBeforeJdk21() {
+        assumeTrue(Runtime.version().feature() < VIRTUAL_THREADS_FEATURE);
+
+        assertThatThrownBy(() -> VirtualThreads.newThreadPerTaskExecutor("test-vt-"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(Constants.SPRING_PROFILE_VIRTUAL_THREADS);
+    }
+}
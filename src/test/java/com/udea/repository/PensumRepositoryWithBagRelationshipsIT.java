@@ -0,0 +1,143 @@
+package com.udea.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.udea.IntegrationTest;
+import com.udea.domain.Materia;
+import com.udea.domain.Pensum;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests counting the queries issued by {@link PensumRepositoryWithBagRelationshipsImpl}.
+ */
+@IntegrationTest
+@Transactional
+class PensumRepositoryWithBagRelationshipsIT {
+
+    private static final int PENSUM_COUNT = 10;
+
+    private final Logger log = LoggerFactory.getLogger(PensumRepositoryWithBagRelationshipsIT.class);
+
+    @Autowired
+    private PensumRepository pensumRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    public void initTest() {
+        ids = new ArrayList<>();
+        for (int i = 0; i < PENSUM_COUNT; i++) {
+            Pensum pensum = new Pensum().numero((long) i);
+            for (int j = 0; j < 3; j++) {
+                Materia materia = new Materia().nombre("materia" + j).creditos((long) j);
+                em.persist(materia);
+                pensum.addMaterias(materia);
+            }
+            em.persist(pensum);
+            ids.add(pensum.getId());
+        }
+        em.flush();
+        em.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    public void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void fetchShortPageWithMateriasInTwoQueries() {
+        Page<Pensum> page = pensumRepository.findAllWithEagerRelationships(
+            PageRequest.of(0, PENSUM_COUNT * 2, Sort.by(Sort.Direction.DESC, "id"))
+        );
+
+        assertThat(page.getContent()).hasSize(PENSUM_COUNT);
+        assertThat(page.getTotalElements()).isEqualTo(PENSUM_COUNT);
+        assertMateriasFetched(page);
+        log.info("Loaded a short page of {} pensums with materias in {} queries", PENSUM_COUNT, statistics.getPrepareStatementCount());
+        // One query for the page and one for the materias, the total of a short page being known without a count.
+        // Two queries before as well: the materias of a page were already loaded by a single query.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void fetchFullPageWithMateriasInThreeQueries() {
+        Page<Pensum> page = pensumRepository.findAllWithEagerRelationships(
+            PageRequest.of(0, PENSUM_COUNT / 2, Sort.by(Sort.Direction.DESC, "id"))
+        );
+
+        assertThat(page.getContent()).hasSize(PENSUM_COUNT / 2);
+        assertThat(page.getTotalElements()).isEqualTo(PENSUM_COUNT);
+        assertMateriasFetched(page);
+        log.info("Loaded a full page of {} pensums with materias in {} queries", PENSUM_COUNT / 2, statistics.getPrepareStatementCount());
+        // One query for the page, one for the count and one for the materias. Three queries before as well.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void fetchListKeepsOrder() {
+        List<Pensum> pensums = pensumRepository.findAllById(ids);
+        List<Long> expected = pensums.stream().map(Pensum::getId).collect(Collectors.toList());
+        statistics.clear();
+
+        List<Pensum> result = pensumRepository.fetchBagRelationships(pensums);
+
+        assertThat(result).extracting(Pensum::getId).containsExactlyElementsOf(expected);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void fetchListSkipsDeletedPensums() {
+        List<Pensum> pensums = pensumRepository.findAllById(ids);
+        Long deleted = ids.get(0);
+        em.createNativeQuery("delete from rel_pensum__materias where pensum_id = :id").setParameter("id", deleted).executeUpdate();
+        em.createNativeQuery("delete from pensum where id = :id").setParameter("id", deleted).executeUpdate();
+
+        List<Pensum> result = pensumRepository.fetchBagRelationships(pensums);
+
+        assertThat(result).hasSize(PENSUM_COUNT - 1).doesNotContainNull();
+        assertThat(result).extracting(Pensum::getId).doesNotContain(deleted);
+    }
+
+    @Test
+    void fetchOneWithMaterias() {
+        Pensum pensum = pensumRepository.findOneWithEagerRelationships(ids.get(0)).orElseThrow();
+
+        assertThat(Hibernate.isInitialized(pensum.getMaterias())).isTrue();
+        assertThat(pensum.getMaterias()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private static void assertMateriasFetched(Page<Pensum> page) {
+        assertThat(page.getContent()).allSatisfy(pensum -> assertThat(Hibernate.isInitialized(pensum.getMaterias())).isTrue());
+        assertThat(page.getContent()).allSatisfy(pensum -> assertThat(pensum.getMaterias()).hasSize(3));
+    }
+}
@@ -0,0 +1,52 @@
+package com.udea.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+
+class JwtAuthenticationCacheTest {
+
+    private static final long NOW = 1_000_000L;
+
+    private final JwtAuthenticationCache cache = new JwtAuthenticationCache(2);
+
+    @Test
+    void testEntryExpiresWithToken() {
+        ByteBuffer key = cache.key("token");
+        cache.put(key, entry(NOW + 1), NOW);
+
+        assertThat(cache.get(cache.key("token"), NOW)).isNotNull();
+        assertThat(cache.get(key, NOW + 1)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testExpiredEntriesAreEvictedFirstWhenFull() {
+        cache.put(cache.key("expired"), entry(NOW), NOW - 1);
+        cache.put(cache.key("valid"), entry(NOW + 1), NOW - 1);
+
+        cache.put(cache.key("new"), entry(NOW + 1), NOW);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(cache.key("valid"), NOW)).isNotNull();
+        assertThat(cache.get(cache.key("new"), NOW)).isNotNull();
+    }
+
+    @Test
+    void testSizeIsBoundedWhenNoEntryHasExpired() {
+        cache.put(cache.key("first"), entry(NOW + 1), NOW);
+        cache.put(cache.key("second"), entry(NOW + 1), NOW);
+
+        cache.put(cache.key("third"), entry(NOW + 1), NOW);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(cache.key("third"), NOW)).isNotNull();
+    }
+
+    private static JwtAuthenticationCache.Entry entry(long expiresAt) {
+        return new JwtAuthenticationCache.Entry(new User("user", "", Collections.emptyList()), Collections.emptyList(), expiresAt);
+    }
+}
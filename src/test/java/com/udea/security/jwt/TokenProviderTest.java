@@ -88,6 +88,35 @@ class TokenProviderTest {
         assertThat(isTokenValid).isFalse();
     }
 
+    @Test
+    void testAuthenticateValidToken() {
+        String token = tokenProvider.createToken(createAuthentication(), false);
+
+        Authentication first = tokenProvider.authenticate(token);
+        Authentication second = tokenProvider.authenticate(token);
+
+        assertThat(first.getName()).isEqualTo("anonymous");
+        assertThat(first.getCredentials()).hasToString(token);
+        assertThat(first.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly(AuthoritiesConstants.ANONYMOUS);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getPrincipal()).isSameAs(first.getPrincipal());
+    }
+
+    @Test
+    void testAuthenticateReturnsNullWhenJWTisNotValid() {
+        assertThat(tokenProvider.authenticate(createTokenWithDifferentSignature())).isNull();
+        assertThat(tokenProvider.authenticate("")).isNull();
+    }
+
+    @Test
+    void testAuthenticateDoesNotCacheExpiredJWT() {
+        ReflectionTestUtils.setField(tokenProvider, "tokenValidityInMilliseconds", -ONE_MINUTE);
+        String token = tokenProvider.createToken(createAuthentication(), false);
+
+        assertThat(tokenProvider.authenticate(token)).isNull();
+        assertThat(tokenProvider.authenticate(token)).isNull();
+    }
+
     @Test
     void testKeyIsSetFromSecretWhenSecretIsNotEmpty() {
         final String secret = "NwskoUmKHZtzGRKJKVjsJF7BtQMMxNWi";
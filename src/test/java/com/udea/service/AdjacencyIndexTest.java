@@ -0,0 +1,71 @@
+package com.udea.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AdjacencyIndex}.
+ */
+class AdjacencyIndexTest {
+
+    private AdjacencyIndex index;
+
+    @BeforeEach
+    public void init() {
+        AdjacencyIndex.Builder builder = new AdjacencyIndex.Builder();
+        builder.add(1L, 10L);
+        builder.add(1L, 20L);
+        builder.add(3L, 30L);
+        index = builder.build();
+    }
+
+    @Test
+    void testBuilderIndexesEdgesByKey() {
+        assertThat(index.keyCount()).isEqualTo(2);
+        assertThat(index.edgeCount()).isEqualTo(3);
+        assertThat(index.targets(1L)).containsExactly(10L, 20L);
+        assertThat(index.targets(3L)).containsExactly(30L);
+        assertThat(index.targets(2L)).isEmpty();
+    }
+
+    @Test
+    void testBuilderGrowsPastInitialCapacity() {
+        AdjacencyIndex.Builder builder = new AdjacencyIndex.Builder();
+        for (long key = 0; key < 100; key++) {
+            builder.add(key, key + 1000);
+        }
+        AdjacencyIndex large = builder.build();
+
+        assertThat(large.keyCount()).isEqualTo(100);
+        assertThat(large.targets(99L)).containsExactly(1099L);
+    }
+
+    @Test
+    void testWithReplacesAddsAndRemovesKeys() {
+        AdjacencyIndex updated = index.with(new long[] { 0L, 1L, 3L }, new long[][] { { 5L }, { 20L, 40L }, {} });
+
+        assertThat(updated.targets(0L)).containsExactly(5L);
+        assertThat(updated.targets(1L)).containsExactly(20L, 40L);
+        assertThat(updated.targets(3L)).isEmpty();
+        assertThat(updated.keyCount()).isEqualTo(2);
+        assertThat(index.targets(3L)).containsExactly(30L);
+    }
+
+    @Test
+    void testTargetsReturnsACopy() {
+        index.targets(1L)[0] = 99L;
+
+        assertThat(index.targets(1L)).containsExactly(10L, 20L);
+    }
+
+    @Test
+    void testSortedArrayHelpers() {
+        assertThat(AdjacencyIndex.insert(new long[] { 1L, 3L }, 2L)).containsExactly(1L, 2L, 3L);
+        assertThat(AdjacencyIndex.insert(new long[] { 1L, 3L }, 3L)).containsExactly(1L, 3L);
+        assertThat(AdjacencyIndex.remove(new long[] { 1L, 2L, 3L }, 2L)).containsExactly(1L, 3L);
+        assertThat(AdjacencyIndex.remove(new long[] { 1L, 3L }, 2L)).containsExactly(1L, 3L);
+        assertThat(AdjacencyIndex.symmetricDifference(new long[] { 1L, 2L, 4L }, new long[] { 2L, 3L })).containsExactly(1L, 3L, 4L);
+    }
+}
@@ -0,0 +1,40 @@
+package com.udea.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.udea.service.AdmissionRollupService.Granularity;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the buckets of the {@link AdmissionRollupService} series.
+ */
+class AdmissionRollupServiceTest {
+
+    @Test
+    void testWeekBucketsStartOnMondayOfTheWeekBasedYear() {
+        LocalDate start = AdmissionRollupService.bucketStart(Granularity.WEEK, LocalDate.of(2025, 1, 1));
+
+        assertThat(start).isEqualTo(LocalDate.of(2024, 12, 30));
+        assertThat(AdmissionRollupService.periodName(Granularity.WEEK, start)).isEqualTo("2025-W01");
+    }
+
+    @Test
+    void testTermBucketsAreSemesters() {
+        LocalDate first = AdmissionRollupService.bucketStart(Granularity.TERM, LocalDate.of(2024, 6, 30));
+        LocalDate second = AdmissionRollupService.bucketStart(Granularity.TERM, LocalDate.of(2024, 7, 1));
+
+        assertThat(first).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(AdmissionRollupService.periodName(Granularity.TERM, first)).isEqualTo("2024-1");
+        assertThat(second).isEqualTo(LocalDate.of(2024, 7, 1));
+        assertThat(AdmissionRollupService.periodName(Granularity.TERM, second)).isEqualTo("2024-2");
+    }
+
+    @Test
+    void testDayBucketsAreTheDays() {
+        LocalDate day = LocalDate.of(2024, 3, 4);
+
+        assertThat(AdmissionRollupService.bucketStart(Granularity.DAY, day)).isEqualTo(day);
+        assertThat(AdmissionRollupService.periodName(Granularity.DAY, day)).isEqualTo("2024-03-04");
+    }
+}
@@ -0,0 +1,109 @@
+package com.udea.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.udea.IntegrationTest;
+import com.udea.domain.Carrera;
+import com.udea.domain.Materia;
+import com.udea.domain.Pensum;
+import com.udea.domain.Sede;
+import com.udea.repository.CarreraRepository;
+import com.udea.repository.MateriaRepository;
+import com.udea.repository.PensumRepository;
+import com.udea.repository.SedeRepository;
+import com.udea.web.rest.CarreraResourceIT;
+import com.udea.web.rest.MateriaResourceIT;
+import com.udea.web.rest.PensumResourceIT;
+import com.udea.web.rest.SedeResourceIT;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for {@link CacheWarmUpService}.
+ * <p>
+ * Not transactional: the regions are loaded by other threads, which only see committed rows.
+ */
+@IntegrationTest
+class CacheWarmUpServiceIT {
+
+    @Autowired
+    private CacheWarmUpService cacheWarmUpService;
+
+    @Autowired
+    private CarreraRepository carreraRepository;
+
+    @Autowired
+    private SedeRepository sedeRepository;
+
+    @Autowired
+    private PensumRepository pensumRepository;
+
+    @Autowired
+    private MateriaRepository materiaRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Carrera carrera;
+
+    private Sede sede;
+
+    private Materia materia;
+
+    private Pensum pensum;
+
+    @BeforeEach
+    public void initTest() {
+        carrera = carreraRepository.saveAndFlush(CarreraResourceIT.createEntity(em));
+        sede = sedeRepository.saveAndFlush(SedeResourceIT.createEntity(em));
+        materia = materiaRepository.saveAndFlush(MateriaResourceIT.createEntity(em));
+        pensum = pensumRepository.saveAndFlush(PensumResourceIT.createEntity(em).addMaterias(materia));
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        pensumRepository.deleteById(pensum.getId());
+        materiaRepository.deleteById(materia.getId());
+        sedeRepository.deleteById(sede.getId());
+        carreraRepository.deleteById(carrera.getId());
+    }
+
+    @Test
+    void testWarmUpLoadsAllRegions() {
+        entityManagerFactory.getCache().evictAll();
+        long pensumWarmUpsBefore = warmUpCount("Pensum");
+
+        cacheWarmUpService.warmUp();
+
+        assertThat(entityManagerFactory.getCache().contains(Carrera.class, carrera.getId())).isTrue();
+        assertThat(entityManagerFactory.getCache().contains(Sede.class, sede.getId())).isTrue();
+        assertThat(entityManagerFactory.getCache().contains(Pensum.class, pensum.getId())).isTrue();
+        assertThat(entityManagerFactory.getCache().contains(Materia.class, materia.getId())).isTrue();
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        assertThat(cache.containsCollection(Pensum.class.getName() + ".materias", pensum.getId())).isTrue();
+        assertThat(warmUpCount("Pensum")).isEqualTo(pensumWarmUpsBefore + 1);
+        assertThat(meterRegistry.get(CacheWarmUpService.WARM_UP_PENDING_METER_NAME).gauge().value()).isZero();
+    }
+
+    private long warmUpCount(String region) {
+        return meterRegistry
+            .find(CacheWarmUpService.WARM_UP_METER_NAME)
+            .tag(CacheWarmUpService.WARM_UP_REGION_DIMENSION, region)
+            .timers()
+            .stream()
+            .mapToLong(timer -> timer.count())
+            .sum();
+    }
+}
@@ -0,0 +1,95 @@
+package com.udea.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link IngresoStatsCube}.
+ */
+class IngresoStatsCubeTest {
+
+    private IngresoStatsCube cube;
+
+    @BeforeEach
+    public void init() {
+        IngresoStatsCube.Builder builder = new IngresoStatsCube.Builder();
+        builder.add(IngresoStatsCube.key(2, 0, 1, 4049), 3);
+        builder.add(IngresoStatsCube.key(1, 0, 1, 4049), 2);
+        builder.add(IngresoStatsCube.key(2, 0, 1, 4049), 1);
+        cube = builder.build();
+    }
+
+    @Test
+    void testKeyPacksEachDimension() {
+        long key = IngresoStatsCube.key(IngresoStatsCube.MAX_CARRERAS, 2, IngresoStatsCube.MAX_SEDES, 4050);
+
+        assertThat(IngresoStatsCube.carrera(key)).isEqualTo(IngresoStatsCube.MAX_CARRERAS);
+        assertThat(IngresoStatsCube.modalidad(key)).isEqualTo(2);
+        assertThat(IngresoStatsCube.sede(key)).isEqualTo(IngresoStatsCube.MAX_SEDES);
+        assertThat(IngresoStatsCube.term(key)).isEqualTo(4050);
+        assertThat(key).isPositive();
+    }
+
+    @Test
+    void testBuilderSumsAndSortsCells() {
+        assertThat(cube.cellCount()).isEqualTo(2);
+        assertThat(cube.keyAt(0)).isLessThan(cube.keyAt(1));
+        assertThat(cube.count(IngresoStatsCube.key(2, 0, 1, 4049))).isEqualTo(4);
+        assertThat(cube.count(IngresoStatsCube.key(1, 0, 1, 4049))).isEqualTo(2);
+        assertThat(cube.count(IngresoStatsCube.key(3, 0, 1, 4049))).isZero();
+    }
+
+    @Test
+    void testWithAddsUpdatesAndRemovesCells() {
+        long removed = IngresoStatsCube.key(1, 0, 1, 4049);
+        long updated = IngresoStatsCube.key(2, 0, 1, 4049);
+        long added = IngresoStatsCube.key(3, 0, 0, 0);
+        long[] keys = { removed, updated, added };
+        Arrays.sort(keys);
+        long[] deltas = new long[3];
+        for (int i = 0; i < keys.length; i++) {
+            deltas[i] = keys[i] == removed ? -2 : keys[i] == updated ? -1 : 1;
+        }
+
+        IngresoStatsCube result = cube.with(keys, deltas);
+
+        assertThat(result.cellCount()).isEqualTo(2);
+        assertThat(result.count(removed)).isZero();
+        assertThat(result.count(updated)).isEqualTo(3);
+        assertThat(result.count(added)).isEqualTo(1);
+        assertThat(cube.count(removed)).isEqualTo(2);
+    }
+
+    @Test
+    void testDictionaryIndexesIdsInOrderOfAppearance() {
+        IngresoStatsCube.Dictionary.Builder builder = new IngresoStatsCube.Dictionary.Builder(100);
+        for (long id = 100; id > 0; id--) {
+            builder.add(id);
+        }
+        assertThat(builder.add(50L)).isEqualTo(51);
+        assertThat(builder.add(null)).isZero();
+        IngresoStatsCube.Dictionary dictionary = builder.build();
+
+        assertThat(dictionary.size()).isEqualTo(100);
+        assertThat(dictionary.indexOf(100L)).isEqualTo(1);
+        assertThat(dictionary.indexOf(null)).isZero();
+        assertThat(dictionary.indexOf(101L)).isEqualTo(-1);
+        assertThat(dictionary.idAt(1)).isEqualTo(100L);
+        assertThat(dictionary.idAt(0)).isNull();
+    }
+
+    @Test
+    void testDictionaryWithAddsMissingIdsOnly() {
+        IngresoStatsCube.Dictionary dictionary = IngresoStatsCube.Dictionary.EMPTY.with(7L, 2);
+
+        assertThat(dictionary.with(7L, 2)).isSameAs(dictionary);
+        IngresoStatsCube.Dictionary full = dictionary.with(8L, 2);
+        assertThat(full.indexOf(8L)).isEqualTo(2);
+        assertThat(IngresoStatsCube.Dictionary.EMPTY.indexOf(7L)).isEqualTo(-1);
+        assertThatThrownBy(() -> full.with(9L, 2)).isInstanceOf(IllegalStateException.class);
+    }
+}
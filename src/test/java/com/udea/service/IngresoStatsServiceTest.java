@@ -0,0 +1,164 @@
+package com.udea.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.udea.domain.Carrera;
+import com.udea.domain.IngresoEstudiante;
+import com.udea.domain.Sede;
+import com.udea.service.dto.IngresoStatsDTO;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for the rebuild of the {@link IngresoStatsService} cube while ingresoEstudiantes are written.
+ */
+class IngresoStatsServiceTest {
+
+    private static final long CARRERA_ID = 1L;
+
+    private static final long SEDE_ID = 2L;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private IngresoStatsService ingresoStatsService;
+
+    private final AtomicInteger scans = new AtomicInteger();
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        ingresoStatsService = new IngresoStatsService(jdbcTemplate);
+        ResultSet carrera = mock(ResultSet.class);
+        when(carrera.getLong(1)).thenReturn(CARRERA_ID);
+        when(carrera.getString(2)).thenReturn("PRESENCIAL");
+        doAnswer(invocation -> {
+                invocation.<RowCallbackHandler>getArgument(1).processRow(carrera);
+                return null;
+            })
+            .when(jdbcTemplate)
+            .query(eq("select id, modalidad from carrera"), any(RowCallbackHandler.class));
+    }
+
+    @AfterEach
+    public void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testWriteCommittedDuringScanIsNotCountedTwice() throws SQLException {
+        // The write is committing when the rebuild begins, and its commit is seen by the first scan
+        TransactionSynchronizationManager.initSynchronization();
+        ingresoStatsService.ingresoChanged(null, IngresoStatsService.cellOf(ingreso()));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        mockCells(4, 1, () ->
+            synchronizations.forEach(synchronization -> {
+                synchronization.afterCommit();
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            })
+        );
+
+        ingresoStatsService.rebuild();
+
+        assertThat(total()).isEqualTo(4);
+        assertThat(scans).hasValue(2);
+    }
+
+    @Test
+    void testWriteAppliedDuringScanIsNotCountedTwice() throws SQLException {
+        mockCells(4, 1, () -> ingresoStatsService.ingresoChanged(null, IngresoStatsService.cellOf(ingreso())));
+
+        ingresoStatsService.rebuild();
+
+        assertThat(total()).isEqualTo(4);
+        assertThat(scans).hasValue(2);
+    }
+
+    @Test
+    void testLastScanIsKeptWhenEveryScanIsDisturbed() throws SQLException {
+        mockCells(4, Integer.MAX_VALUE, () -> ingresoStatsService.ingresoChanged(null, IngresoStatsService.cellOf(ingreso())));
+
+        ingresoStatsService.rebuild();
+
+        assertThat(total()).isEqualTo(4);
+        assertThat(scans).hasValue(5);
+    }
+
+    @Test
+    void testCurrentCubeIsKeptWhenEveryScanIsDisturbed() throws SQLException {
+        mockCells(4, 0, () -> {});
+        ingresoStatsService.rebuild();
+        mockCells(6, Integer.MAX_VALUE, () -> ingresoStatsService.ingresoChanged(null, IngresoStatsService.cellOf(ingreso())));
+
+        ingresoStatsService.rebuild();
+
+        // The writes made during the scans are applied to the current cube
+        assertThat(total()).isEqualTo(9);
+    }
+
+    @Test
+    void testWriteCommittedAfterRebuildIsCounted() throws SQLException {
+        mockCells(4, 0, () -> {});
+        ingresoStatsService.rebuild();
+
+        ingresoStatsService.ingresoChanged(null, IngresoStatsService.cellOf(ingreso()));
+
+        assertThat(total()).isEqualTo(5);
+        assertThat(scans).hasValue(1);
+    }
+
+    /**
+     * Mock the grouped scan, counting the given ingresoEstudiantes in a single cell, and run the given write during the
+     * given number of scans.
+     */
+    private void mockCells(long count, int disturbedScans, Runnable write) throws SQLException {
+        scans.set(0);
+        ResultSet cell = mock(ResultSet.class);
+        when(cell.getLong(1)).thenReturn(CARRERA_ID);
+        when(cell.getLong(2)).thenReturn(SEDE_ID);
+        when(cell.getInt(3)).thenReturn(2024);
+        when(cell.getInt(4)).thenReturn(1);
+        when(cell.getLong(5)).thenReturn(count);
+        doAnswer(invocation -> {
+                if (scans.incrementAndGet() <= disturbedScans) {
+                    write.run();
+                }
+                invocation.<RowCallbackHandler>getArgument(1).processRow(cell);
+                return null;
+            })
+            .when(jdbcTemplate)
+            .query(startsWith("select carrera_id"), any(RowCallbackHandler.class));
+    }
+
+    private long total() {
+        List<IngresoStatsDTO> groups = ingresoStatsService.count(EnumSet.noneOf(IngresoStatsService.Dimension.class), null, null);
+        return groups.stream().mapToLong(IngresoStatsDTO::getCount).sum();
+    }
+
+    private static IngresoEstudiante ingreso() {
+        return new IngresoEstudiante()
+            .carrera(new Carrera().id(CARRERA_ID))
+            .sede(new Sede().id(SEDE_ID))
+            .fechaIngreso(Instant.parse("2024-03-01T00:00:00Z"));
+    }
+}
@@ -5,14 +5,19 @@ import static org.mockito.Mockito.when;
 
 import com.udea.IntegrationTest;
 import com.udea.config.Constants;
+import com.udea.domain.Authority;
 import com.udea.domain.User;
 import com.udea.repository.UserRepository;
+import com.udea.security.AuthoritiesConstants;
 import com.udea.service.dto.AdminUserDTO;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import javax.persistence.EntityManager;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -53,6 +58,12 @@ class UserServiceIT {
     @Autowired
     private AuditingHandler auditingHandler;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager em;
+
     @MockBean
     private DateTimeProvider dateTimeProvider;
 
@@ -182,4 +193,32 @@ class UserServiceIT {
         Optional<User> maybeDbUser = userRepository.findById(dbUser.getId());
         assertThat(maybeDbUser).contains(dbUser);
     }
+
+    @Test
+    @Transactional
+    void assertThatNotActivatedUsersAreDeletedWithTheirAuthorities() {
+        Instant now = Instant.now();
+        when(dateTimeProvider.getNow()).thenReturn(Optional.of(now.minus(4, ChronoUnit.DAYS)));
+        Authority userAuthority = new Authority();
+        userAuthority.setName(AuthoritiesConstants.USER);
+        user.setActivated(false);
+        user.setActivationKey(RandomStringUtils.random(20));
+        user.setAuthorities(Set.of(userAuthority));
+        User dbUser = userRepository.saveAndFlush(user);
+        double purgedBefore = meterRegistry.get(UserService.PURGED_METER_NAME).counter().count();
+
+        userService.removeNotActivatedUsers();
+
+        em.clear();
+        assertThat(userRepository.findById(dbUser.getId())).isEmpty();
+        assertThat(
+            em
+                .createNativeQuery("select count(*) from jhi_user_authority where user_id = :userId")
+                .setParameter("userId", dbUser.getId())
+                .getSingleResult()
+        )
+            .hasToString("0");
+        assertThat(meterRegistry.get(UserService.PURGED_METER_NAME).counter().count()).isEqualTo(purgedBefore + 1);
+        assertThat(meterRegistry.get(UserService.PURGE_METER_NAME).timer().count()).isPositive();
+    }
 }
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -184,6 +185,123 @@ class CarreraResourceIT {
         assertThat(testCarrera.getModalidad()).isEqualTo(UPDATED_MODALIDAD);
     }
 
+    @Test
+    @Transactional
+    void getCarreraNotModified() throws Exception {
+        // Initialize the database
+        carreraRepository.saveAndFlush(carrera);
+        String eTag = "\"" + carrera.getVersion() + "\"";
+
+        // Get the carrera already held by the client
+        restCarreraMockMvc
+            .perform(get(ENTITY_API_URL_ID, carrera.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @Transactional
+    void getAllCarrerasNotModified() throws Exception {
+        // Initialize the database
+        carreraRepository.saveAndFlush(carrera);
+
+        String eTag = restCarreraMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        restCarreraMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+
+        // Updating a carrera changes the list
+        carrera.setNombre(UPDATED_NOMBRE);
+        carreraRepository.saveAndFlush(carrera);
+
+        restCarreraMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].nombre").value(hasItem(UPDATED_NOMBRE)));
+    }
+
+    @Test
+    @Transactional
+    void putCarreraWithIfMatch() throws Exception {
+        // Initialize the database
+        carreraRepository.saveAndFlush(carrera);
+        long version = carrera.getVersion();
+
+        // Update the carrera
+        Carrera updatedCarrera = carreraRepository.findById(carrera.getId()).get();
+        // Disconnect from session so that the updates on updatedCarrera are not directly saved in db
+        em.detach(updatedCarrera);
+        updatedCarrera.nombre(UPDATED_NOMBRE);
+
+        restCarreraMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedCarrera.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + version + "\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedCarrera))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "\""))
+            .andExpect(jsonPath("$.version").value(version + 1));
+    }
+
+    @Test
+    @Transactional
+    void putCarreraWithStaleIfMatch() throws Exception {
+        // Initialize the database
+        carreraRepository.saveAndFlush(carrera);
+
+        // Update the carrera
+        Carrera updatedCarrera = carreraRepository.findById(carrera.getId()).get();
+        // Disconnect from session so that the updates on updatedCarrera are not directly saved in db
+        em.detach(updatedCarrera);
+        updatedCarrera.nombre(UPDATED_NOMBRE);
+
+        restCarreraMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedCarrera.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + (updatedCarrera.getVersion() + 1) + "\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedCarrera))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        // Validate the Carrera in the database
+        assertThat(carreraRepository.findById(carrera.getId()).get().getNombre()).isEqualTo(DEFAULT_NOMBRE);
+    }
+
+    @Test
+    @Transactional
+    void putCarreraWithOutdatedVersion() throws Exception {
+        // Initialize the database
+        carreraRepository.saveAndFlush(carrera);
+
+        // Update the carrera
+        Carrera updatedCarrera = carreraRepository.findById(carrera.getId()).get();
+        // Disconnect from session so that the updates on updatedCarrera are not directly saved in db
+        em.detach(updatedCarrera);
+        updatedCarrera.nombre(UPDATED_NOMBRE);
+
+        // Concurrent update of the carrera
+        Carrera concurrentCarrera = carreraRepository.findById(carrera.getId()).get();
+        carreraRepository.saveAndFlush(concurrentCarrera.modalidad(UPDATED_MODALIDAD));
+
+        restCarreraMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedCarrera.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedCarrera))
+            )
+            .andExpect(status().isConflict());
+    }
+
     @Test
     @Transactional
     void putNonExistingCarrera() throws Exception {
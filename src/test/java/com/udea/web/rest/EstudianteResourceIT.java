@@ -1,12 +1,18 @@
 package com.udea.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.udea.IntegrationTest;
+import com.udea.domain.Carrera;
+import com.udea.domain.DocumentoIngresoEstudiante;
 import com.udea.domain.Estudiante;
+import com.udea.domain.IngresoEstudiante;
+import com.udea.domain.SolicitudReingreso;
 import com.udea.repository.EstudianteRepository;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -21,6 +27,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -157,6 +164,27 @@ class EstudianteResourceIT {
             .andExpect(jsonPath("$.[*].direccion").value(hasItem(DEFAULT_DIRECCION)));
     }
 
+    @Test
+    void streamAllEstudiantes() throws Exception {
+        // Initialize the database outside of the test transaction, as the stream is read in its own transaction
+        estudianteRepository.saveAndFlush(estudiante);
+
+        try {
+            MvcResult mvcResult = restEstudianteMockMvc
+                .perform(get(ENTITY_API_URL + "/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+            restEstudianteMockMvc
+                .perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string(containsString("{\"id\":" + estudiante.getId() + ",")))
+                .andExpect(content().string(endsWith("}\n")));
+        } finally {
+            estudianteRepository.deleteById(estudiante.getId());
+        }
+    }
+
     @Test
     @Transactional
     void getEstudiante() throws Exception {
@@ -176,6 +204,105 @@ class EstudianteResourceIT {
             .andExpect(jsonPath("$.direccion").value(DEFAULT_DIRECCION));
     }
 
+    @Test
+    @Transactional
+    void getEstudiantesByIdFiltering() throws Exception {
+        // Initialize the database
+        estudianteRepository.saveAndFlush(estudiante);
+
+        Long id = estudiante.getId();
+
+        defaultEstudianteShouldBeFound("id.equals=" + id);
+        defaultEstudianteShouldNotBeFound("id.notEquals=" + id);
+
+        defaultEstudianteShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultEstudianteShouldNotBeFound("id.greaterThan=" + id);
+
+        defaultEstudianteShouldBeFound("id.lessThanOrEqual=" + id);
+        defaultEstudianteShouldNotBeFound("id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    void getAllEstudiantesByApellidoContainsSomething() throws Exception {
+        // Initialize the database
+        estudianteRepository.saveAndFlush(estudiante);
+
+        // Get all the estudianteList where apellido contains DEFAULT_APELLIDO
+        defaultEstudianteShouldBeFound("apellido.contains=" + DEFAULT_APELLIDO);
+
+        // Get all the estudianteList where apellido contains UPDATED_APELLIDO
+        defaultEstudianteShouldNotBeFound("apellido.contains=" + UPDATED_APELLIDO);
+    }
+
+    @Test
+    @Transactional
+    void getAllEstudiantesByFechaNacimientoIsGreaterThanSomething() throws Exception {
+        // Initialize the database
+        estudianteRepository.saveAndFlush(estudiante);
+
+        // Get all the estudianteList where fechaNacimiento is greater than DEFAULT_FECHA_NACIMIENTO minus one second
+        defaultEstudianteShouldBeFound("fechaNacimiento.greaterThan=" + DEFAULT_FECHA_NACIMIENTO.minusSeconds(1));
+
+        // Get all the estudianteList where fechaNacimiento is greater than DEFAULT_FECHA_NACIMIENTO
+        defaultEstudianteShouldNotBeFound("fechaNacimiento.greaterThan=" + DEFAULT_FECHA_NACIMIENTO);
+    }
+
+    @Test
+    @Transactional
+    void getAllEstudiantesByCorreoIsEqualToSomething() throws Exception {
+        // Initialize the database
+        estudianteRepository.saveAndFlush(estudiante);
+
+        // Get all the estudianteList where correo equals to DEFAULT_CORREO
+        defaultEstudianteShouldBeFound("correo.equals=" + DEFAULT_CORREO);
+
+        // Get all the estudianteList where correo equals to UPDATED_CORREO
+        defaultEstudianteShouldNotBeFound("correo.equals=" + UPDATED_CORREO);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultEstudianteShouldBeFound(String filter) throws Exception {
+        restEstudianteMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(estudiante.getId().intValue())))
+            .andExpect(jsonPath("$.[*].nombre").value(hasItem(DEFAULT_NOMBRE)))
+            .andExpect(jsonPath("$.[*].apellido").value(hasItem(DEFAULT_APELLIDO)))
+            .andExpect(jsonPath("$.[*].fechaNacimiento").value(hasItem(DEFAULT_FECHA_NACIMIENTO.toString())))
+            .andExpect(jsonPath("$.[*].correo").value(hasItem(DEFAULT_CORREO)))
+            .andExpect(jsonPath("$.[*].direccion").value(hasItem(DEFAULT_DIRECCION)));
+
+        // Check, that the count call also returns 1
+        restEstudianteMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultEstudianteShouldNotBeFound(String filter) throws Exception {
+        restEstudianteMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restEstudianteMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingEstudiante() throws Exception {
@@ -183,6 +310,70 @@ class EstudianteResourceIT {
         restEstudianteMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getExpediente() throws Exception {
+        // Initialize the database
+        em.persist(estudiante);
+        Carrera carrera = CarreraResourceIT.createEntity(em);
+        em.persist(carrera);
+        IngresoEstudiante ingresoEstudiante = IngresoEstudianteResourceIT.createEntity(em).estudiante(estudiante).carrera(carrera);
+        em.persist(ingresoEstudiante);
+        DocumentoIngresoEstudiante documentoIngresoEstudiante = DocumentoIngresoEstudianteResourceIT
+            .createEntity(em)
+            .ingresoEstudiante(ingresoEstudiante);
+        em.persist(documentoIngresoEstudiante);
+        em.flush();
+
+        // Get the expediente
+        restEstudianteMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/expediente", estudiante.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.id").value(estudiante.getId().intValue()))
+            .andExpect(jsonPath("$.nombre").value(DEFAULT_NOMBRE))
+            .andExpect(jsonPath("$.ingreso.id").value(ingresoEstudiante.getId().intValue()))
+            .andExpect(jsonPath("$.ingreso.carreraNombre").value(carrera.getNombre()))
+            .andExpect(jsonPath("$.ingreso.sedeId").doesNotExist())
+            .andExpect(jsonPath("$.ingreso.documento.id").value(documentoIngresoEstudiante.getId().intValue()))
+            .andExpect(jsonPath("$.reingreso").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void getExpedienteIsEvictedOnWrite() throws Exception {
+        // Initialize the database
+        estudianteRepository.saveAndFlush(estudiante);
+
+        // Cache the expediente
+        restEstudianteMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/expediente", estudiante.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.reingreso").doesNotExist());
+
+        // Write an entity of the expediente
+        SolicitudReingreso solicitudReingreso = SolicitudReingresoResourceIT.createEntity(em).estudiante(estudiante);
+        restEstudianteMockMvc
+            .perform(
+                post("/api/solicitud-reingresos")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(solicitudReingreso))
+            )
+            .andExpect(status().isCreated());
+
+        // The expediente is read again
+        restEstudianteMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/expediente", estudiante.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.reingreso.motivo").value(solicitudReingreso.getMotivo()));
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingExpediente() throws Exception {
+        restEstudianteMockMvc.perform(get(ENTITY_API_URL_ID + "/expediente", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
     @Test
     @Transactional
     void putExistingEstudiante() throws Exception {
@@ -423,4 +614,30 @@ class EstudianteResourceIT {
         List<Estudiante> estudianteList = estudianteRepository.findAll();
         assertThat(estudianteList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    @Test
+    void searchEstudiantes() throws Exception {
+        // Initialize the database outside of the test transaction, as entities are indexed on commit
+        estudiante.setNombre("Maximiliano");
+        estudiante.setApellido("Ossa Restrepo");
+        estudianteRepository.saveAndFlush(estudiante);
+
+        try {
+            // Search the estudiante by the beginning of its names
+            restEstudianteMockMvc
+                .perform(get("/api/_search/estudiantes").param("q", "maxim restre"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.[*].id").value(hasItem(estudiante.getId().intValue())))
+                .andExpect(jsonPath("$.[*].apellido").value(hasItem("Ossa Restrepo")));
+
+            // Every word of the query must match
+            restEstudianteMockMvc
+                .perform(get("/api/_search/estudiantes").param("q", "maxim gomez"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+        } finally {
+            estudianteRepository.deleteById(estudiante.getId());
+        }
+    }
 }
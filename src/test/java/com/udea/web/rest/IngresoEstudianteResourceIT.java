@@ -1,11 +1,15 @@
 package com.udea.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.udea.IntegrationTest;
+import com.udea.domain.Estudiante;
 import com.udea.domain.IngresoEstudiante;
 import com.udea.repository.IngresoEstudianteRepository;
 import java.time.Instant;
@@ -18,7 +22,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -116,6 +122,60 @@ class IngresoEstudianteResourceIT {
         assertThat(ingresoEstudianteList).hasSize(databaseSizeBeforeCreate);
     }
 
+    @Test
+    @Transactional
+    void createIngresoEstudiantesInBulk() throws Exception {
+        Estudiante estudiante = EstudianteResourceIT.createEntity(em);
+        em.persist(estudiante);
+        em.flush();
+        int databaseSizeBeforeCreate = ingresoEstudianteRepository.findAll().size();
+
+        IngresoEstudiante withEstudiante = createEntity(em).estudiante(new Estudiante().id(estudiante.getId()));
+        IngresoEstudiante withSameEstudiante = createEntity(em).estudiante(new Estudiante().id(estudiante.getId()));
+        IngresoEstudiante withUnknownEstudiante = createEntity(em).estudiante(new Estudiante().id(Long.MAX_VALUE));
+        IngresoEstudiante withId = createEntity(em).id(count.incrementAndGet());
+
+        restIngresoEstudianteMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/_bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(
+                        TestUtil.convertObjectToJsonBytes(
+                            List.of(ingresoEstudiante, withEstudiante, withSameEstudiante, withUnknownEstudiante, withId)
+                        )
+                    )
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].index").value(contains(0, 1, 2, 3, 4)))
+            .andExpect(jsonPath("$.[*].status").value(contains("CREATED", "CREATED", "REJECTED", "REJECTED", "REJECTED")))
+            .andExpect(jsonPath("$.[2].errorKey").value("estudianteused"))
+            .andExpect(jsonPath("$.[3].errorKey").value("estudiantenotfound"))
+            .andExpect(jsonPath("$.[4].errorKey").value("idexists"));
+
+        // Validate the IngresoEstudiantes in the database
+        List<IngresoEstudiante> ingresoEstudianteList = ingresoEstudianteRepository.findAll();
+        assertThat(ingresoEstudianteList).hasSize(databaseSizeBeforeCreate + 2);
+        assertThat(ingresoEstudianteList).filteredOn(i -> estudiante.equals(i.getEstudiante())).hasSize(1);
+    }
+
+    @Test
+    @Transactional
+    void createIngresoEstudiantesInBulkFromNdjson() throws Exception {
+        int databaseSizeBeforeCreate = ingresoEstudianteRepository.findAll().size();
+
+        String body =
+            new String(TestUtil.convertObjectToJsonBytes(ingresoEstudiante)) +
+            "\n" +
+            new String(TestUtil.convertObjectToJsonBytes(createEntity(em))) +
+            "\n";
+        restIngresoEstudianteMockMvc
+            .perform(post(ENTITY_API_URL + "/_bulk").contentType("application/x-ndjson").content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].status").value(contains("CREATED", "CREATED")));
+
+        assertThat(ingresoEstudianteRepository.findAll()).hasSize(databaseSizeBeforeCreate + 2);
+    }
+
     @Test
     @Transactional
     void getAllIngresoEstudiantes() throws Exception {
@@ -131,6 +191,67 @@ class IngresoEstudianteResourceIT {
             .andExpect(jsonPath("$.[*].fechaIngreso").value(hasItem(DEFAULT_FECHA_INGRESO.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllIngresoEstudiantesSummaries() throws Exception {
+        // Initialize the database
+        Estudiante estudiante = EstudianteResourceIT.createEntity(em);
+        em.persist(estudiante);
+        ingresoEstudianteRepository.saveAndFlush(ingresoEstudiante.estudiante(estudiante));
+
+        // Get all the ingresoEstudiante summaries
+        restIngresoEstudianteMockMvc
+            .perform(get(ENTITY_API_URL + "?view=summary&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(ingresoEstudiante.getId().intValue())))
+            .andExpect(jsonPath("$.[*].fechaIngreso").value(hasItem(DEFAULT_FECHA_INGRESO.toString())))
+            .andExpect(jsonPath("$.[*].estudianteId").value(hasItem(estudiante.getId().intValue())))
+            .andExpect(jsonPath("$.[*].estudianteNombre").value(hasItem(estudiante.getNombre())))
+            .andExpect(jsonPath("$.[*].estudiante").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void getAllIngresoEstudiantesWithCursor() throws Exception {
+        // Initialize the database
+        ingresoEstudianteRepository.saveAndFlush(ingresoEstudiante);
+        IngresoEstudiante other = ingresoEstudianteRepository.saveAndFlush(createEntity(em));
+
+        // Get the first slice, which must link to the next one without counting
+        String next = restIngresoEstudianteMockMvc
+            .perform(get(ENTITY_API_URL + "?after=&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").value(hasSize(1)))
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.LINK);
+
+        // Follow cursors until the last created entity is reached
+        boolean found = false;
+        while (next != null && !found) {
+            String uri = next.substring(next.indexOf('<') + 1, next.indexOf('>'));
+            MockHttpServletResponse response = restIngresoEstudianteMockMvc
+                .perform(get(uri + "&withTotal=true"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Total-Count"))
+                .andReturn()
+                .getResponse();
+            found = response.getContentAsString().contains("\"id\":" + other.getId() + ",");
+            next = response.getHeader(HttpHeaders.LINK);
+        }
+        assertThat(found).isTrue();
+    }
+
+    @Test
+    @Transactional
+    void getAllIngresoEstudiantesWithInvalidCursor() throws Exception {
+        restIngresoEstudianteMockMvc.perform(get(ENTITY_API_URL + "?after=not-a-cursor")).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getIngresoEstudiante() throws Exception {
@@ -1,13 +1,16 @@
 package com.udea.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.udea.IntegrationTest;
 import com.udea.domain.Materia;
+import com.udea.domain.Pensum;
 import com.udea.repository.MateriaRepository;
+import com.udea.service.CurriculumIndexService;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
@@ -18,6 +21,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,6 +48,9 @@ class MateriaResourceIT {
     @Autowired
     private MateriaRepository materiaRepository;
 
+    @Autowired
+    private CurriculumIndexService curriculumIndexService;
+
     @Autowired
     private EntityManager em;
 
@@ -79,6 +86,12 @@ class MateriaResourceIT {
         materia = createEntity(em);
     }
 
+    @AfterTransaction
+    public void rebuildCurriculumIndex() {
+        // Forget the rows rolled back with the test
+        curriculumIndexService.rebuild();
+    }
+
     @Test
     @Transactional
     void createMateria() throws Exception {
@@ -146,6 +159,24 @@ class MateriaResourceIT {
             .andExpect(jsonPath("$.creditos").value(DEFAULT_CREDITOS.intValue()));
     }
 
+    @Test
+    @Transactional
+    void getMateriaPensumIds() throws Exception {
+        // Initialize the database
+        materiaRepository.saveAndFlush(materia);
+        Pensum pensum = PensumResourceIT.createEntity(em).addMaterias(materia);
+        em.persist(pensum);
+        em.flush();
+        curriculumIndexService.rebuild();
+
+        // Get the pensums of the materia
+        restMateriaMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/pensums", materia.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").value(contains(pensum.getId().intValue())));
+    }
+
     @Test
     @Transactional
     void getNonExistingMateria() throws Exception {
@@ -1,16 +1,21 @@
 package com.udea.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.udea.IntegrationTest;
+import com.udea.domain.Materia;
 import com.udea.domain.Pensum;
+import com.udea.repository.MateriaRepository;
 import com.udea.repository.PensumRepository;
+import com.udea.service.CurriculumIndexService;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import javax.persistence.EntityManager;
@@ -24,8 +29,10 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -53,6 +60,12 @@ class PensumResourceIT {
     @Mock
     private PensumRepository pensumRepositoryMock;
 
+    @Autowired
+    private MateriaRepository materiaRepository;
+
+    @Autowired
+    private CurriculumIndexService curriculumIndexService;
+
     @Autowired
     private EntityManager em;
 
@@ -88,6 +101,12 @@ class PensumResourceIT {
         pensum = createEntity(em);
     }
 
+    @AfterTransaction
+    public void rebuildCurriculumIndex() {
+        // Forget the rows rolled back with the test
+        curriculumIndexService.rebuild();
+    }
+
     @Test
     @Transactional
     void createPensum() throws Exception {
@@ -169,6 +188,93 @@ class PensumResourceIT {
             .andExpect(jsonPath("$.numero").value(DEFAULT_NUMERO.intValue()));
     }
 
+    @Test
+    @Transactional
+    void getPensumMateriaIds() throws Exception {
+        // Initialize the database
+        Materia materia = MateriaResourceIT.createEntity(em);
+        em.persist(materia);
+        pensumRepository.saveAndFlush(pensum.addMaterias(materia));
+        curriculumIndexService.rebuild();
+
+        // Get the materias of the pensum
+        restPensumMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/materias", pensum.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").value(contains(materia.getId().intValue())));
+    }
+
+    @Test
+    void putPensumMateriasUpdatesCurriculumIndex() throws Exception {
+        // Committed, so that the index is updated by the requests once their transactions commit
+        Materia kept = materiaRepository.saveAndFlush(MateriaResourceIT.createEntity(em));
+        Materia removed = materiaRepository.saveAndFlush(MateriaResourceIT.createEntity(em));
+        Materia added = materiaRepository.saveAndFlush(MateriaResourceIT.createEntity(em));
+        pensumRepository.saveAndFlush(pensum.addMaterias(kept).addMaterias(removed));
+        curriculumIndexService.rebuild();
+        try {
+            Pensum updatedPensum = new Pensum().id(pensum.getId()).numero(UPDATED_NUMERO).materias(Set.of(kept, added));
+
+            restPensumMockMvc
+                .perform(
+                    put(ENTITY_API_URL_ID, pensum.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TestUtil.convertObjectToJsonBytes(updatedPensum))
+                )
+                .andExpect(status().isOk());
+
+            restPensumMockMvc
+                .perform(get("/api/materias/{id}/pensums", added.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(contains(pensum.getId().intValue())));
+            restPensumMockMvc.perform(get("/api/materias/{id}/pensums", removed.getId())).andExpect(jsonPath("$").isEmpty());
+            restPensumMockMvc
+                .perform(get(ENTITY_API_URL_ID + "/materias", pensum.getId()))
+                .andExpect(jsonPath("$").value(contains(kept.getId().intValue(), added.getId().intValue())));
+
+            restPensumMockMvc.perform(delete(ENTITY_API_URL_ID, pensum.getId())).andExpect(status().isNoContent());
+
+            restPensumMockMvc.perform(get("/api/materias/{id}/pensums", kept.getId())).andExpect(jsonPath("$").isEmpty());
+            restPensumMockMvc.perform(get("/api/materias/{id}/pensums", added.getId())).andExpect(jsonPath("$").isEmpty());
+        } finally {
+            if (pensumRepository.existsById(pensum.getId())) {
+                pensumRepository.deleteById(pensum.getId());
+            }
+            materiaRepository.deleteAllById(List.of(kept.getId(), removed.getId(), added.getId()));
+            curriculumIndexService.rebuild();
+        }
+    }
+
+    @Test
+    @Transactional
+    void getPensumModifiedWithItsMaterias() throws Exception {
+        // Initialize the database
+        Materia materia = MateriaResourceIT.createEntity(em);
+        em.persist(materia);
+        pensumRepository.saveAndFlush(pensum.addMaterias(materia));
+
+        String eTag = restPensumMockMvc
+            .perform(get(ENTITY_API_URL_ID, pensum.getId()))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        restPensumMockMvc
+            .perform(get(ENTITY_API_URL_ID, pensum.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+
+        // Updating a materia changes the representation of the pensum
+        materia.setNombre("CCCCCCCCCC");
+        em.flush();
+
+        restPensumMockMvc
+            .perform(get(ENTITY_API_URL_ID, pensum.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.materias.[*].nombre").value(hasItem("CCCCCCCCCC")));
+    }
+
     @Test
     @Transactional
     void getNonExistingPensum() throws Exception {
@@ -384,4 +384,27 @@ class SolicitudReingresoResourceIT {
         List<SolicitudReingreso> solicitudReingresoList = solicitudReingresoRepository.findAll();
         assertThat(solicitudReingresoList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    @Test
+    void searchSolicitudReingresos() throws Exception {
+        // Initialize the database outside of the test transaction, as entities are indexed on commit
+        solicitudReingreso.setMotivo("Retiro por motivos laborales y económicos");
+        solicitudReingresoRepository.saveAndFlush(solicitudReingreso);
+
+        try {
+            // Search the solicitudReingreso by words of its motivo, ignoring case and accents
+            restSolicitudReingresoMockMvc
+                .perform(get("/api/_search/solicitud-reingresos").param("q", "ECONOMICOS retiro"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.[*].id").value(hasItem(solicitudReingreso.getId().intValue())));
+
+            restSolicitudReingresoMockMvc
+                .perform(get("/api/_search/solicitud-reingresos").param("q", "enfermedad"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+        } finally {
+            solicitudReingresoRepository.deleteById(solicitudReingreso.getId());
+        }
+    }
 }
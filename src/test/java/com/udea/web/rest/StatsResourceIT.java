@@ -0,0 +1,206 @@
+package com.udea.web.rest;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.udea.IntegrationTest;
+import com.udea.domain.Carrera;
+import com.udea.domain.IngresoEstudiante;
+import com.udea.domain.Sede;
+import com.udea.domain.SolicitudReingreso;
+import com.udea.domain.enumeration.Modalidad;
+import com.udea.service.AdmissionRollupService;
+import com.udea.service.IngresoEstudianteService;
+import com.udea.service.IngresoStatsService;
+import com.udea.service.SolicitudReingresoService;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link StatsResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class StatsResourceIT {
+
+    private static final String INGRESOS_API_URL = "/api/stats/ingresos";
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private IngresoStatsService ingresoStatsService;
+
+    @Autowired
+    private AdmissionRollupService admissionRollupService;
+
+    @Autowired
+    private IngresoEstudianteService ingresoEstudianteService;
+
+    @Autowired
+    private SolicitudReingresoService solicitudReingresoService;
+
+    @Autowired
+    private MockMvc restStatsMockMvc;
+
+    private Carrera presencial;
+
+    private Carrera virtual;
+
+    private Sede sede;
+
+    @BeforeEach
+    public void initTest() {
+        presencial = CarreraResourceIT.createEntity(em).modalidad(Modalidad.PRESENCIAL);
+        virtual = CarreraResourceIT.createEntity(em).modalidad(Modalidad.VIRTUAL);
+        sede = SedeResourceIT.createEntity(em);
+    }
+
+    private void persistIngresos() {
+        em.persist(presencial);
+        em.persist(virtual);
+        em.persist(sede);
+        // Carreras and sedes are one-to-one with the ingresoEstudiantes
+        Sede otherSede = SedeResourceIT.createEntity(em);
+        em.persist(otherSede);
+        em.persist(ingreso("2024-03-01T00:00:00Z").carrera(presencial).sede(sede));
+        em.persist(ingreso("2024-09-01T00:00:00Z").carrera(virtual).sede(otherSede));
+        em.flush();
+        ingresoStatsService.rebuild();
+    }
+
+    private IngresoEstudiante ingreso(String fechaIngreso) {
+        return IngresoEstudianteResourceIT.createEntity(em).fechaIngreso(Instant.parse(fechaIngreso));
+    }
+
+    @Test
+    @Transactional
+    void getIngresoStatsByCarreraAndTerm() throws Exception {
+        persistIngresos();
+
+        restStatsMockMvc
+            .perform(get(INGRESOS_API_URL + "?groupBy=carrera,modalidad,term"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$[?(@.carreraId == " + presencial.getId() + ")].modalidad").value(contains("PRESENCIAL")))
+            .andExpect(jsonPath("$[?(@.carreraId == " + presencial.getId() + ")].term").value(contains("2024-1")))
+            .andExpect(jsonPath("$[?(@.carreraId == " + presencial.getId() + ")].count").value(contains(1)))
+            .andExpect(jsonPath("$[?(@.carreraId == " + virtual.getId() + ")].term").value(contains("2024-2")))
+            .andExpect(jsonPath("$[?(@.carreraId == " + virtual.getId() + ")].sedeId").value(empty()));
+    }
+
+    @Test
+    @Transactional
+    void getIngresoStatsInTermRange() throws Exception {
+        persistIngresos();
+
+        restStatsMockMvc
+            .perform(get(INGRESOS_API_URL + "?groupBy=carrera&from=2024-2&to=2024-2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[?(@.carreraId == " + presencial.getId() + ")]").value(empty()))
+            .andExpect(jsonPath("$[?(@.carreraId == " + virtual.getId() + ")].count").value(contains(1)))
+            .andExpect(jsonPath("$[?(@.carreraId == " + virtual.getId() + ")].term").value(empty()));
+    }
+
+    @Test
+    @Transactional
+    void getIngresoStatsInvalidGroupBy() throws Exception {
+        restStatsMockMvc.perform(get(INGRESOS_API_URL + "?groupBy=pensum")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getIngresoStatsInvalidTerm() throws Exception {
+        restStatsMockMvc.perform(get(INGRESOS_API_URL + "?from=2024-3")).andExpect(status().isBadRequest());
+    }
+
+    private void rollUp() {
+        // The job counts with SQL queries
+        em.flush();
+        LocalDate yesterday = LocalDate.now(ZoneOffset.UTC).minusDays(1);
+        admissionRollupService.rollUp(AdmissionRollupService.Series.INGRESO, yesterday);
+        admissionRollupService.rollUp(AdmissionRollupService.Series.REINGRESO, yesterday);
+    }
+
+    @Test
+    @Transactional
+    void getIngresoSeriesByWeek() throws Exception {
+        // Saved through the service, so that the days already rolled up are recorded
+        ingresoEstudianteService.save(ingreso("2024-03-01T10:00:00Z"));
+        ingresoEstudianteService.save(ingreso("2024-03-04T10:00:00Z"));
+        rollUp();
+
+        restStatsMockMvc
+            .perform(get(INGRESOS_API_URL + "/series?granularity=week&from=2024-02-26&to=2024-03-10"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].period").value(contains("2024-W09", "2024-W10")))
+            .andExpect(jsonPath("$.[*].start").value(contains("2024-02-26", "2024-03-04")))
+            .andExpect(jsonPath("$.[*].count").value(contains(1, 1)));
+    }
+
+    @Test
+    @Transactional
+    void getIngresoSeriesAfterChangeOfRolledUpDay() throws Exception {
+        IngresoEstudiante ingresoEstudiante = ingresoEstudianteService.save(ingreso("2024-03-04T10:00:00Z"));
+        rollUp();
+        ingresoEstudianteService.partialUpdate(
+            new IngresoEstudiante().id(ingresoEstudiante.getId()).fechaIngreso(Instant.parse("2024-03-05T10:00:00Z"))
+        );
+        rollUp();
+
+        restStatsMockMvc
+            .perform(get(INGRESOS_API_URL + "/series?from=2024-03-04&to=2024-03-05"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].period").value(contains("2024-03-04", "2024-03-05")))
+            .andExpect(jsonPath("$.[*].count").value(contains(0, 1)));
+    }
+
+    @Test
+    @Transactional
+    void getIngresoSeriesCountsOpenDayFromIngresos() throws Exception {
+        rollUp();
+        ingresoEstudianteService.save(ingreso(Instant.now().toString()));
+        em.flush();
+
+        restStatsMockMvc
+            .perform(get(INGRESOS_API_URL + "/series?granularity=term&from=" + LocalDate.now(ZoneOffset.UTC)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].count").value(greaterThanOrEqualTo(1)));
+    }
+
+    @Test
+    @Transactional
+    void getReingresoSeriesByTerm() throws Exception {
+        solicitudReingresoService.save(SolicitudReingresoResourceIT.createEntity(em).fechaSolicitud(Instant.parse("2023-08-01T10:00:00Z")));
+        rollUp();
+
+        restStatsMockMvc
+            .perform(get("/api/stats/reingresos/series?granularity=term&from=2023-07-01&to=2023-12-31"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].period").value(contains("2023-2")))
+            .andExpect(jsonPath("$.[*].count").value(contains(1)));
+    }
+
+    @Test
+    @Transactional
+    void getIngresoSeriesInvalidRange() throws Exception {
+        restStatsMockMvc.perform(get(INGRESOS_API_URL + "/series?from=2024-03-05&to=2024-03-04")).andExpect(status().isBadRequest());
+        restStatsMockMvc.perform(get(INGRESOS_API_URL + "/series?granularity=month&from=2024-03-04")).andExpect(status().isBadRequest());
+    }
+}
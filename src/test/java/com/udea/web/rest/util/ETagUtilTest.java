@@ -0,0 +1,62 @@
+package com.udea.web.rest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.udea.domain.Sede;
+import com.udea.web.rest.errors.PreconditionFailedAlertException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Unit tests for the {@link ETagUtil} utility class.
+ */
+class ETagUtilTest {
+
+    private static final String ENTITY_NAME = "sede";
+
+    @Test
+    void testEntityTagOfVersion() {
+        assertThat(ETagUtil.entityTag(3L)).isEqualTo("\"3\"");
+    }
+
+    @Test
+    void testEntityTagOfListChangesWithVersionsAndOrder() {
+        Sede first = new Sede().id(1L).version(0L);
+        Sede second = new Sede().id(2L).version(0L);
+        String eTag = ETagUtil.entityTag(List.of(first, second), Sede::getId, Sede::getVersion);
+
+        assertThat(eTag).startsWith("\"").endsWith("\"");
+        assertThat(ETagUtil.entityTag(List.of(first, second), Sede::getId, Sede::getVersion)).isEqualTo(eTag);
+        assertThat(ETagUtil.entityTag(List.of(second, first), Sede::getId, Sede::getVersion)).isNotEqualTo(eTag);
+        second.setVersion(1L);
+        assertThat(ETagUtil.entityTag(List.of(first, second), Sede::getId, Sede::getVersion)).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void testEntityTagOfPageChangesWithTotal() {
+        List<Sede> content = List.of(new Sede().id(1L).version(0L));
+
+        assertThat(ETagUtil.entityTag(new PageImpl<>(content, PageRequest.of(0, 1), 1), Sede::getId, Sede::getVersion))
+            .isNotEqualTo(ETagUtil.entityTag(new PageImpl<>(content, PageRequest.of(0, 1), 2), Sede::getId, Sede::getVersion));
+    }
+
+    @Test
+    void testCheckIfMatch() {
+        assertThatCode(() -> ETagUtil.checkIfMatch(null, "\"1\"", ENTITY_NAME)).doesNotThrowAnyException();
+        assertThatCode(() -> ETagUtil.checkIfMatch("*", "\"1\"", ENTITY_NAME)).doesNotThrowAnyException();
+        assertThatCode(() -> ETagUtil.checkIfMatch("\"0\", \"1\"", "\"1\"", ENTITY_NAME)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void testCheckIfMatchFails() {
+        assertThatThrownBy(() -> ETagUtil.checkIfMatch("\"0\"", "\"1\"", ENTITY_NAME))
+            .isInstanceOf(PreconditionFailedAlertException.class);
+        // Weak entity tags never match
+        assertThatThrownBy(() -> ETagUtil.checkIfMatch("W/\"1\"", "\"1\"", ENTITY_NAME))
+            .isInstanceOf(PreconditionFailedAlertException.class);
+    }
+}